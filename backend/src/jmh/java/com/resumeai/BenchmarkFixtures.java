@@ -0,0 +1,37 @@
+package com.resumeai;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+
+/**
+ * 벤치마크 공통 입력. 초안은 검증 한도인 5000자를 꽉 채웁니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final int MAX_DRAFT_LENGTH = 5000;
+
+    private static final String SENTENCE =
+        "저는 사용자 경험을 개선하기 위해 데이터를 분석하고 팀과 협업하여 서비스 성과를 높인 경험이 있습니다. ";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String koreanText(int length) {
+        StringBuilder text = new StringBuilder(length + SENTENCE.length());
+        while (text.length() < length) {
+            text.append(SENTENCE);
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    public static ResumeGenerationRequest request(int draftLength, int wordLimit) {
+        ResumeGenerationRequest request = new ResumeGenerationRequest();
+        request.setQuestion("지원동기와 입사 후 포부를 구체적인 경험을 바탕으로 기술해 주세요.");
+        request.setDraft(koreanText(draftLength));
+        request.setWordLimit(wordLimit);
+        request.setCompany("삼성전자");
+        request.setPosition("백엔드 개발자");
+        request.setAiModel("gpt-4");
+        return request;
+    }
+}
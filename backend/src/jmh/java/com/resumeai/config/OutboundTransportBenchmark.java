@@ -0,0 +1,159 @@
+package com.resumeai.config;
+
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 HTTPS 스텁 서버로 AI 호출 한 번의 전송 계층 비용을 측정합니다.
+ *
+ * <ul>
+ *   <li>pooled - AIConfig와 같은 연결 풀 설정 (keep-alive 연결 재사용)</li>
+ *   <li>newConnection - 요청마다 TCP 연결과 TLS 핸드셰이크를 새로 수행</li>
+ * </ul>
+ *
+ * 스텁은 지연 없이 고정 응답을 돌려주므로 두 결과의 차이가 곧 연결 수립 비용입니다.
+ * 인증서는 실행 시 JDK keytool로 만든 자체 서명 인증서를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OutboundTransportBenchmark {
+
+    private static final char[] PASSWORD = "changeit".toCharArray();
+    private static final byte[] RESPONSE_BODY = """
+        {"id":"chatcmpl-stub","object":"chat.completion","model":"gpt-4","choices":[{"index":0,\
+        "message":{"role":"assistant","content":"저는 고객의 문제를 끝까지 해결하는 개발자입니다."},\
+        "finish_reason":"stop"}],"usage":{"prompt_tokens":600,"completion_tokens":400,"total_tokens":1000}}\
+        """.getBytes(StandardCharsets.UTF_8);
+    private static final String REQUEST_BODY = """
+        {"model":"gpt-4","temperature":0.5,"max_tokens":1200,"messages":[\
+        {"role":"system","content":"당신은 자기소개서 작성 전문가입니다."},\
+        {"role":"user","content":"자기소개서 문항: 지원동기와 입사 후 포부를 기술해 주세요."}]}\
+        """;
+
+    @Param({"pooled", "newConnection"})
+    private String transport;
+
+    private Path keyStoreDir;
+    private HttpsServer server;
+    private ExecutorService serverExecutor;
+    private CloseableHttpClient httpClient;
+    private RestClient restClient;
+
+    @Setup
+    public void setUp() throws Exception {
+        keyStoreDir = Files.createTempDirectory("stub-tls");
+        Path keyStorePath = generateKeyStore(keyStoreDir.resolve("stub.p12"));
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(keyStorePath)) {
+            keyStore.load(in, PASSWORD);
+        }
+
+        KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, PASSWORD);
+        SSLContext serverContext = SSLContext.getInstance("TLS");
+        serverContext.init(keyManagers.getKeyManagers(), null, null);
+
+        // 헤더와 본문을 따로 쓰는 JDK 서버가 Nagle + 지연 ACK로 40ms씩 멈추지 않도록
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(serverContext));
+        server.setExecutor(serverExecutor);
+        server.createContext("/v1/chat/completions", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                in.readAllBytes();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE_BODY);
+            }
+        });
+        server.start();
+
+        SSLContext clientContext = SSLContexts.custom().loadTrustMaterial(keyStore, null).build();
+        PoolingHttpClientConnectionManager connectionManager = AIConfig.connectionManagerBuilder(new OutboundHttpProperties())
+            .setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create().setSslContext(clientContext).build())
+            .build();
+        var builder = HttpClients.custom().setConnectionManager(connectionManager).disableAutomaticRetries();
+        if ("newConnection".equals(transport)) {
+            builder.setConnectionReuseStrategy((request, response, context) -> false);
+        }
+        httpClient = builder.build();
+
+        restClient = RestClient.builder()
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+            .baseUrl("https://localhost:" + server.getAddress().getPort())
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        try (var files = Files.list(keyStoreDir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(keyStoreDir);
+    }
+
+    @Benchmark
+    public String chatCompletion() {
+        return restClient.post()
+            .uri("/v1/chat/completions")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(REQUEST_BODY)
+            .retrieve()
+            .body(String.class);
+    }
+
+    private static Path generateKeyStore(Path keyStorePath) throws Exception {
+        Path keytool = Path.of(System.getProperty("java.home"), "bin", "keytool");
+        Process process = new ProcessBuilder(keytool.toString(), "-genkeypair",
+            "-alias", "stub", "-keyalg", "EC", "-groupname", "secp256r1",
+            "-dname", "CN=localhost", "-ext", "SAN=dns:localhost", "-validity", "1",
+            "-storetype", "PKCS12", "-keystore", keyStorePath.toString(),
+            "-storepass", new String(PASSWORD))
+            .redirectErrorStream(true)
+            .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("keytool 실패: " + output);
+        }
+        return keyStorePath;
+    }
+}
\ No newline at end of file
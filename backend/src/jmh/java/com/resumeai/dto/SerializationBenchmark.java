@@ -0,0 +1,65 @@
+package com.resumeai.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 5000자 초안 기준으로 요청/응답 DTO의 Jackson 직렬화·역직렬화 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ResumeGenerationRequest request;
+    private ResumeGenerationResponse response;
+    private byte[] requestJson;
+    private byte[] responseJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        request = BenchmarkFixtures.request(BenchmarkFixtures.MAX_DRAFT_LENGTH, 1000);
+        response = ResumeGenerationResponse.success(BenchmarkFixtures.koreanText(1000), List.of(
+            "Spring AI를 사용하여 문장 구조를 더 명확하고 논리적으로 개선했습니다.",
+            "삼성전자와 백엔드 개발자 직군에 맞는 전문 키워드를 추가했습니다.",
+            "1000자 제한에 맞게 내용을 최적화했습니다.",
+            "GPT-4 모델을 사용하여 자연스러운 문체로 개선했습니다.",
+            "구체적인 경험과 성과를 부각시켜 설득력을 높였습니다.",
+            "✅ 목표 범위 달성 - 최종 글자수: 950자 (목표: 900자~1000자)"
+        ));
+        requestJson = objectMapper.writeValueAsBytes(request);
+        responseJson = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public ResumeGenerationRequest deserializeRequest() throws Exception {
+        return objectMapper.readValue(requestJson, ResumeGenerationRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ResumeGenerationResponse deserializeResponse() throws Exception {
+        return objectMapper.readValue(responseJson, ResumeGenerationResponse.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.resumeai.service;
+
+import com.resumeai.BenchmarkFixtures;
+import com.resumeai.config.GenerationProperties;
+import com.resumeai.config.GovernorProperties;
+import com.resumeai.config.OutboundHttpProperties;
+import com.resumeai.config.PromptProperties;
+import com.resumeai.config.ResilienceProperties;
+import com.resumeai.config.TokenBudgetProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.service.metrics.GenerationMetrics;
+import com.resumeai.service.prompt.PromptTemplates;
+import com.resumeai.service.resilience.ProviderResilience;
+import com.resumeai.service.token.TokenBudget;
+import com.resumeai.service.transport.CallTimeouts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 프롬프트 생성과 후처리 경로를 측정합니다.
+ * 외부 호출에 쓰이는 의존성은 사용하지 않으므로 null로 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptBuildingBenchmark {
+
+    private static final int WORD_LIMIT = 1000;
+
+    private OpenAIService openAIService;
+    private LengthFitter lengthFitter;
+    private TokenBudget tokenBudget;
+
+    private ResumeGenerationRequest initialRequest;
+    private ResumeGenerationRequest expandRequest;
+    private ResumeGenerationRequest summarizeRequest;
+    private String response;
+    private String slightlyOverResponse;
+
+    @Setup
+    public void setUp() {
+        GenerationProperties generationProperties = new GenerationProperties();
+        lengthFitter = new LengthFitter(generationProperties);
+        PromptTemplates promptTemplates = new PromptTemplates(new PromptProperties(), new DefaultResourceLoader());
+        tokenBudget = new TokenBudget(new TokenBudgetProperties(), promptTemplates, new SimpleMeterRegistry());
+        openAIService = new OpenAIService(null, null, generationProperties, null, lengthFitter,
+            null, new GovernorProperties(), promptTemplates, tokenBudget,
+            new GenerationMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP),
+            new ProviderResilience(new ResilienceProperties(), new SimpleMeterRegistry()),
+            new CallTimeouts(new OutboundHttpProperties()), null, null);
+
+        initialRequest = BenchmarkFixtures.request(BenchmarkFixtures.MAX_DRAFT_LENGTH, WORD_LIMIT);
+        expandRequest = BenchmarkFixtures.request(WORD_LIMIT / 2, WORD_LIMIT);
+        summarizeRequest = BenchmarkFixtures.request(BenchmarkFixtures.MAX_DRAFT_LENGTH, WORD_LIMIT);
+        response = " " + BenchmarkFixtures.koreanText(950) + "\n";
+        slightlyOverResponse = BenchmarkFixtures.koreanText(1050);
+    }
+
+    @Benchmark
+    public String buildInitialPrompt() {
+        return openAIService.buildPrompt(initialRequest, 1, 1.0);
+    }
+
+    @Benchmark
+    public String buildExpandPrompt() {
+        return openAIService.buildPrompt(expandRequest, 2, 1.0);
+    }
+
+    @Benchmark
+    public String buildSummarizePrompt() {
+        return openAIService.buildPrompt(summarizeRequest, 2, 1.0);
+    }
+
+    @Benchmark
+    public String systemPrompt() {
+        return openAIService.getSystemPrompt();
+    }
+
+    @Benchmark
+    public List<Message> fullPromptMessages() {
+        return openAIService.buildMessages(initialRequest, 1, 1.0);
+    }
+
+    @Benchmark
+    public List<String> generateComments() {
+        return openAIService.generateComments(initialRequest, 1, 950);
+    }
+
+    @Benchmark
+    public boolean characterCountCheck() {
+        int actualWordCount = response.trim().length();
+        return actualWordCount >= (int) (WORD_LIMIT * 0.9) && actualWordCount <= WORD_LIMIT;
+    }
+
+    @Benchmark
+    public Optional<String> localLengthFit() {
+        return lengthFitter.fit(slightlyOverResponse, (int) (WORD_LIMIT * 0.9), WORD_LIMIT);
+    }
+
+    @Benchmark
+    public int maxOutputTokens() {
+        return tokenBudget.maxOutputTokens(initialRequest, WORD_LIMIT);
+    }
+
+    @Benchmark
+    public void promptTokenCheck() {
+        tokenBudget.checkPromptFits(initialRequest);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,220 @@
+package com.resumeai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.ResumeAiApplication;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가짜 LLM 서버를 상대로 /api/generate-resume 에 고정 도착률(open model)로 요청을 보내고
+ * 처리량, p50/p99/p999 지연, 요청당 AI 호출 횟수, 힙 사용량을 보고합니다.
+ *
+ * <p>요청은 응답과 무관하게 정해진 시각에 보내고 지연은 그 예정 시각부터 잽니다.
+ * 서버가 밀려도 보내는 속도가 줄지 않으므로 대기열 지연이 그대로 결과에 드러납니다 (coordinated omission 방지).
+ *
+ * <p>시스템 속성 (Gradle에서는 -Ploadtest.* 로 전달):
+ * <ul>
+ *   <li>loadtest.rates - 초당 요청 수 단계 (기본 2,5,10)</li>
+ *   <li>loadtest.duration - 단계별 요청 송신 시간 (기본 30s), loadtest.warmup - 첫 단계 전 예열 (기본 10s)</li>
+ *   <li>loadtest.fake.* - 가짜 LLM 특성 ({@link FakeLlmServer.Profile#fromSystemProperties()})</li>
+ *   <li>loadtest.app.* - 애플리케이션 설정 덮어쓰기 (예: -Ploadtest.app.resume-ai.governor.enabled=true)</li>
+ * </ul>
+ */
+public class ArrivalRateLoadTest {
+
+    private static final String APP_PROPERTY_PREFIX = "loadtest.app.";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws Exception {
+        List<Double> rates = Arrays.stream(System.getProperty("loadtest.rates", "2,5,10").split(","))
+            .map(String::trim)
+            .map(Double::parseDouble)
+            .toList();
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s"));
+        new ArrivalRateLoadTest().run(rates, duration, warmup);
+        System.exit(0);
+    }
+
+    void run(List<Double> rates, Duration duration, Duration warmup) throws Exception {
+        FakeLlmServer.Profile profile = FakeLlmServer.Profile.fromSystemProperties();
+        try (FakeLlmServer fake = new FakeLlmServer(profile).start();
+             ConfigurableApplicationContext context = startApplication(fake)) {
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI endpoint = URI.create("http://localhost:" + port + "/api/generate-resume");
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build()) {
+
+                if (!warmup.isZero()) {
+                    System.out.printf("예열: 초당 %.1f건 × %ds%n", rates.get(0), warmup.toSeconds());
+                    runStep(client, endpoint, rates.get(0), warmup, fake, meterRegistry);
+                }
+
+                List<StepResult> results = new ArrayList<>();
+                for (double rate : rates) {
+                    StepResult result = runStep(client, endpoint, rate, duration, fake, meterRegistry);
+                    System.out.println(result);
+                    results.add(result);
+                }
+
+                System.out.println();
+                System.out.printf("가짜 LLM: TTFT %dms, 초당 %.0f토큰, 오류 %.1f%%, 429 %.1f%%, 길이 상한 × %.2f ± %.2f%n",
+                    profile.timeToFirstToken().toMillis(), profile.tokensPerSecond(),
+                    profile.errorRate() * 100, profile.throttleRate() * 100, profile.lengthBias(), profile.lengthSpread());
+                results.forEach(System.out::println);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(FakeLlmServer fake) {
+        List<String> properties = new ArrayList<>(List.of(
+            "server.port=0",
+            "spring.ai.openai.base-url=" + fake.baseUrl(),
+            "spring.ai.openai.api-key=fake",
+            "resume-ai.governor.enabled=false",
+            "resume-ai.cache.enabled=false",
+            "resume-ai.scheduler.enabled=false",
+            "logging.level.com.resumeai=WARN"
+        ));
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> name.startsWith(APP_PROPERTY_PREFIX))
+            .forEach(name -> properties.add(name.substring(APP_PROPERTY_PREFIX.length()) + "=" + System.getProperty(name)));
+
+        return new SpringApplicationBuilder(ResumeAiApplication.class)
+            .properties(properties.toArray(String[]::new))
+            .run();
+    }
+
+    private StepResult runStep(HttpClient client, URI endpoint, double rate, Duration duration,
+                               FakeLlmServer fake, MeterRegistry meterRegistry) throws Exception {
+        int total = (int) Math.max(1, Math.round(rate * duration.toNanos() / 1e9));
+        long intervalNanos = (long) (1e9 / rate);
+
+        double attemptsBefore = attemptTotal(meterRegistry);
+        long attemptCountBefore = attemptCount(meterRegistry);
+        long llmCallsBefore = fake.totalRequests();
+
+        System.gc();
+        AtomicLong peakHeap = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(
+            () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+            0, 50, TimeUnit.MILLISECONDS);
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong failures = new AtomicLong();
+        List<CompletableFuture<Void>> calls = new ArrayList<>(total);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long scheduled = started + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(5))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody(i)))
+                .build();
+            calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    latencies.add(System.nanoTime() - scheduled);
+                    if (error != null || response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(10, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - started;
+
+        heapSampler.shutdownNow();
+        System.gc();
+        long retainedHeap = memory.getHeapMemoryUsage().getUsed();
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long attemptCount = attemptCount(meterRegistry) - attemptCountBefore;
+        double attemptsPerRequest = attemptCount == 0 ? 0 : (attemptTotal(meterRegistry) - attemptsBefore) / attemptCount;
+
+        return new StepResult(rate, total, failures.get(),
+            (total - failures.get()) / (elapsedNanos / 1e9),
+            percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 0.999),
+            attemptsPerRequest, (double) (fake.totalRequests() - llmCallsBefore) / total,
+            peakHeap.get() / (1024 * 1024), retainedHeap / (1024 * 1024));
+    }
+
+    private static double attemptTotal(MeterRegistry meterRegistry) {
+        return meterRegistry.find("resume.generation.attempts").summaries().stream()
+            .mapToDouble(DistributionSummary::totalAmount)
+            .sum();
+    }
+
+    private static long attemptCount(MeterRegistry meterRegistry) {
+        return meterRegistry.find("resume.generation.attempts").summaries().stream()
+            .mapToLong(DistributionSummary::count)
+            .sum();
+    }
+
+    private static long percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000;
+    }
+
+    private byte[] requestBody(int index) throws Exception {
+        return objectMapper.writeValueAsBytes(Map.of(
+            "question", "지원동기와 입사 후 포부를 기술해 주세요. #" + index,
+            "draft", "저는 이 회사에 지원하게 된 이유는 성장하고 싶어서입니다.",
+            "wordLimit", 1000,
+            "company", "테스트전자",
+            "position", "백엔드 개발자",
+            "aiModel", "gpt-4"
+        ));
+    }
+
+    private record StepResult(double rate, int requests, long failures, double throughput,
+                              long p50Millis, long p99Millis, long p999Millis,
+                              double attemptsPerRequest, double llmCallsPerRequest,
+                              long peakHeapMb, long retainedHeapMb) {
+
+        @Override
+        public String toString() {
+            return String.format("[%5.1f건/s] 요청 %5d, 실패 %4d, 처리량 %6.2f건/s, p50 %6dms, p99 %6dms, p999 %6dms, "
+                    + "요청당 시도 %.2f (LLM 호출 %.2f), 힙 최대 %dMB / GC 후 %dMB",
+                rate, requests, failures, throughput, p50Millis, p99Millis, p999Millis,
+                attemptsPerRequest, llmCallsPerRequest, peakHeapMb, retainedHeapMb);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.resumeai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.config.GenerationLogProperties;
+import com.resumeai.config.GenerationProperties;
+import com.resumeai.config.GovernorProperties;
+import com.resumeai.config.LengthCalibrationProperties;
+import com.resumeai.config.OutboundHttpProperties;
+import com.resumeai.config.PromptProperties;
+import com.resumeai.config.ResilienceProperties;
+import com.resumeai.config.TokenBudgetProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.LengthFitter;
+import com.resumeai.service.OpenAIService;
+import com.resumeai.service.calibration.LengthCalibration;
+import com.resumeai.service.governor.OutboundGovernor;
+import com.resumeai.service.history.GenerationLog;
+import com.resumeai.service.metrics.GenerationMetrics;
+import com.resumeai.service.prompt.PromptTemplates;
+import com.resumeai.service.resilience.ProviderResilience;
+import com.resumeai.service.token.TokenBudget;
+import com.resumeai.service.transport.CallTimeouts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오류를 주입하는 ChatClient 스텁으로 회로 차단기와 대체 모델 전환(resume-ai.resilience)을 검증합니다.
+ *
+ * <ol>
+ *   <li>정상: gpt-4로 생성</li>
+ *   <li>장애: gpt-4 호출이 지연 후 모두 실패 - 회로가 열린 뒤에는 gpt-4를 호출하지 않고
+ *       gpt-3.5-turbo로 빠르게 대체 생성해야 함</li>
+ *   <li>복구: openDuration이 지나 시험 호출이 성공하면 다시 gpt-4로 생성</li>
+ * </ol>
+ * 스프링 컨텍스트 없이 OpenAIService를 직접 조립하므로 실제 API나 HTTP 서버가 필요 없습니다.
+ */
+public class CircuitBreakerLoadTest {
+
+    private static final String PRIMARY = "gpt-4";
+    private static final String FALLBACK = "gpt-3.5-turbo";
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(3);
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        new CircuitBreakerLoadTest().run(concurrency);
+        System.exit(0);
+    }
+
+    void run(int concurrency) throws Exception {
+        FaultInjectingChatClient chatClient = new FaultInjectingChatClient();
+        OpenAIService openAIService = openAIService(chatClient, new SimpleMeterRegistry());
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            Phase healthy = runPhase("정상", clients, openAIService, chatClient, concurrency);
+
+            chatClient.inject(PRIMARY, new FaultInjectingChatClient.Fault(1.0, 1000));
+            Phase outage = runPhase("장애", clients, openAIService, chatClient, concurrency);
+
+            chatClient.heal(PRIMARY);
+            Thread.sleep(OPEN_DURATION.toMillis());
+            Phase recovered = runPhase("복구", clients, openAIService, chatClient, concurrency);
+
+            // 장애 중 gpt-4 호출은 회로가 열리기 전 최소 호출 수 정도여야 함 (요청마다 3회 재시도하지 않음)
+            if (outage.primaryCalls() > concurrency * 2L) {
+                throw new IllegalStateException("장애 중에도 gpt-4 호출이 계속되었습니다: " + outage.primaryCalls());
+            }
+            if (outage.fallbackCalls() == 0 || recovered.primaryCalls() == 0) {
+                throw new IllegalStateException("대체 모델 전환 또는 복구가 일어나지 않았습니다.");
+            }
+            if (healthy.failures() > 0) {
+                throw new IllegalStateException("정상 구간에서 실패가 발생했습니다.");
+            }
+        }
+    }
+
+    private Phase runPhase(String name, ExecutorService clients, OpenAIService openAIService,
+                           FaultInjectingChatClient chatClient, int concurrency) throws Exception {
+        chatClient.resetCalls();
+        AtomicLong failures = new AtomicLong();
+        long[] latencies = new long[concurrency * 5];
+
+        // 요청을 5번의 파도로 나눠 보내 회로 상태 변화가 다음 파도에 반영되게 함
+        for (int wave = 0; wave < 5; wave++) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int slot = wave * concurrency + i;
+                futures.add(clients.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    ResumeGenerationResponse response = openAIService.generateResume(request(slot));
+                    latencies[slot] = System.nanoTime() - startedAt;
+                    if (response.getError() != null) {
+                        failures.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Arrays.sort(latencies);
+        Phase phase = new Phase(chatClient.calls(PRIMARY), chatClient.calls(FALLBACK), failures.get());
+        System.out.printf("[%s] 요청 %d건, 실패 %d건, %s 호출 %d회, %s 호출 %d회, p50 %dms, p99 %dms%n",
+            name, latencies.length, phase.failures(), PRIMARY, phase.primaryCalls(), FALLBACK, phase.fallbackCalls(),
+            latencies[latencies.length / 2] / 1_000_000, latencies[latencies.length * 99 / 100] / 1_000_000);
+        return phase;
+    }
+
+    private static OpenAIService openAIService(FaultInjectingChatClient chatClient, MeterRegistry meterRegistry) {
+        GenerationProperties generationProperties = new GenerationProperties();
+        PromptTemplates promptTemplates = new PromptTemplates(new PromptProperties(), new DefaultResourceLoader());
+        TokenBudget tokenBudget = new TokenBudget(new TokenBudgetProperties(), promptTemplates, meterRegistry);
+
+        GovernorProperties governorProperties = new GovernorProperties();
+        governorProperties.getDefaults().setRequestsPerSecond(1000);
+        governorProperties.getDefaults().setBurst(1000);
+
+        ResilienceProperties resilienceProperties = new ResilienceProperties();
+        resilienceProperties.getDefaults().setOpenDuration(OPEN_DURATION);
+        // 지연 주입 시간에 맞춘 고정 기준 사용
+        resilienceProperties.getDefaults().setSlowCallBudgetRatio(0);
+        resilienceProperties.getDefaults().setSlowCallDuration(Duration.ofSeconds(5));
+
+        return new OpenAIService(chatClient, chatClient, generationProperties, null, new LengthFitter(generationProperties),
+            new OutboundGovernor(governorProperties, meterRegistry), governorProperties, promptTemplates, tokenBudget,
+            new GenerationMetrics(meterRegistry, ObservationRegistry.NOOP),
+            new ProviderResilience(resilienceProperties, meterRegistry),
+            new CallTimeouts(new OutboundHttpProperties()),
+            new GenerationLog(new GenerationLogProperties(), meterRegistry),
+            new LengthCalibration(new LengthCalibrationProperties(), new ObjectMapper(), meterRegistry));
+    }
+
+    private static ResumeGenerationRequest request(int index) {
+        ResumeGenerationRequest request = new ResumeGenerationRequest();
+        request.setQuestion("지원동기와 입사 후 포부를 기술해 주세요. #" + index);
+        request.setDraft("저는 이 회사에 지원하게 된 이유는 성장하고 싶어서입니다.");
+        request.setWordLimit(500);
+        request.setCompany("테스트전자");
+        request.setPosition("백엔드 개발자");
+        request.setAiModel(PRIMARY);
+        return request;
+    }
+
+    private record Phase(long primaryCalls, long fallbackCalls, long failures) {
+    }
+}
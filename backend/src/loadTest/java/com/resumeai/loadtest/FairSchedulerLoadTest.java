@@ -0,0 +1,139 @@
+package com.resumeai.loadtest;
+
+import com.resumeai.config.SchedulerProperties;
+import com.resumeai.service.scheduling.ClientKey;
+import com.resumeai.service.scheduling.FairScheduler;
+import com.resumeai.service.scheduling.RequestRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청을 쉬지 않고 보내는 클라이언트 하나와 일반 사용자 여럿이 섞였을 때, 일반 사용자의 지연을 비교합니다.
+ *
+ * <ul>
+ *   <li>fifo - 모든 요청이 한 대기열을 공유 (클라이언트 구분 없음)</li>
+ *   <li>fair - 클라이언트별 대기열 + DRR</li>
+ * </ul>
+ *
+ * 생성은 고정 시간 대기로 흉내 내며, fair 모드에서 일반 사용자의 p99가 생성 시간 근처로 유지되어야 합니다.
+ */
+public class FairSchedulerLoadTest {
+
+    private static final int WORKERS = 8;
+    private static final long GENERATION_MILLIS = 200;
+    private static final int ABUSER_THREADS = 200;
+    private static final int USERS = 20;
+    private static final Duration USER_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DURATION = Duration.ofSeconds(20);
+
+    public static void main(String[] args) throws Exception {
+        Result fifo = run(false);
+        Result fair = run(true);
+
+        System.out.println();
+        System.out.printf("작업 슬롯 %d개, 생성 %dms, 과다 요청 클라이언트 동시 %d건, 일반 사용자 %d명 (%d초마다 1건)%n",
+            WORKERS, GENERATION_MILLIS, ABUSER_THREADS, USERS, USER_INTERVAL.toSeconds());
+        System.out.println(fifo);
+        System.out.println(fair);
+
+        if (fair.userP99Millis() > fifo.userP99Millis()) {
+            throw new IllegalStateException("공정 스케줄러가 일반 사용자의 꼬리 지연을 줄이지 못했습니다.");
+        }
+        System.exit(0);
+    }
+
+    private static Result run(boolean fair) throws Exception {
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setWorkers(WORKERS);
+        // fifo 모드는 모든 요청이 한 대기열에 들어가므로 클라이언트별 상한도 풀어 둠
+        properties.getClasses().get(ClientKey.ANONYMOUS_CLASS)
+            .setMaxQueuedPerClient(fair ? 10 : properties.getQueueCapacity());
+        FairScheduler scheduler = new FairScheduler(properties, new SimpleMeterRegistry());
+
+        ClientKey abuser = new ClientKey("ip:10.0.0.1", ClientKey.ANONYMOUS_CLASS);
+        ConcurrentLinkedQueue<Long> userLatencies = new ConcurrentLinkedQueue<>();
+        AtomicLong userRejected = new AtomicLong();
+        AtomicLong abuserServed = new AtomicLong();
+        AtomicLong abuserRejected = new AtomicLong();
+        long end = System.nanoTime() + DURATION.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<java.util.concurrent.Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < ABUSER_THREADS; i++) {
+                tasks.add(executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        try {
+                            scheduler.execute(fair ? abuser : shared(), 1000, FairSchedulerLoadTest::generate);
+                            abuserServed.incrementAndGet();
+                        } catch (RequestRejectedException e) {
+                            abuserRejected.incrementAndGet();
+                            sleep(50);
+                        }
+                    }
+                }));
+            }
+            for (int user = 0; user < USERS; user++) {
+                ClientKey key = new ClientKey("ip:192.168.0." + user, ClientKey.ANONYMOUS_CLASS);
+                long offset = USER_INTERVAL.toMillis() * user / USERS;
+                tasks.add(executor.submit(() -> {
+                    sleep(offset);
+                    while (System.nanoTime() < end) {
+                        long started = System.nanoTime();
+                        executor.submit(() -> {
+                            try {
+                                scheduler.execute(fair ? key : shared(), 1000, FairSchedulerLoadTest::generate);
+                                userLatencies.add(System.nanoTime() - started);
+                            } catch (RequestRejectedException e) {
+                                userRejected.incrementAndGet();
+                            }
+                        });
+                        sleep(USER_INTERVAL.toMillis());
+                    }
+                }));
+            }
+            for (var task : tasks) {
+                task.get(DURATION.toSeconds() + 120, TimeUnit.SECONDS);
+            }
+        }
+
+        long[] sorted = userLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(fair ? "fair" : "fifo", sorted.length, userRejected.get(),
+            sorted[sorted.length / 2] / 1_000_000, sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1_000_000,
+            abuserServed.get(), abuserRejected.get());
+    }
+
+    private static ClientKey shared() {
+        return new ClientKey("shared", ClientKey.ANONYMOUS_CLASS);
+    }
+
+    private static Void generate() {
+        sleep(GENERATION_MILLIS);
+        return null;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(String mode, int userRequests, long userRejected, long userP50Millis, long userP99Millis,
+                          long abuserServed, long abuserRejected) {
+
+        @Override
+        public String toString() {
+            return String.format("[%-4s] 일반 사용자 요청 %d건 (거절 %d), p50 %dms, p99 %dms / 과다 요청 클라이언트 처리 %d건, 거절 %d건",
+                mode, userRequests, userRejected, userP50Millis, userP99Millis, abuserServed, abuserRejected);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,285 @@
+package com.resumeai.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 지연 특성을 흉내 내는 OpenAI 호환 가짜 LLM 서버입니다. 외부 네트워크 없이 부하 테스트에 사용합니다.
+ *
+ * <ul>
+ *   <li>첫 토큰까지의 시간(TTFT) 후 초당 토큰 수만큼 출력 (스트리밍은 SSE 청크, 일반 응답은 다 만든 뒤 한 번에)</li>
+ *   <li>프롬프트의 "N자 이상 M자 이하" 범위를 기준으로, 실제 모델처럼 목표 주변에 흩어진 길이의 한국어 응답</li>
+ *   <li>지정한 비율로 500 오류와 429 응답 주입</li>
+ * </ul>
+ */
+public class FakeLlmServer implements AutoCloseable {
+
+    private static final Pattern LENGTH_RANGE = Pattern.compile("(\\d+)자 이상 (\\d+)자 이하");
+    private static final List<String> SENTENCES = List.of(
+        "저는 사용자 경험을 개선하기 위해 데이터를 분석하고 팀과 협업하여 성과를 만들었습니다. ",
+        "대학 시절 교내 동아리에서 서비스 운영을 맡아 월간 이용자를 두 배로 늘렸습니다. ",
+        "문제의 원인을 끝까지 추적하는 습관 덕분에 장애 대응 시간을 절반으로 줄일 수 있었습니다. ",
+        "고객의 목소리를 직접 듣기 위해 매주 인터뷰를 진행하고 개선 과제를 정리했습니다. ",
+        "입사 후에는 안정적인 시스템을 바탕으로 새로운 가치를 빠르게 전달하는 개발자가 되겠습니다. ",
+        "협업 과정에서 의견이 엇갈릴 때는 근거 자료를 준비해 합리적인 결론을 이끌어냈습니다. ",
+        "작은 개선이라도 꾸준히 쌓으면 큰 변화를 만든다는 것을 인턴 경험을 통해 배웠습니다. ",
+        "귀사의 기술 블로그에서 본 대규모 트래픽 처리 사례는 제가 지원하게 된 가장 큰 계기입니다. "
+    );
+
+    static {
+        // 헤더와 본문을 따로 쓰는 JDK 서버가 Nagle + 지연 ACK로 40ms씩 멈추지 않도록
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Encoding encoding = Encodings.newDefaultEncodingRegistry().getEncoding(EncodingType.CL100K_BASE);
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Profile profile;
+
+    private final AtomicLong totalRequests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong injectedThrottles = new AtomicLong();
+
+    public FakeLlmServer(Profile profile) throws IOException {
+        this.profile = profile;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        this.server.setExecutor(executor);
+        this.server.createContext("/v1/chat/completions", this::handleChatCompletion);
+    }
+
+    public FakeLlmServer start() {
+        server.start();
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void profile(Profile profile) {
+        this.profile = profile;
+    }
+
+    public long totalRequests() {
+        return totalRequests.get();
+    }
+
+    public long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    public long injectedThrottles() {
+        return injectedThrottles.get();
+    }
+
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        Profile current = profile;
+        totalRequests.incrementAndGet();
+        try {
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < current.throttleRate()) {
+                injectedThrottles.incrementAndGet();
+                sendError(exchange, 429, "Rate limit reached", "rate_limit_exceeded");
+                return;
+            }
+            if (roll < current.throttleRate() + current.errorRate()) {
+                injectedErrors.incrementAndGet();
+                sleep(current.timeToFirstToken());
+                sendError(exchange, 500, "The server had an error while processing your request.", "server_error");
+                return;
+            }
+
+            StringBuilder prompt = new StringBuilder();
+            for (JsonNode message : body.path("messages")) {
+                prompt.append(message.path("content").asText()).append('\n');
+            }
+            String model = body.path("model").asText("gpt-4");
+            String content = generateContent(prompt.toString(), current);
+
+            if (body.path("stream").asBoolean(false)) {
+                stream(exchange, model, content, current);
+            } else {
+                sleep(current.timeToFirstToken().plus(current.generationTime(encoding.countTokens(content))));
+                byte[] response = objectMapper.writeValueAsBytes(completion(model, content, encoding.countTokens(content)));
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void stream(HttpExchange exchange, String model, String content, Profile current)
+            throws IOException, InterruptedException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        sleep(current.timeToFirstToken());
+
+        // 토큰 수만큼 글자를 고르게 나눠 보냄 (토큰 단위로 디코딩하면 한글이 UTF-8 중간에서 잘림)
+        int tokens = Math.max(1, encoding.countTokens(content));
+        long nanosPerToken = (long) (1_000_000_000L / current.tokensPerSecond());
+        long next = System.nanoTime();
+        try (OutputStream out = exchange.getResponseBody()) {
+            int start = 0;
+            for (int i = 1; i <= tokens; i++) {
+                int end = (int) ((long) content.length() * i / tokens);
+                if (end < content.length() && Character.isHighSurrogate(content.charAt(end - 1))) {
+                    end++;
+                }
+                if (end > start) {
+                    writeChunk(out, model, Map.of("content", content.substring(start, end)), null);
+                    start = end;
+                }
+                next += nanosPerToken;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    Thread.sleep(Duration.ofNanos(wait));
+                }
+            }
+            writeChunk(out, model, Map.of(), "stop");
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeChunk(OutputStream out, String model, Map<String, Object> delta, String finishReason)
+            throws IOException {
+        Map<String, Object> choice = new HashMap<>();
+        choice.put("index", 0);
+        choice.put("delta", delta);
+        choice.put("finish_reason", finishReason);
+        byte[] json = objectMapper.writeValueAsBytes(Map.of(
+            "id", "chatcmpl-fake",
+            "object", "chat.completion.chunk",
+            "created", System.currentTimeMillis() / 1000,
+            "model", model,
+            "choices", List.of(choice)
+        ));
+        out.write("data: ".getBytes(StandardCharsets.UTF_8));
+        out.write(json);
+        out.write("\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message, String code) throws IOException {
+        byte[] error = objectMapper.writeValueAsBytes(Map.of("error", Map.of(
+            "message", message, "type", status == 429 ? "requests" : "server_error", "code", code)));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if (status == 429) {
+            exchange.getResponseHeaders().add("Retry-After", "1");
+        }
+        exchange.sendResponseHeaders(status, error.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(error);
+        }
+    }
+
+    /**
+     * 요청된 범위의 상한 × lengthBias를 평균으로, 상한 × lengthSpread를 표준편차로 하는 길이의 응답을 만듭니다.
+     */
+    static String generateContent(String prompt, Profile profile) {
+        Matcher matcher = LENGTH_RANGE.matcher(prompt);
+        int max = matcher.find() ? Integer.parseInt(matcher.group(2)) : 1000;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int target = (int) Math.round(max * (profile.lengthBias() + random.nextGaussian() * profile.lengthSpread()));
+        target = Math.max(20, target);
+
+        StringBuilder content = new StringBuilder(target + 64);
+        while (content.length() < target) {
+            content.append(SENTENCES.get(random.nextInt(SENTENCES.size())));
+        }
+        content.setLength(target);
+        return content.toString().stripTrailing();
+    }
+
+    private Map<String, Object> completion(String model, String content, int completionTokens) {
+        return Map.of(
+            "id", "chatcmpl-fake",
+            "object", "chat.completion",
+            "created", System.currentTimeMillis() / 1000,
+            "model", model,
+            "choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop"
+            )),
+            "usage", Map.of(
+                "prompt_tokens", 600,
+                "completion_tokens", completionTokens,
+                "total_tokens", 600 + completionTokens
+            )
+        );
+    }
+
+    private static void sleep(Duration duration) throws InterruptedException {
+        if (!duration.isZero() && !duration.isNegative()) {
+            Thread.sleep(duration);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * 가짜 LLM의 지연·오류·길이 특성.
+     *
+     * @param timeToFirstToken 첫 토큰까지의 시간
+     * @param tokensPerSecond  이후 초당 출력 토큰 수
+     * @param errorRate        500 오류 비율
+     * @param throttleRate     429 응답 비율 (지연 없이 즉시)
+     * @param lengthBias       응답 길이 평균 / 요청 상한 (실제 모델은 상한보다 약간 짧게 쓰는 경향)
+     * @param lengthSpread     응답 길이 표준편차 / 요청 상한
+     */
+    public record Profile(Duration timeToFirstToken, double tokensPerSecond, double errorRate, double throttleRate,
+                          double lengthBias, double lengthSpread) {
+
+        /**
+         * 시스템 속성 loadtest.fake.* 로 덮어쓸 수 있는 기본 프로필 (GPT-4급: TTFT 600ms, 초당 40토큰).
+         */
+        public static Profile fromSystemProperties() {
+            return new Profile(
+                DurationStyle.detectAndParse(System.getProperty("loadtest.fake.ttft", "600ms")),
+                Double.parseDouble(System.getProperty("loadtest.fake.tokens-per-second", "40")),
+                Double.parseDouble(System.getProperty("loadtest.fake.error-rate", "0")),
+                Double.parseDouble(System.getProperty("loadtest.fake.throttle-rate", "0")),
+                Double.parseDouble(System.getProperty("loadtest.fake.length-bias", "0.93")),
+                Double.parseDouble(System.getProperty("loadtest.fake.length-spread", "0.06"))
+            );
+        }
+
+        Duration generationTime(int tokens) {
+            return Duration.ofNanos((long) (tokens * 1_000_000_000L / tokensPerSecond));
+        }
+    }
+}
\ No newline at end of file
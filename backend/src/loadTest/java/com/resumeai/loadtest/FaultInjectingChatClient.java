@@ -0,0 +1,97 @@
+package com.resumeai.loadtest;
+
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.StreamingChatClient;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모델별로 지연과 오류를 주입하는 ChatClient 스텁입니다. HTTP 없이 프로세스 안에서 응답합니다.
+ * 주입한 오류는 Spring AI 오류 처리기와 같은 "500 - {본문}" 형식의 메시지를 가지므로 서버 오류로 분류됩니다.
+ * 스트리밍 호출은 같은 지연·오류를 거친 뒤 응답을 조각으로 나눠 보냅니다 (조기 중단·SSE 경로 검증용).
+ */
+public class FaultInjectingChatClient implements ChatClient, StreamingChatClient {
+
+    private static final Fault HEALTHY = new Fault(0.0, 200);
+    private static final int CHUNK_LENGTH = 20;
+
+    private final Map<String, Fault> faults = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> calls = new ConcurrentHashMap<>();
+
+    public FaultInjectingChatClient inject(String model, Fault fault) {
+        faults.put(model, fault);
+        return this;
+    }
+
+    public void heal(String model) {
+        faults.remove(model);
+    }
+
+    public long calls(String model) {
+        AtomicLong count = calls.get(model);
+        return count == null ? 0 : count.get();
+    }
+
+    public void resetCalls() {
+        calls.clear();
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String model = ((OpenAiChatOptions) prompt.getOptions()).getModel();
+        calls.computeIfAbsent(model, key -> new AtomicLong()).incrementAndGet();
+        Fault fault = faults.getOrDefault(model, HEALTHY);
+
+        try {
+            Thread.sleep(fault.latencyMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("호출 취소", e);
+        }
+        if (ThreadLocalRandom.current().nextDouble() < fault.errorRate()) {
+            throw new RuntimeException("500 - {\"error\":{\"message\":\"injected fault\"}}");
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (Message message : prompt.getInstructions()) {
+            text.append(message.getContent()).append('\n');
+        }
+        return new ChatResponse(List.of(new Generation(StubOpenAiServer.generateContent(text.toString()))));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Mono.fromCallable(() -> call(prompt))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMapIterable(response -> chunks(response.getResult().getOutput().getContent()))
+            .map(chunk -> new ChatResponse(List.of(new Generation(chunk))));
+    }
+
+    private static List<String> chunks(String content) {
+        List<String> chunks = new ArrayList<>();
+        for (int start = 0; start < content.length(); start += CHUNK_LENGTH) {
+            chunks.add(content.substring(start, Math.min(content.length(), start + CHUNK_LENGTH)));
+        }
+        return chunks;
+    }
+
+    /**
+     * @param errorRate     실패시킬 호출 비율 (0~1)
+     * @param latencyMillis 응답 또는 실패까지의 지연
+     */
+    public record Fault(double errorRate, long latencyMillis) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.resumeai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.ResumeAiApplication;
+import com.resumeai.service.history.GenerationLogReader;
+import com.resumeai.service.history.GenerationRecord;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 생성 이력 로그(resume-ai.history)에 기록된 요청을 원래 도착 간격대로 /api/generate-resume 에 다시 보냅니다.
+ * AI 제공자는 가짜 LLM 서버로 대체하므로, 실제 트래픽의 문항·초안 길이·글자수 제한 분포로
+ * 재시도 정책이나 프롬프트 변경의 효과를 비교할 수 있습니다.
+ *
+ * <p>시스템 속성 (Gradle에서는 -Ploadtest.* 로 전달):
+ * <ul>
+ *   <li>loadtest.replay.directory - 생성 이력 로그 디렉터리 (기본 data/generation-log)</li>
+ *   <li>loadtest.replay.speed - 재생 배속 (기본 1.0, 2.0이면 간격을 절반으로)</li>
+ *   <li>loadtest.replay.limit - 보낼 최대 요청 수 (기본 전부)</li>
+ *   <li>loadtest.fake.* - 가짜 LLM 특성 ({@link FakeLlmServer.Profile#fromSystemProperties()})</li>
+ * </ul>
+ */
+public class ReplayLoadTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(System.getProperty("loadtest.replay.directory", "data/generation-log"));
+        double speed = Double.parseDouble(System.getProperty("loadtest.replay.speed", "1.0"));
+        long limit = Long.getLong("loadtest.replay.limit", Long.MAX_VALUE);
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalStateException("생성 이력 로그 디렉터리가 없습니다: " + directory);
+        }
+        new ReplayLoadTest().run(directory, speed, limit);
+        System.exit(0);
+    }
+
+    void run(Path directory, double speed, long limit) throws Exception {
+        try (FakeLlmServer fake = new FakeLlmServer(FakeLlmServer.Profile.fromSystemProperties()).start();
+             ConfigurableApplicationContext context = startApplication(fake);
+             HttpClient client = HttpClient.newBuilder()
+                 .executor(Executors.newVirtualThreadPerTaskExecutor())
+                 .connectTimeout(Duration.ofSeconds(10))
+                 .build();
+             Stream<GenerationRecord> records = GenerationLogReader.read(directory).limit(limit)) {
+
+            URI endpoint = URI.create("http://localhost:"
+                + context.getEnvironment().getProperty("local.server.port") + "/api/generate-resume");
+
+            ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+            AtomicLong failures = new AtomicLong();
+            List<CompletableFuture<Void>> calls = new ArrayList<>();
+            long recordedAttempts = 0;
+            long recordedFailures = 0;
+
+            // 로그는 기록 순서대로 읽히므로 보내면서 다음 레코드를 디코딩 (전체를 메모리에 올리지 않음)
+            long started = System.nanoTime();
+            long firstTimestamp = -1;
+            for (Iterator<GenerationRecord> it = records.iterator(); it.hasNext(); ) {
+                GenerationRecord record = it.next();
+                if (firstTimestamp < 0) {
+                    firstTimestamp = record.timestampMillis();
+                }
+                recordedAttempts += record.attempts().size();
+                if (record.response().getError() != null) {
+                    recordedFailures++;
+                }
+
+                long offsetNanos = (long) (TimeUnit.MILLISECONDS.toNanos(record.timestampMillis() - firstTimestamp) / speed);
+                long scheduled = started + Math.max(0, offsetNanos);
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                HttpRequest request = HttpRequest.newBuilder(endpoint)
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofMinutes(5))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(record.request())))
+                    .build();
+                calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latencies.add(System.nanoTime() - scheduled);
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        return null;
+                    }));
+            }
+            if (calls.isEmpty()) {
+                System.out.println("재생할 생성 이력이 없습니다: " + directory);
+                return;
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(30, TimeUnit.MINUTES);
+            double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            int total = calls.size();
+            System.out.printf("재생 %d건 (%.1f배속, %.1fs), 실패 %d건, p50 %dms, p99 %dms, p999 %dms%n",
+                total, speed, elapsedSeconds, failures.get(),
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 0.999));
+            System.out.printf("요청당 LLM 호출: 기록 %.2f → 재생 %.2f, 실패율: 기록 %.1f%% → 재생 %.1f%%%n",
+                (double) recordedAttempts / total, (double) fake.totalRequests() / total,
+                100.0 * recordedFailures / total, 100.0 * failures.get() / total);
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(FakeLlmServer fake) {
+        return new SpringApplicationBuilder(ResumeAiApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.ai.openai.base-url=" + fake.baseUrl(),
+                "spring.ai.openai.api-key=fake",
+                "resume-ai.governor.enabled=false",
+                "resume-ai.cache.enabled=false",
+                "resume-ai.scheduler.enabled=false",
+                // 재생 중인 로그에 재생 결과가 섞이지 않도록
+                "resume-ai.history.enabled=false",
+                "logging.level.com.resumeai=WARN"
+            )
+            .run();
+    }
+
+    private static long percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000;
+    }
+}
\ No newline at end of file
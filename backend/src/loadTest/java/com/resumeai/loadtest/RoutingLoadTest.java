@@ -0,0 +1,91 @@
+package com.resumeai.loadtest;
+
+import com.resumeai.config.RoutingProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.AIService;
+import com.resumeai.service.routing.AIServiceRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 지연 분포가 다른 가짜 제공자 세 개를 라우터에 연결해, 빠르고 정상인 제공자로 요청이 몰리는지와
+ * 헤지 요청이 꼬리 지연(p99)을 줄이는지 확인합니다. 스프링 컨텍스트 없이 라우터만 직접 구성합니다.
+ */
+public class RoutingLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        RoutingLoadTest test = new RoutingLoadTest();
+        test.run("헤지 끔", requests, false);
+        test.run("헤지 켬", requests, true);
+        System.exit(0);
+    }
+
+    void run(String label, int requests, boolean hedge) throws Exception {
+        List<StubAIService> providers = List.of(
+            new StubAIService("fast", 200, 0.8, 0.02),    // 빠르지만 꼬리가 김
+            new StubAIService("steady", 400, 0.2, 0.01),  // 느리지만 안정적
+            new StubAIService("flaky", 150, 0.3, 0.7)     // 빠르지만 대부분 실패
+        );
+
+        RoutingProperties properties = new RoutingProperties();
+        properties.setMinSamples(5);
+        properties.getHedge().setEnabled(hedge);
+        properties.getHedge().setDelay(Duration.ofMillis(500));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            AIServiceRouter router = new AIServiceRouter(new ArrayList<AIService>(providers), properties,
+                executor, new SimpleMeterRegistry());
+
+            long[] latencies = new long[requests];
+            int[] failures = new int[1];
+            List<CompletableFuture<Void>> calls = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                calls.add(CompletableFuture.runAsync(() -> {
+                    long started = System.nanoTime();
+                    ResumeGenerationResponse response = router.generateResume(request());
+                    latencies[index] = System.nanoTime() - started;
+                    if (response.getError() != null) {
+                        synchronized (failures) {
+                            failures[0]++;
+                        }
+                    }
+                }, executor));
+                // 초반 통계가 쌓이도록 요청 간격을 둠
+                Thread.sleep(10);
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+            Arrays.sort(latencies);
+            Map<String, Long> distribution = new LinkedHashMap<>();
+            providers.forEach(provider -> distribution.put(provider.getProviderName(), provider.calls()));
+
+            System.out.printf("[%s] 요청 %d, 실패 %d, p50 %dms, p99 %dms, 제공자별 호출 %s%n",
+                label, requests, failures[0],
+                latencies[requests / 2] / 1_000_000,
+                latencies[(int) Math.ceil(requests * 0.99) - 1] / 1_000_000,
+                distribution);
+        }
+    }
+
+    private ResumeGenerationRequest request() {
+        ResumeGenerationRequest request = new ResumeGenerationRequest();
+        request.setQuestion("지원동기를 기술해 주세요.");
+        request.setDraft("초안");
+        request.setWordLimit(1000);
+        request.setCompany("테스트전자");
+        request.setPosition("백엔드 개발자");
+        return request;
+    }
+}
@@ -0,0 +1,187 @@
+package com.resumeai.loadtest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빌드 변형별로 애플리케이션 프로세스를 새로 띄워 첫 성공 요청까지의 시간과 그 시점의 RSS를 비교합니다.
+ * 각 프로세스는 로컬 스텁 OpenAI 서버를 바라보므로 실제 API 호출은 없습니다.
+ *
+ * <p>변형 (Gradle의 startupBenchmark 태스크가 시스템 속성으로 경로를 넘김):
+ * <ul>
+ *   <li>jar - bootJar 그대로 실행</li>
+ *   <li>jar+aot - -Paot로 빌드한 bootJar를 -Dspring.aot.enabled=true로 실행</li>
+ *   <li>cds - build/cds 의 풀린 jar + CDS 아카이브 (-Paot면 AOT 클래스 포함)</li>
+ *   <li>native - nativeCompile 결과 바이너리가 있을 때만</li>
+ * </ul>
+ * loadtest.startup.runs 로 변형별 반복 횟수를 정하며(기본 3) 중앙값을 보고합니다.
+ */
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String REQUEST_BODY = """
+        {"question":"지원동기를 기술해 주세요.","draft":"저는 성장하고 싶어서 지원했습니다.","wordLimit":500,\
+        "company":"테스트전자","position":"백엔드 개발자","aiModel":"gpt-3.5-turbo"}""";
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(200))
+        .build();
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("loadtest.startup.runs", 3);
+        new StartupBenchmark().run(variants(), runs);
+        System.exit(0);
+    }
+
+    static List<Variant> variants() {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        boolean aot = Boolean.getBoolean("loadtest.startup.aot");
+        List<Variant> variants = new ArrayList<>();
+
+        String bootJar = System.getProperty("loadtest.startup.jar");
+        if (bootJar != null) {
+            variants.add(new Variant("jar", null, List.of(java, "-jar", bootJar)));
+            if (aot) {
+                variants.add(new Variant("jar+aot", null, List.of(java, "-Dspring.aot.enabled=true", "-jar", bootJar)));
+            }
+        }
+        String cdsDir = System.getProperty("loadtest.startup.cds-dir");
+        if (cdsDir != null && Files.exists(Path.of(cdsDir, "application.jsa"))) {
+            List<String> command = new ArrayList<>(List.of(java, "-XX:SharedArchiveFile=application.jsa"));
+            if (aot) {
+                command.add("-Dspring.aot.enabled=true");
+            }
+            command.addAll(List.of("-jar", "application.jar"));
+            variants.add(new Variant(aot ? "cds+aot" : "cds", Path.of(cdsDir), command));
+        }
+        String nativeImage = System.getProperty("loadtest.startup.native");
+        if (nativeImage != null && Files.isExecutable(Path.of(nativeImage))) {
+            variants.add(new Variant("native", null, List.of(nativeImage)));
+        }
+        if (variants.isEmpty()) {
+            throw new IllegalStateException("측정할 빌드 결과가 없습니다. ./gradlew startupBenchmark 로 실행하세요.");
+        }
+        return variants;
+    }
+
+    void run(List<Variant> variants, int runs) throws Exception {
+        try (StubOpenAiServer stub = new StubOpenAiServer(0).start()) {
+            System.out.printf("%-10s %10s %10s%n", "variant", "first-ok", "rss");
+            for (Variant variant : variants) {
+                long[] startupMillis = new long[runs];
+                long[] rssKilobytes = new long[runs];
+                for (int i = 0; i < runs; i++) {
+                    Sample sample = measure(variant, stub.baseUrl());
+                    startupMillis[i] = sample.startupMillis();
+                    rssKilobytes[i] = sample.rssKilobytes();
+                }
+                System.out.printf("%-10s %8dms %8dMB%n",
+                    variant.name(), median(startupMillis), median(rssKilobytes) / 1024);
+            }
+        }
+    }
+
+    private Sample measure(Variant variant, String stubBaseUrl) throws Exception {
+        int port = freePort();
+        Path workDir = Files.createTempDirectory("resume-ai-startup");
+        List<String> command = new ArrayList<>(variant.command());
+        command.addAll(List.of(
+            "--server.port=" + port,
+            "--spring.ai.openai.base-url=" + stubBaseUrl,
+            "--spring.ai.openai.api-key=stub",
+            "--resume-ai.cache.enabled=false",
+            "--resume-ai.scheduler.enabled=false",
+            "--resume-ai.jobs.directory=" + workDir.resolve("jobs"),
+            "--logging.level.root=WARN"
+        ));
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(workDir.resolve("app.log").toFile())
+            // CDS 아카이브는 덤프할 때와 같은 상대 클래스패스로 실행해야 함
+            .directory((variant.directory() != null ? variant.directory() : workDir).toFile());
+
+        long started = System.nanoTime();
+        Process process = builder.start();
+        try {
+            awaitFirstSuccess(process, URI.create("http://localhost:" + port + "/api/generate-resume"), workDir);
+            long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            return new Sample(startupMillis, rssKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstSuccess(Process process, URI endpoint, Path workDir) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(30))
+            .POST(HttpRequest.BodyPublishers.ofString(REQUEST_BODY, StandardCharsets.UTF_8))
+            .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 기동 중 종료되었습니다. 로그: " + workDir.resolve("app.log"));
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("기동 제한 시간 초과. 로그: " + workDir.resolve("app.log"));
+    }
+
+    /**
+     * /proc/&lt;pid&gt;/status 의 VmRSS (리눅스 전용, 그 밖의 OS에서는 0)
+     */
+    private static long rssKilobytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException e) {
+            // procfs가 없는 환경
+        }
+        return 0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    record Variant(String name, Path directory, List<String> command) {
+    }
+
+    private record Sample(long startupMillis, long rssKilobytes) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.resumeai.loadtest;
+
+import com.resumeai.dto.AIModelType;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.AIService;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 시간 분포와 오류율을 지정할 수 있는 가짜 AI 제공자입니다.
+ * 지연 시간은 중앙값과 분산(sigma)으로 정하는 로그정규 분포를 따릅니다.
+ */
+public class StubAIService implements AIService {
+
+    private final String providerName;
+    private final long medianMillis;
+    private final double sigma;
+    private final double errorRate;
+    private final AtomicLong calls = new AtomicLong();
+
+    public StubAIService(String providerName, long medianMillis, double sigma, double errorRate) {
+        this.providerName = providerName;
+        this.medianMillis = medianMillis;
+        this.sigma = sigma;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public ResumeGenerationResponse generateResume(ResumeGenerationRequest request) {
+        calls.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = (long) (medianMillis * Math.exp(sigma * random.nextGaussian()));
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResumeGenerationResponse.error("취소됨");
+        }
+
+        if (random.nextDouble() < errorRate) {
+            return ResumeGenerationResponse.error(providerName + " 오류");
+        }
+        return ResumeGenerationResponse.success(providerName, List.of());
+    }
+
+    @Override
+    public boolean isModelSupported(AIModelType modelType) {
+        return true;
+    }
+
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+}
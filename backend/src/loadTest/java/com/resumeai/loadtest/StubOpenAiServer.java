@@ -0,0 +1,214 @@
+package com.resumeai.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI Chat Completions API를 흉내 내는 로컬 스텁 서버입니다.
+ * 고정 지연 후 프롬프트가 요구한 글자수 범위 안의 한국어 응답을 돌려주며,
+ * 동시에 처리 중인 요청 수와 최대 동시성을 기록합니다.
+ * 초당 허용 호출 수를 지정하면 이를 넘는 호출에 429를 돌려줍니다.
+ * 스트리밍 요청(stream: true)에는 같은 내용을 SSE 청크 하나로 보냅니다.
+ */
+public class StubOpenAiServer implements AutoCloseable {
+
+    private static final Pattern LENGTH_RANGE = Pattern.compile("(\\d+)자 이상 (\\d+)자 이하");
+    private static final String SENTENCE = "저는 사용자 경험을 개선하기 위해 데이터를 분석하고 팀과 협업하여 성과를 만들었습니다. ";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final long latencyMillis;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong totalRequests = new AtomicLong();
+    private final AtomicLong throttledRequests = new AtomicLong();
+
+    private double rateLimitPerSecond = Double.POSITIVE_INFINITY;
+    private long windowStartMillis = System.currentTimeMillis();
+    private int windowCount;
+
+    public StubOpenAiServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/v1/chat/completions", this::handleChatCompletion);
+    }
+
+    /**
+     * 1초 고정 구간마다 허용할 호출 수를 지정합니다. 넘는 호출은 지연 없이 429로 응답합니다.
+     */
+    public StubOpenAiServer withRateLimit(double requestsPerSecond) {
+        this.rateLimitPerSecond = requestsPerSecond;
+        return this;
+    }
+
+    public StubOpenAiServer start() {
+        server.start();
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public long totalRequests() {
+        return totalRequests.get();
+    }
+
+    public long throttledRequests() {
+        return throttledRequests.get();
+    }
+
+    public void resetStats() {
+        peakInFlight.set(0);
+        totalRequests.set(0);
+        throttledRequests.set(0);
+    }
+
+    private synchronized boolean admit() {
+        long now = System.currentTimeMillis();
+        if (now - windowStartMillis >= 1000) {
+            windowStartMillis = now;
+            windowCount = 0;
+        }
+        return ++windowCount <= rateLimitPerSecond;
+    }
+
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        if (!admit()) {
+            throttledRequests.incrementAndGet();
+            byte[] error = objectMapper.writeValueAsBytes(Map.of("error", Map.of(
+                "message", "Rate limit reached", "type", "requests", "code", "rate_limit_exceeded")));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            exchange.sendResponseHeaders(429, error.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(error);
+            }
+            exchange.close();
+            return;
+        }
+
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        totalRequests.incrementAndGet();
+
+        try {
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            // 시스템 메시지 뒤의 사용자 메시지에 글자수 범위가 있으므로 모든 메시지를 이어서 봄
+            StringBuilder prompt = new StringBuilder();
+            for (JsonNode message : body.path("messages")) {
+                prompt.append(message.path("content").asText()).append('\n');
+            }
+
+            Thread.sleep(latencyMillis);
+
+            String content = generateContent(prompt.toString());
+            if (body.path("stream").asBoolean(false)) {
+                // 생성 경로는 기본적으로 스트리밍으로 호출함 (초과 생성 조기 중단) - 전체 내용을 청크 하나로 보냄
+                exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(chunkEvent(Map.of("content", content), null));
+                    out.write(chunkEvent(Map.of(), "stop"));
+                    out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+                }
+                return;
+            }
+
+            byte[] response = objectMapper.writeValueAsBytes(completion(content));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    /**
+     * 프롬프트가 요구한 글자수 범위의 중간 길이 응답을 만듭니다 (다른 스텁에서도 사용).
+     */
+    static String generateContent(String prompt) {
+        Matcher matcher = LENGTH_RANGE.matcher(prompt);
+        int min = 900;
+        int max = 1000;
+        if (matcher.find()) {
+            min = Integer.parseInt(matcher.group(1));
+            max = Integer.parseInt(matcher.group(2));
+        }
+
+        // 범위의 중간 길이로 응답해 재시도가 발생하지 않게 함
+        int target = (min + max) / 2;
+        StringBuilder content = new StringBuilder(target + SENTENCE.length());
+        while (content.length() < target) {
+            content.append(SENTENCE);
+        }
+        content.setLength(target);
+        return content.toString();
+    }
+
+    private byte[] chunkEvent(Map<String, Object> delta, String finishReason) throws IOException {
+        Map<String, Object> choice = new HashMap<>();
+        choice.put("index", 0);
+        choice.put("delta", delta);
+        choice.put("finish_reason", finishReason);
+        byte[] json = objectMapper.writeValueAsBytes(Map.of(
+            "id", "chatcmpl-stub",
+            "object", "chat.completion.chunk",
+            "created", System.currentTimeMillis() / 1000,
+            "model", "gpt-4",
+            "choices", List.of(choice)
+        ));
+        return ("data: " + new String(json, StandardCharsets.UTF_8) + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Object> completion(String content) {
+        return Map.of(
+            "id", "chatcmpl-stub",
+            "object", "chat.completion",
+            "created", System.currentTimeMillis() / 1000,
+            "model", "gpt-4",
+            "choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop"
+            )),
+            "usage", Map.of(
+                "prompt_tokens", 500,
+                "completion_tokens", content.length(),
+                "total_tokens", 500 + content.length()
+            )
+        );
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
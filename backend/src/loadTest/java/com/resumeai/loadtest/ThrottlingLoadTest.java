@@ -0,0 +1,121 @@
+package com.resumeai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.ResumeAiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 초당 호출 수를 제한하는 스텁 제공자를 상대로 호출 조절기(resume-ai.governor)를 검증합니다.
+ *
+ * <p>조절기가 제공자 한도보다 높은 속도로 설정된 상태에서 시작해, 429를 받으면 속도를 늦추고
+ * 동시 호출을 줄여야 합니다. 결과로 처리량이 제공자 한도에 가깝고, 429 재시도가 요청 수에 비해
+ * 폭증하지 않는지(재시도 폭풍이 없는지) 확인합니다.
+ */
+public class ThrottlingLoadTest {
+
+    private static final double PROVIDER_LIMIT_PER_SECOND = 5;
+    private static final long STUB_LATENCY_MILLIS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        new ThrottlingLoadTest().run(requests);
+        System.exit(0);
+    }
+
+    void run(int requests) throws Exception {
+        try (StubOpenAiServer stub = new StubOpenAiServer(STUB_LATENCY_MILLIS)
+                .withRateLimit(PROVIDER_LIMIT_PER_SECOND)
+                .start()) {
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ResumeAiApplication.class)
+                .properties(
+                    "server.port=0",
+                    "spring.threads.virtual.enabled=true",
+                    "spring.ai.openai.base-url=" + stub.baseUrl(),
+                    "spring.ai.openai.api-key=stub",
+                    "resume-ai.cache.enabled=false",
+                    "resume-ai.scheduler.enabled=false",
+                    // 제공자 한도(5/s)의 4배로 시작해 조절기가 스스로 내려가는지 확인
+                    "resume-ai.governor.defaults.requests-per-second=20",
+                    "resume-ai.governor.defaults.burst=20",
+                    "resume-ai.governor.defaults.initial-concurrency=32",
+                    "resume-ai.governor.throttle-backoff=1s",
+                    "resume-ai.governor.max-throttle-retries=10",
+                    "resume-ai.governor.queue-timeout=5m",
+                    "logging.level.com.resumeai=WARN"
+                )
+                .run();
+
+            try {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                URI endpoint = URI.create("http://localhost:" + port + "/api/generate-resume");
+                AtomicLong failures = new AtomicLong();
+
+                long started = System.nanoTime();
+                try (HttpClient client = HttpClient.newBuilder()
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .build()) {
+
+                    List<CompletableFuture<Void>> calls = new ArrayList<>(requests);
+                    for (int i = 0; i < requests; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofMinutes(10))
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody(i)))
+                            .build();
+                        calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                            .thenAccept(response -> {
+                                if (response.statusCode() != 200) {
+                                    failures.incrementAndGet();
+                                }
+                            }));
+                    }
+                    CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+                }
+                double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+                long successfulCalls = stub.totalRequests();
+                long throttled = stub.throttledRequests();
+                double throughput = successfulCalls / elapsedSeconds;
+
+                System.out.println();
+                System.out.printf("요청: %d, 실패: %d, 소요: %.1fs%n", requests, failures.get(), elapsedSeconds);
+                System.out.printf("제공자 처리 호출: %d, 429 응답: %d (요청당 %.2f회)%n",
+                    successfulCalls, throttled, (double) throttled / requests);
+                System.out.printf("처리량: %.2f/s (제공자 한도 %.0f/s)%n", throughput, PROVIDER_LIMIT_PER_SECOND);
+
+                if (throttled > requests) {
+                    throw new IllegalStateException("429 응답이 요청 수보다 많습니다 - 재시도 폭풍");
+                }
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private byte[] requestBody(int index) throws Exception {
+        return objectMapper.writeValueAsBytes(Map.of(
+            "question", "지원동기와 입사 후 포부를 기술해 주세요. #" + index,
+            "draft", "저는 이 회사에 지원하게 된 이유는 성장하고 싶어서입니다.",
+            "wordLimit", 1000,
+            "company", "테스트전자",
+            "position", "백엔드 개발자",
+            "aiModel", "gpt-4"
+        ));
+    }
+}
@@ -0,0 +1,139 @@
+package com.resumeai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.ResumeAiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드에서 동시에 처리 가능한 LLM 호출 수를 비교합니다.
+ *
+ * <p>스텁 서버가 모든 호출을 고정 지연만큼 붙잡고 있으므로, 스텁이 관측한 최대 동시 요청 수가
+ * 곧 백엔드가 동시에 대기시킬 수 있는 LLM 호출 수입니다. 플랫폼 모드에서는 Tomcat 스레드 풀
+ * 크기({@value #PLATFORM_MAX_THREADS})에서 막히고, 가상 스레드 모드에서는 동시 요청 수만큼 올라가야 합니다.
+ */
+public class VirtualThreadLoadTest {
+
+    private static final int PLATFORM_MAX_THREADS = 50;
+    private static final long STUB_LATENCY_MILLIS = 2000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        new VirtualThreadLoadTest().run(concurrency);
+        System.exit(0);
+    }
+
+    void run(int concurrency) throws Exception {
+        try (StubOpenAiServer stub = new StubOpenAiServer(STUB_LATENCY_MILLIS).start()) {
+            Result platform = runScenario(stub, concurrency, false);
+            Result virtual = runScenario(stub, concurrency, true);
+
+            System.out.println();
+            System.out.printf("동시 요청 수: %d, 스텁 지연: %dms, 플랫폼 스레드 한도: %d%n",
+                concurrency, STUB_LATENCY_MILLIS, PLATFORM_MAX_THREADS);
+            System.out.println(platform);
+            System.out.println(virtual);
+
+            if (virtual.peakInFlight <= PLATFORM_MAX_THREADS) {
+                throw new IllegalStateException("가상 스레드 모드의 동시성이 스레드 풀 한도를 넘지 못했습니다.");
+            }
+        }
+    }
+
+    private Result runScenario(StubOpenAiServer stub, int concurrency, boolean virtualThreads) throws Exception {
+        stub.resetStats();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ResumeAiApplication.class)
+            .properties(
+                "server.port=0",
+                "server.tomcat.threads.max=" + PLATFORM_MAX_THREADS,
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.ai.openai.base-url=" + stub.baseUrl(),
+                "spring.ai.openai.api-key=stub",
+                "resume-ai.governor.enabled=false",
+                "resume-ai.cache.enabled=false",
+                "resume-ai.scheduler.enabled=false",
+                "logging.level.com.resumeai=WARN"
+            )
+            .run();
+
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI endpoint = URI.create("http://localhost:" + port + "/api/generate-resume");
+
+            System.gc();
+            long heapBefore = memory.getHeapMemoryUsage().getUsed();
+            AtomicLong peakHeap = new AtomicLong(heapBefore);
+            AtomicLong failures = new AtomicLong();
+
+            long started = System.nanoTime();
+            try (HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build()) {
+
+                List<CompletableFuture<Void>> calls = new ArrayList<>(concurrency);
+                for (int i = 0; i < concurrency; i++) {
+                    HttpRequest request = HttpRequest.newBuilder(endpoint)
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofMinutes(5))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody(i)))
+                        .build();
+
+                    calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenAccept(response -> {
+                            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        }));
+                }
+                CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+            }
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            return new Result(virtualThreads ? "virtual" : "platform", stub.peakInFlight(), stub.totalRequests(),
+                failures.get(), elapsedMillis, (peakHeap.get() - heapBefore) / (1024 * 1024));
+        } finally {
+            context.close();
+        }
+    }
+
+    private byte[] requestBody(int index) throws Exception {
+        return objectMapper.writeValueAsBytes(Map.of(
+            "question", "지원동기와 입사 후 포부를 기술해 주세요. #" + index,
+            "draft", "저는 이 회사에 지원하게 된 이유는 성장하고 싶어서입니다.",
+            "wordLimit", 1000,
+            "company", "테스트전자",
+            "position", "백엔드 개발자",
+            "aiModel", "gpt-4"
+        ));
+    }
+
+    private record Result(String mode, int peakInFlight, long llmCalls, long failures,
+                          long elapsedMillis, long heapGrowthMb) {
+
+        @Override
+        public String toString() {
+            return String.format("[%-8s] 최대 동시 LLM 호출: %4d, LLM 호출 수: %4d, 실패: %d, 소요: %6dms, 힙 증가: %dMB",
+                mode, peakInFlight, llmCalls, failures, elapsedMillis, heapGrowthMb);
+        }
+    }
+}
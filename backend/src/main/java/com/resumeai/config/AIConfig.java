@@ -1,9 +1,30 @@
 package com.resumeai.config;
 
+import com.resumeai.service.transport.CallTimeouts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.StreamingChatClient;
 import org.springframework.ai.openai.OpenAiChatClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class AIConfig {
@@ -12,4 +33,81 @@ public class AIConfig {
     public ChatClient chatClient(OpenAiChatClient openAiChatClient) {
         return openAiChatClient;
     }
+
+    @Bean
+    public StreamingChatClient streamingChatClient(OpenAiChatClient openAiChatClient) {
+        return openAiChatClient;
+    }
+
+    /**
+     * AI 제공자 호출용 연결 풀. 같은 호스트로 가는 호출이 TCP/TLS 연결을 재사용하므로
+     * 요청마다 핸드셰이크를 반복하지 않습니다.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aiConnectionManager(OutboundHttpProperties properties,
+                                                                  MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = connectionManagerBuilder(properties).build();
+        // httpcomponents.httpclient.pool.* (대기 중 요청 수, 사용 중/유휴 연결 수)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "ai-provider").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiHttpClient(PoolingHttpClientConnectionManager aiConnectionManager,
+                                            OutboundHttpProperties properties) {
+        return HttpClients.custom()
+            .setConnectionManager(aiConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getTimeouts().getDefaults().getMax()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+            // 재시도는 조절기와 회로 차단기가 판단 (전송 계층에서 몰래 다시 보내지 않음)
+            .disableAutomaticRetries()
+            .build();
+    }
+
+    /**
+     * Spring AI가 OpenAiApi를 만들 때 쓰는 RestClient.Builder에 연결 풀 기반 요청 팩토리를 적용합니다.
+     * 응답 대기 시간은 호출마다 {@link CallTimeouts}의 예산을 따르고, 만든 요청은 작업 취소 시 중단할 수 있게 등록합니다.
+     * 요청은 호출한 스레드에서 블로킹하므로 가상 스레드 모드에서도 이 팩토리를 그대로 사용합니다.
+     */
+    @Bean
+    public RestClientCustomizer aiRestClientCustomizer(CloseableHttpClient aiHttpClient, CallTimeouts callTimeouts) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(aiHttpClient) {
+            @Override
+            protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+                ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+                callTimeouts.register(request);
+                return request;
+            }
+        };
+        requestFactory.setHttpContextFactory((method, uri) -> callTimeouts.httpContext());
+        return builder -> builder.requestFactory(requestFactory);
+    }
+
+    static PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder(OutboundHttpProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                .build());
+    }
+
+    /**
+     * 요청 스레드 밖에서 수행하는 AI 호출(병렬 후보 생성 등)에 사용합니다.
+     * 가상 스레드 모드에서는 호출마다 가상 스레드를 사용합니다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService aiCallExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newCachedThreadPool(Thread.ofPlatform().name("ai-call-", 0).daemon().factory());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.batching")
+public class BatchingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 요청을 모아 두는 시간. 첫 요청이 들어온 뒤 이 시간 동안 들어온 요청을 한 번에 보냅니다.
+     */
+    private Duration window = Duration.ofMillis(50);
+
+    private int maxBatchSize = 32;
+
+    /**
+     * 대기열 크기. 가득 차면 enqueue-timeout 동안 기다린 뒤 거절합니다.
+     */
+    private int queueCapacity = 1000;
+
+    private Duration enqueueTimeout = Duration.ofSeconds(2);
+
+    private Duration requestTimeout = Duration.ofMinutes(3);
+
+    /**
+     * 배치 전송 방식 (parallel: 동시 호출 수를 제한한 병렬 전송)
+     */
+    private String backend = "parallel";
+
+    /**
+     * parallel 백엔드의 최대 동시 AI 호출 수
+     */
+    private int maxConcurrency = 16;
+
+    /**
+     * parallel 백엔드가 동시 호출 자리를 기다리는 최대 시간. 넘으면 묶음의 남은 요청을 거절하고 다음 묶음으로 넘어갑니다.
+     */
+    private Duration permitTimeout = Duration.ofSeconds(10);
+}
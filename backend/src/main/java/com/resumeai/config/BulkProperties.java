@@ -0,0 +1,24 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.bulk")
+public class BulkProperties {
+
+    /**
+     * 요청 하나에서 동시에 생성하는 문항 수
+     */
+    private int maxConcurrency = 3;
+
+    /**
+     * 모든 일괄 생성 요청을 합쳐 동시에 생성하는 문항 수
+     */
+    private int globalMaxConcurrency = 12;
+
+    /**
+     * 전체 한도에 걸려 대기할 수 있는 문항 수. 넘으면 해당 문항은 오류 결과로 보냅니다.
+     */
+    private int maxQueued = 200;
+}
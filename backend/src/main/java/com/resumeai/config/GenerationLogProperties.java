@@ -0,0 +1,46 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.history")
+public class GenerationLogProperties {
+
+    /**
+     * 생성 요청·시도 이력·최종 응답을 세그먼트 로그에 남깁니다 (재시도율 분석, 부하 재현용).
+     */
+    private boolean enabled = false;
+
+    private String directory = "data/generation-log";
+
+    /**
+     * 세그먼트 파일 하나의 크기. 가득 차면 새 세그먼트로 넘어갑니다.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * 전체 로그 최대 크기. 넘으면 오래된 세그먼트부터 지웁니다.
+     */
+    private DataSize maxTotalSize = DataSize.ofGigabytes(2);
+
+    private Duration retention = Duration.ofDays(14);
+
+    /**
+     * 기록 대기열 크기. 쓰기가 밀려 가득 차면 요청을 막지 않고 레코드를 버립니다 (resume.history.dropped).
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 매핑된 세그먼트를 디스크에 강제로 쓰는 주기
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 만료 세그먼트 삭제와 작은 세그먼트 병합 주기
+     */
+    private Duration compactionInterval = Duration.ofMinutes(10);
+}
\ No newline at end of file
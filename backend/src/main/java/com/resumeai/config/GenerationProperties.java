@@ -0,0 +1,92 @@
+package com.resumeai.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.generation")
+public class GenerationProperties {
+
+    /**
+     * sequential: 글자수 조건을 만족할 때까지 순차 재시도
+     * speculative: 여러 후보를 동시에 생성하고 조건을 먼저 만족한 결과 사용
+     */
+    private Mode mode = Mode.SEQUENTIAL;
+
+    private int maxRetries = 3;
+
+    private Speculative speculative = new Speculative();
+
+    private LocalFit localFit = new LocalFit();
+
+    private EarlyAbort earlyAbort = new EarlyAbort();
+
+    public enum Mode {
+        SEQUENTIAL,
+        SPECULATIVE
+    }
+
+    @Data
+    public static class Speculative {
+
+        /**
+         * 모든 후보를 기다리는 최대 시간. 초과 시 지금까지 받은 결과 중 가장 가까운 후보로 보정합니다.
+         */
+        private Duration timeout = Duration.ofSeconds(90);
+
+        private List<Candidate> candidates = new ArrayList<>(List.of(
+            new Candidate(0.5F, 1.0),
+            new Candidate(0.7F, 0.95),
+            new Candidate(0.3F, 1.05)
+        ));
+    }
+
+    @Data
+    public static class LocalFit {
+
+        private boolean enabled = true;
+
+        /**
+         * 로컬 보정을 시도할 최대 초과 비율. 이보다 많이 초과하면 LLM 요약 재시도를 사용합니다.
+         */
+        private double maxOvershootRatio = 0.1;
+    }
+
+    @Data
+    public static class EarlyAbort {
+
+        /**
+         * 생성 결과를 스트리밍으로 받으며 누적 글자수를 확인하고, 크게 초과하면 남은 생성을 취소합니다.
+         * 스트리밍 호출은 연결 풀 HTTP 클라이언트를 거치지 않고 제공자 usage도 받지 못하므로 기본값은 꺼져 있습니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 글자수 제한을 이 비율보다 많이 넘으면 중단합니다. 로컬 보정 비율보다 작게 설정해도 로컬 보정 비율이 적용됩니다
+         * (로컬 보정으로 맞출 수 있는 결과는 끝까지 받음).
+         */
+        private double overrunMargin = 0.1;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candidate {
+
+        /**
+         * 생략하면 순차 모드 첫 시도와 같은 0.5를 사용합니다.
+         */
+        private float temperature = 0.5F;
+
+        /**
+         * 프롬프트에 전달하는 목표 글자수 배율 (예: 0.95면 목표 범위를 5% 낮춰 요청)
+         */
+        private double lengthHint = 1.0;
+    }
+}
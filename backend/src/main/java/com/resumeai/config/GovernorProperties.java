@@ -0,0 +1,66 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.governor")
+public class GovernorProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 호출 허가를 기다리는 최대 시간. 초과하면 호출하지 않고 실패 처리합니다.
+     */
+    private Duration queueTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 호출의 응답 대기 예산(모델·글자수별, resume-ai.http.timeouts) 중 이 비율보다 오래 걸린 호출은
+     * 제공자 과부하 신호로 보고 동시 호출 한도를 줄입니다. 0이면 slow-call-threshold를 고정 기준으로 사용합니다.
+     */
+    private double slowCallBudgetRatio = 0.75;
+
+    /**
+     * slow-call-budget-ratio가 0이거나 호출 예산을 알 수 없을 때 쓰는 고정 지연 기준
+     */
+    private Duration slowCallThreshold = Duration.ofSeconds(45);
+
+    /**
+     * 429 응답 시 해당 모델의 호출을 멈추는 시간 (Retry-After 헤더를 알 수 없을 때)
+     */
+    private Duration throttleBackoff = Duration.ofSeconds(2);
+
+    /**
+     * 429로 실패한 호출을 재시도 횟수에 포함하지 않고 다시 대기열에 넣는 최대 횟수
+     */
+    private int maxThrottleRetries = 3;
+
+    private Limits defaults = new Limits();
+
+    /**
+     * 모델별 한도 (키: gpt-4, gpt-3.5-turbo 등 AIModelType의 모델명)
+     */
+    private Map<String, Limits> models = new HashMap<>();
+
+    public Limits limitsFor(String modelName) {
+        return models.getOrDefault(modelName, defaults);
+    }
+
+    @Data
+    public static class Limits {
+
+        private double requestsPerSecond = 5;
+
+        private int burst = 10;
+
+        private int initialConcurrency = 8;
+
+        private int minConcurrency = 1;
+
+        private int maxConcurrency = 64;
+    }
+}
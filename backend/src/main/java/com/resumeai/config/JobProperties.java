@@ -0,0 +1,36 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.jobs")
+public class JobProperties {
+
+    /**
+     * 동시에 생성 작업을 처리하는 워커 수
+     */
+    private int workers = 8;
+
+    /**
+     * 대기 중인 작업 최대 개수. 가득 차면 새 작업을 거절합니다 (503).
+     */
+    private int queueCapacity = 500;
+
+    /**
+     * 작업 저널 디렉터리. 대기·실행 중이던 작업은 재시작 후 다시 실행됩니다.
+     */
+    private String directory = "data/jobs";
+
+    /**
+     * 완료된 작업 결과 보관 기간
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * GET /api/jobs/{id}?wait= 롱 폴링 최대 대기 시간
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+}
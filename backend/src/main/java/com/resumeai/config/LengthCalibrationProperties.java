@@ -0,0 +1,47 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.calibration")
+public class LengthCalibrationProperties {
+
+    /**
+     * 모델이 요청한 글자수보다 길게/짧게 쓰는 경향을 관측해 첫 시도 프롬프트의 목표 글자수와 max_tokens를 보정합니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 글자수 제한 구간 상한 (오름차순). 마지막 상한보다 큰 제한은 하나의 구간으로 묶입니다.
+     */
+    private List<Integer> buckets = new ArrayList<>(List.of(300, 500, 800, 1200, 2000));
+
+    /**
+     * 보정을 적용하기 시작하는 최소 관측 수
+     */
+    private int minSamples = 20;
+
+    /**
+     * 관측값 반영 가중치 (지수 이동 평균). 표본이 1/weight개가 될 때까지는 단순 평균입니다.
+     */
+    private double weight = 0.05;
+
+    /**
+     * 목표 글자수에 곱하는 보정 계수의 하한/상한
+     */
+    private double minFactor = 0.75;
+
+    private double maxFactor = 1.25;
+
+    /**
+     * 보정 상태 파일. 재시작 후에도 이어서 사용합니다.
+     */
+    private String file = "data/length-calibration.json";
+
+    private Duration saveInterval = Duration.ofMinutes(1);
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.resumeai.config;
+
+import com.resumeai.dto.BulkGenerationResult;
+import com.resumeai.dto.JobResponse;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.dto.ResumeStreamEvent;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.util.ClassUtils;
+
+/**
+ * AOT/네이티브 이미지 빌드에서 정적 분석으로 찾을 수 없는 리플렉션·리소스 사용을 등록합니다.
+ * 컨트롤러 요청/응답 타입은 Spring AOT가 직접 등록하므로 그 밖에서 Jackson으로 다루는 타입만 나열합니다.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // 작업 저널, 디스크 캐시, 글자수 보정 상태, SSE 이벤트 (Lombok 접근자는 컴파일 시 생성되므로 일반 빈 프로퍼티로 등록됨)
+        bindingHints.registerReflectionHints(hints.reflection(),
+            ResumeGenerationRequest.class, ResumeGenerationResponse.class, JobResponse.class,
+            BulkGenerationResult.class, ResumeStreamEvent.class,
+            ClassUtils.resolveClassName("com.resumeai.service.job.GenerationJob", classLoader),
+            ClassUtils.resolveClassName("com.resumeai.service.calibration.LengthCalibration$Entry", classLoader));
+
+        // Spring AI 0.8.1은 네이티브 힌트를 제공하지 않음 - OpenAI 요청/응답 레코드와 호출 옵션
+        for (Class<?> apiType : OpenAiApi.class.getDeclaredClasses()) {
+            bindingHints.registerReflectionHints(hints.reflection(), apiType);
+        }
+        bindingHints.registerReflectionHints(hints.reflection(), OpenAiChatOptions.class);
+
+        // 프롬프트 템플릿과 토크나이저 어휘 파일
+        hints.resources().registerPattern("prompts/*/*.txt");
+        hints.resources().registerPattern("com/knuddels/jtokkit/*.tiktoken");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.resumeai.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.http")
+public class OutboundHttpProperties {
+
+    private int maxConnections = 200;
+
+    /**
+     * 모든 호출이 같은 제공자 호스트로 가므로 사실상 동시 연결 상한입니다.
+     */
+    private int maxConnectionsPerRoute = 100;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 풀에서 연결을 빌리기까지 기다리는 최대 시간
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 이 시간 동안 쓰지 않은 연결은 닫습니다 (제공자 쪽 keep-alive 종료보다 짧게).
+     */
+    private Duration idleTimeout = Duration.ofSeconds(50);
+
+    /**
+     * 연결 최대 수명. DNS 변경이나 로드밸런서 재배치를 반영하기 위해 주기적으로 새로 연결합니다.
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    /**
+     * 이보다 오래 쉬었던 연결은 빌려줄 때 살아 있는지 확인합니다.
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    private Timeouts timeouts = new Timeouts();
+
+    @Data
+    public static class Timeouts {
+
+        private Budget defaults = new Budget(Duration.ofSeconds(15), Duration.ofSeconds(45), Duration.ofSeconds(120));
+
+        /**
+         * 모델별 응답 대기 예산 (키: gpt-4, gpt-3.5-turbo 등 AIModelType의 모델명)
+         */
+        private Map<String, Budget> models = new HashMap<>();
+
+        public Budget budgetFor(String modelName) {
+            return models.getOrDefault(modelName, defaults);
+        }
+
+        /**
+         * 모든 모델 중 가장 긴 응답 대기 시간 상한
+         */
+        public Duration maxBudget() {
+            Duration longest = defaults.getMax();
+            for (Budget budget : models.values()) {
+                if (budget.getMax().compareTo(longest) > 0) {
+                    longest = budget.getMax();
+                }
+            }
+            return longest;
+        }
+    }
+
+    /**
+     * 응답 대기 시간 = base + perThousandChars × (글자수 제한 / 1000), 최대 max
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+
+        private Duration base;
+
+        private Duration perThousandChars;
+
+        private Duration max;
+    }
+}
\ No newline at end of file
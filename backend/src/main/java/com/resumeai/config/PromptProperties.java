@@ -0,0 +1,26 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.prompts")
+public class PromptProperties {
+
+    /**
+     * 템플릿 위치. 재배포 없이 프롬프트를 바꾸려면 file: 경로를 지정합니다.
+     */
+    private String location = "classpath:prompts/";
+
+    /**
+     * 템플릿 버전 디렉터리 (location 하위)
+     */
+    private String version = "v1";
+
+    /**
+     * 템플릿 파일 변경 확인 주기. 0이면 시작 시 한 번만 읽습니다.
+     */
+    private Duration reloadInterval = Duration.ZERO;
+}
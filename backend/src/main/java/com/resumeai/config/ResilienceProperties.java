@@ -0,0 +1,80 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.resilience")
+public class ResilienceProperties {
+
+    private boolean enabled = true;
+
+    private Policy defaults = new Policy();
+
+    /**
+     * 모델별 설정 (키: gpt-4, gpt-3.5-turbo 등 AIModelType의 모델명)
+     */
+    private Map<String, Policy> models = new HashMap<>();
+
+    /**
+     * 회로가 열린 모델 대신 사용할 모델 (키와 값 모두 AIModelType의 모델명)
+     */
+    private Map<String, String> fallbacks = new HashMap<>(Map.of("gpt-4", "gpt-3.5-turbo"));
+
+    public Policy policyFor(String modelName) {
+        return models.getOrDefault(modelName, defaults);
+    }
+
+    @Data
+    public static class Policy {
+
+        /**
+         * 오류율과 지연 호출 비율을 계산할 최근 호출 수
+         */
+        private int windowSize = 20;
+
+        /**
+         * 이만큼 호출이 쌓이기 전에는 회로를 열지 않습니다.
+         */
+        private int minimumCalls = 10;
+
+        private double failureRateThreshold = 0.5;
+
+        private double slowCallRateThreshold = 0.8;
+
+        /**
+         * 호출의 응답 대기 예산(모델·글자수별, resume-ai.http.timeouts) 중 이 비율보다 오래 걸린 호출은 지연 호출로 봅니다.
+         * 0이면 slow-call-duration을 고정 기준으로 사용합니다.
+         */
+        private double slowCallBudgetRatio = 0.75;
+
+        /**
+         * slow-call-budget-ratio가 0일 때 쓰는 고정 지연 기준
+         */
+        private Duration slowCallDuration = Duration.ofSeconds(30);
+
+        /**
+         * 회로가 열린 뒤 시험 호출을 허용하기까지 기다리는 시간
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * 반열림 상태에서 허용할 시험 호출 수. 모두 성공하면 회로를 닫습니다.
+         */
+        private int halfOpenCalls = 3;
+
+        /**
+         * 벌크헤드: 모델 하나가 동시에 진행할 수 있는 최대 호출 수 (호출 조절기 대기 중인 호출은 제외)
+         */
+        private int maxConcurrentCalls = 32;
+
+        /**
+         * 벌크헤드 자리를 기다리는 최대 시간. 0이면 기다리지 않고 바로 실패합니다.
+         */
+        private Duration maxWait = Duration.ZERO;
+    }
+}
@@ -0,0 +1,57 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    private Duration ttl = Duration.ofHours(1);
+
+    private Disk disk = new Disk();
+
+    private Semantic semantic = new Semantic();
+
+    @Data
+    public static class Disk {
+
+        /**
+         * 재시작 후에도 캐시를 유지하려면 활성화합니다.
+         */
+        private boolean enabled = false;
+
+        private String directory = "data/response-cache";
+    }
+
+    @Data
+    public static class Semantic {
+
+        /**
+         * 공백·문장부호·회사명 표기만 다른 요청에 이전 결과를 재사용합니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 재사용할 최소 유사도 (0~1). 공백·문장부호 차이는 1.0, 초안의 한 문장이 바뀌면 0.95 안팎입니다.
+         */
+        private double threshold = 0.99;
+
+        private int maximumSize = 5_000;
+
+        private Duration ttl = Duration.ofHours(6);
+
+        /**
+         * HNSW 노드당 이웃 수와 검색 후보 수
+         */
+        private int maxLinks = 16;
+
+        private int efSearch = 16;
+    }
+}
\ No newline at end of file
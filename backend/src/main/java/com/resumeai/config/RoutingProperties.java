@@ -0,0 +1,49 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.routing")
+public class RoutingProperties {
+
+    /**
+     * 지연 시간·오류율을 계산하는 최근 구간
+     */
+    private Duration window = Duration.ofMinutes(5);
+
+    /**
+     * 제공자별로 보관하는 최근 호출 수
+     */
+    private int windowSize = 200;
+
+    /**
+     * 이 횟수보다 적게 관측된 제공자는 통계와 관계없이 정상으로 보되, 충분히 관측된 정상 제공자 뒤에 둡니다.
+     */
+    private int minSamples = 5;
+
+    /**
+     * 표본이 부족한 제공자를 먼저 시도하는 요청 비율 (통계 갱신용)
+     */
+    private double probeRate = 0.05;
+
+    /**
+     * 오류율이 이 값을 넘으면 비정상 제공자로 보고 후순위로 돌립니다.
+     */
+    private double maxErrorRate = 0.5;
+
+    private Hedge hedge = new Hedge();
+
+    @Data
+    public static class Hedge {
+
+        private boolean enabled = false;
+
+        /**
+         * 첫 호출이 이 시간 안에 끝나지 않으면 다음 제공자(없으면 같은 제공자)로 중복 요청을 보냅니다.
+         */
+        private Duration delay = Duration.ofSeconds(20);
+    }
+}
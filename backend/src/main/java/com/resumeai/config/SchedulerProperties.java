@@ -0,0 +1,76 @@
+package com.resumeai.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.scheduler")
+public class SchedulerProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 동시에 생성할 수 있는 요청 수. 제공자 처리량 근처로 잡아야 대기가 이 스케줄러에서 일어나 공정하게 나뉩니다.
+     */
+    private int workers = 32;
+
+    /**
+     * 전체 대기 요청 수 상한. 넘으면 503으로 거절합니다.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 한 요청의 비용 단위가 되는 글자수. 비용 = max(1, 글자수 제한 / costUnitChars)
+     */
+    private int costUnitChars = 1000;
+
+    /**
+     * api-key 등급으로 구분할 API 키 목록. 여기 없는 키를 보낸 요청은 IP로 구분합니다 (anonymous).
+     */
+    private Set<String> apiKeys = new HashSet<>();
+
+    /**
+     * 클라이언트 등급별 설정 (api-key: 등록된 API 키를 보낸 클라이언트, anonymous: IP로 구분하는 클라이언트)
+     */
+    private Map<String, ClientClass> classes = new HashMap<>(Map.of(
+        "api-key", new ClientClass(4, 50, Duration.ofSeconds(60)),
+        "anonymous", new ClientClass(1, 10, Duration.ofSeconds(30))
+    ));
+
+    public ClientClass classFor(String name) {
+        ClientClass clientClass = classes.get(name);
+        if (clientClass == null) {
+            throw new IllegalStateException("스케줄러 클라이언트 등급 설정이 없습니다: " + name);
+        }
+        return clientClass;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClientClass {
+
+        /**
+         * 대기열이 밀렸을 때 한 바퀴에 받는 몫 (비용 단위). 다른 클라이언트 대비 처리량 비율이 됩니다.
+         */
+        private int weight = 1;
+
+        /**
+         * 클라이언트 하나가 쌓아 둘 수 있는 대기 요청 수. 넘으면 429로 거절합니다.
+         */
+        private int maxQueuedPerClient = 10;
+
+        /**
+         * 대기 기한. 이 시간 안에 차례가 오지 않은 요청은 처리하지 않고 버립니다 (503).
+         */
+        private Duration maxWait = Duration.ofSeconds(30);
+    }
+}
\ No newline at end of file
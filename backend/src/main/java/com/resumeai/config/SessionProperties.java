@@ -0,0 +1,28 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.sessions")
+public class SessionProperties {
+
+    /**
+     * sessionId가 있는 요청에서 바뀐 문단만 다시 생성합니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 마지막 요청 이후 세션 유지 시간
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+
+    private long maximumSize = 10_000;
+
+    /**
+     * 바뀐 분량(글자 기준)이 이 비율을 넘으면 전체를 다시 생성합니다.
+     */
+    private double maxChangedRatio = 0.5;
+}
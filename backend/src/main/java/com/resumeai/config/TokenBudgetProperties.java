@@ -0,0 +1,52 @@
+package com.resumeai.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "resume-ai.tokens")
+public class TokenBudgetProperties {
+
+    /**
+     * 비활성화하면 기존처럼 max-output-tokens를 고정으로 사용하고 프롬프트 길이 검사를 하지 않습니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 목표 최대 글자수를 토큰으로 환산한 값에 더하는 여유 비율
+     */
+    private double headroom = 0.25;
+
+    private int minOutputTokens = 256;
+
+    private int maxOutputTokens = 3000;
+
+    /**
+     * 보정 데이터와 초안이 모두 없을 때 쓰는 글자당 토큰 수
+     */
+    private double defaultTokensPerChar = 1.0;
+
+    /**
+     * 관측한 응답 비율을 사용하기 시작하는 최소 표본 수. 그 전에는 초안의 비율을 사용합니다.
+     */
+    private int calibrationMinSamples = 5;
+
+    /**
+     * 관측값 반영 가중치 (지수 이동 평균)
+     */
+    private double calibrationWeight = 0.1;
+
+    private int defaultContextWindow = 8192;
+
+    /**
+     * 요청 모델(aiModel)별 컨텍스트 윈도 크기 (프롬프트 + 응답 토큰)
+     */
+    private Map<String, Integer> contextWindows = new LinkedHashMap<>(Map.of(
+        "gpt-4", 8192,
+        "gpt-3.5-turbo", 16385,
+        "gpt-4-turbo", 128000
+    ));
+}
@@ -0,0 +1,37 @@
+package com.resumeai.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 비동기 응답(SSE 스트리밍 등)의 타임아웃을 AI 호출 한 번의 최악 소요 시간에서 정합니다.
+ *
+ * <p>스트리밍 생성은 호출 조절기 허가를 최대 {@code governor.queue-timeout}까지 기다린 뒤, 모델·글자수별 응답 대기 예산
+ * ({@code http.timeouts}, 최대 {@code max}) 안에 끝납니다. 고정 값으로 두면 예산을 늘릴 때 긴 스트림이
+ * {@code error} 이벤트 없이 끊기므로 두 설정의 합에 여유 시간을 더해 씁니다.
+ */
+@Slf4j
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    // 완료 후 코멘트 생성과 이벤트 전송 여유
+    private static final Duration MARGIN = Duration.ofSeconds(10);
+
+    private final Duration asyncTimeout;
+
+    public WebAsyncConfig(GovernorProperties governorProperties, OutboundHttpProperties httpProperties) {
+        this.asyncTimeout = governorProperties.getQueueTimeout()
+            .plus(httpProperties.getTimeouts().maxBudget())
+            .plus(MARGIN);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        log.info("비동기 응답 타임아웃: {}초", asyncTimeout.toSeconds());
+        configurer.setDefaultTimeout(asyncTimeout.toMillis());
+    }
+}
\ No newline at end of file
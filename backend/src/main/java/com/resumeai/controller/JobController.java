@@ -0,0 +1,71 @@
+package com.resumeai.controller;
+
+import com.resumeai.dto.JobResponse;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.service.job.JobService;
+import com.resumeai.service.scheduling.FairScheduler;
+import com.resumeai.service.token.TokenBudget;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 자소서 생성을 비동기 작업으로 접수하고 결과를 조회합니다.
+ * 클라이언트 연결이 끊기거나 프록시 타임아웃이 나도 작업은 계속 진행됩니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "https://your-frontend-domain.com"})
+public class JobController {
+
+    private final JobService jobService;
+    private final TokenBudget tokenBudget;
+    private final FairScheduler fairScheduler;
+
+    /**
+     * 작업은 실행 차례가 되면 요청한 클라이언트 몫으로 공정 스케줄러의 차례를 받습니다.
+     */
+    @PostMapping
+    public ResponseEntity<JobResponse> submit(@Valid @RequestBody ResumeGenerationRequest request,
+                                              HttpServletRequest httpRequest) {
+        log.info("자소서 생성 작업 API 호출 - 회사: {}, 직군: {}",
+            request.getCompany(), request.getPosition());
+
+        tokenBudget.checkPromptFits(request);
+
+        JobResponse job = jobService.submit(request, fairScheduler.clientKey(httpRequest));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .location(URI.create("/api/jobs/" + job.getId()))
+            .body(job);
+    }
+
+    /**
+     * wait(초)를 주면 작업이 끝날 때까지 최대 그 시간만큼 기다렸다가 응답합니다 (롱 폴링).
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<JobResponse>> get(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "0") long wait) {
+
+        return jobService.get(id, Duration.ofSeconds(Math.max(0, wait)))
+            .thenApply(job -> job.map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<JobResponse> cancel(@PathVariable String id) {
+        return jobService.cancel(id)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,13 +1,25 @@
 package com.resumeai.controller;
 
+import com.resumeai.dto.BulkGenerationRequest;
 import com.resumeai.dto.ResumeGenerationRequest;
 import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.dto.ResumeStreamEvent;
 import com.resumeai.service.ResumeService;
+import com.resumeai.service.bulk.BulkGenerationService;
+import com.resumeai.service.scheduling.FairScheduler;
+import com.resumeai.service.scheduling.RequestRejectedException;
+import com.resumeai.service.token.TokenBudget;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -17,16 +29,24 @@ import org.springframework.web.bind.annotation.*;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final TokenBudget tokenBudget;
+    private final BulkGenerationService bulkGenerationService;
+    private final FairScheduler fairScheduler;
 
     @PostMapping("/generate-resume")
     public ResponseEntity<ResumeGenerationResponse> generateResume(
-            @Valid @RequestBody ResumeGenerationRequest request) {
+            @Valid @RequestBody ResumeGenerationRequest request, HttpServletRequest httpRequest) {
 
         log.info("자소서 생성 API 호출 - 회사: {}, 직군: {}",
             request.getCompany(), request.getPosition());
 
+        // 컨텍스트 윈도를 넘는 요청은 AI 호출 전에 400으로 거절
+        tokenBudget.checkPromptFits(request);
+
         try {
-            ResumeGenerationResponse response = resumeService.generateResume(request);
+            // 클라이언트(API 키/IP)별 대기열에서 공정하게 차례를 받아 생성
+            ResumeGenerationResponse response = fairScheduler.execute(fairScheduler.clientKey(httpRequest),
+                request.getWordLimit(), () -> resumeService.generateResume(request));
 
             if (response.getError() != null) {
                 log.error("자소서 생성 실패: {}", response.getError());
@@ -35,6 +55,9 @@ public class ResumeController {
 
             return ResponseEntity.ok(response);
 
+        } catch (RequestRejectedException e) {
+            // 429/503 응답은 GlobalExceptionHandler에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("자소서 생성 API 처리 중 오류: ", e);
             return ResponseEntity.status(500).body(
@@ -43,8 +66,57 @@ public class ResumeController {
         }
     }
 
+    /**
+     * 토큰 단위로 생성 결과를 Server-Sent Events로 전송합니다.
+     * 이벤트 타입: token(생성 토큰), length(누적 글자수), comments(최종 코멘트), error(오류)
+     * 단건 생성과 같은 대기열에서 차례를 받으며, 작업 슬롯은 스트림이 끝나거나 연결이 끊길 때 반납합니다.
+     */
+    @PostMapping(value = "/generate-resume/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamResume(
+            @Valid @RequestBody ResumeGenerationRequest request, HttpServletRequest httpRequest) {
+
+        log.info("자소서 스트리밍 API 호출 - 회사: {}, 직군: {}",
+            request.getCompany(), request.getPosition());
+
+        tokenBudget.checkPromptFits(request);
+
+        // 거절(429/503)은 스트림을 열기 전에 GlobalExceptionHandler에서 처리
+        FairScheduler.Admission admission = fairScheduler.admit(fairScheduler.clientKey(httpRequest),
+            request.getWordLimit());
+        return resumeService.streamResume(request)
+            .map(this::toServerSentEvent)
+            .doFinally(signal -> admission.close());
+    }
+
+    /**
+     * 한 지원서의 여러 문항을 병렬로 생성합니다. 문항이 끝나는 순서대로 result 이벤트를 보내고,
+     * 모든 문항이 끝나면 done 이벤트를 보냅니다. 공정 스케줄러에는 문항 비용의 합으로 한 번에 차례를 받습니다.
+     */
+    @PostMapping(value = "/generate-resume/bulk", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> generateBulk(
+            @Valid @RequestBody BulkGenerationRequest request, HttpServletRequest httpRequest) {
+
+        log.info("자소서 일괄 생성 API 호출 - 회사: {}, 직군: {}, 문항: {}개",
+            request.getCompany(), request.getPosition(), request.getQuestions().size());
+
+        List<ResumeGenerationRequest> requests = request.toRequests();
+        requests.forEach(tokenBudget::checkPromptFits);
+
+        FairScheduler.Admission admission = fairScheduler.admit(fairScheduler.clientKey(httpRequest),
+            requests.stream().mapToInt(ResumeGenerationRequest::getWordLimit).toArray());
+        return bulkGenerationService.generate(requests)
+            .map(this::toServerSentEvent)
+            .doFinally(signal -> admission.close());
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Resume AI Backend is running!");
     }
+
+    private ServerSentEvent<Object> toServerSentEvent(ResumeStreamEvent event) {
+        return ServerSentEvent.builder(event.getData())
+            .event(event.getType())
+            .build();
+    }
 }
\ No newline at end of file
@@ -1,21 +1,32 @@
 package com.resumeai.dto;
 
 public enum AIModelType {
-    GPT_4("gpt-4"),
-    GPT_3_5_TURBO("gpt-3.5-turbo"),
-    CLAUDE_3("claude-3"),
-    GEMINI_PRO("gemini-pro");
+    GPT_4("gpt-4", 1024),
+    GPT_3_5_TURBO("gpt-3.5-turbo", 1024),
+    CLAUDE_3("claude-3", 1024),
+    GEMINI_PRO("gemini-pro", 0);
 
     private final String modelName;
+    // 제공자 측 프롬프트 프리픽스 캐시가 적용되는 최소 길이 (토큰), 0이면 캐시 미지원
+    private final int minCachedPrefixTokens;
 
-    AIModelType(String modelName) {
+    AIModelType(String modelName, int minCachedPrefixTokens) {
         this.modelName = modelName;
+        this.minCachedPrefixTokens = minCachedPrefixTokens;
     }
 
     public String getModelName() {
         return modelName;
     }
 
+    public int getMinCachedPrefixTokens() {
+        return minCachedPrefixTokens;
+    }
+
+    public boolean isPrefixCacheable(int prefixTokens) {
+        return minCachedPrefixTokens > 0 && prefixTokens >= minCachedPrefixTokens;
+    }
+
     public static AIModelType fromString(String modelName) {
         for (AIModelType type : AIModelType.values()) {
             if (type.modelName.equalsIgnoreCase(modelName)) {
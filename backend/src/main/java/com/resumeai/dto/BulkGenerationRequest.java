@@ -0,0 +1,71 @@
+package com.resumeai.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 한 회사 지원서의 여러 문항을 한 번에 생성하는 요청입니다.
+ * 회사·직군·모델은 모든 문항이 공유합니다.
+ */
+@Data
+public class BulkGenerationRequest {
+
+    @NotBlank(message = "회사명은 필수입니다.")
+    @Size(max = 100, message = "회사명은 100자를 초과할 수 없습니다.")
+    private String company;
+
+    @NotBlank(message = "직군/직무는 필수입니다.")
+    @Size(max = 100, message = "직군/직무는 100자를 초과할 수 없습니다.")
+    private String position;
+
+    private String aiModel = "gpt-4";
+
+    private Boolean includeComments = true;
+
+    @Valid
+    @NotEmpty(message = "문항은 1개 이상이어야 합니다.")
+    @Size(max = 10, message = "문항은 10개를 초과할 수 없습니다.")
+    private List<Question> questions;
+
+    @Data
+    public static class Question {
+
+        @NotBlank(message = "자소서 문항은 필수입니다.")
+        @Size(max = 1000, message = "자소서 문항은 1000자를 초과할 수 없습니다.")
+        private String question;
+
+        @NotBlank(message = "초안은 필수입니다.")
+        @Size(max = 5000, message = "초안은 5000자를 초과할 수 없습니다.")
+        private String draft;
+
+        @NotNull(message = "글자수 제한은 필수입니다.")
+        @Positive(message = "글자수 제한은 양수여야 합니다.")
+        private Integer wordLimit;
+    }
+
+    /**
+     * 문항마다 공통 정보를 채운 단건 생성 요청으로 펼칩니다 (문항 순서 유지).
+     */
+    public List<ResumeGenerationRequest> toRequests() {
+        return questions.stream()
+            .map(item -> {
+                ResumeGenerationRequest request = new ResumeGenerationRequest();
+                request.setQuestion(item.getQuestion());
+                request.setDraft(item.getDraft());
+                request.setWordLimit(item.getWordLimit());
+                request.setCompany(company);
+                request.setPosition(position);
+                request.setAiModel(aiModel);
+                request.setIncludeComments(includeComments);
+                return request;
+            })
+            .toList();
+    }
+}
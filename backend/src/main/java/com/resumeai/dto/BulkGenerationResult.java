@@ -0,0 +1,18 @@
+package com.resumeai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkGenerationResult {
+
+    /**
+     * 요청의 questions 안에서의 위치 (0부터)
+     */
+    private int index;
+    private String question;
+    private ResumeGenerationResponse response;
+}
@@ -0,0 +1,23 @@
+package com.resumeai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponse {
+
+    private String id;
+    private JobStatus status;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    /**
+     * 작업이 끝난 뒤에만 채워집니다 (SUCCEEDED, FAILED).
+     */
+    private ResumeGenerationResponse result;
+}
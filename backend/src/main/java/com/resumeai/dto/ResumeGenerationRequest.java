@@ -32,4 +32,27 @@ public class ResumeGenerationRequest {
     private String aiModel = "gpt-4";
 
     private Boolean includeComments = true;
+
+    /**
+     * 같은 자소서를 고쳐 가며 반복 요청할 때 클라이언트가 붙이는 식별자 (선택).
+     * 있으면 직전 결과와 비교해 바뀐 문단만 다시 생성합니다.
+     */
+    @Size(max = 64, message = "세션 ID는 64자를 초과할 수 없습니다.")
+    private String sessionId;
+
+    /**
+     * 재시도·병렬 호출 중 초안이 바뀌어도 원본 요청이 영향을 받지 않도록 복사본을 만듭니다.
+     */
+    public ResumeGenerationRequest copy() {
+        ResumeGenerationRequest copy = new ResumeGenerationRequest();
+        copy.setQuestion(question);
+        copy.setDraft(draft);
+        copy.setWordLimit(wordLimit);
+        copy.setCompany(company);
+        copy.setPosition(position);
+        copy.setAiModel(aiModel);
+        copy.setIncludeComments(includeComments);
+        copy.setSessionId(sessionId);
+        return copy;
+    }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.resumeai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -15,15 +17,28 @@ public class ResumeGenerationResponse {
     private List<String> comments;
     private String error;
 
+    // 회로 차단으로 대체 모델이 생성한 결과 - 요청 모델의 결과로 캐시하지 않음
+    @JsonIgnore
+    private boolean degraded;
+
+    /**
+     * 캐시·이력 로그처럼 응답을 보관하는 곳에서 사용합니다. 호출자가 코멘트를 덧붙여도 보관된 응답은 바뀌지 않습니다.
+     */
+    public ResumeGenerationResponse copy() {
+        return new ResumeGenerationResponse(improvedResume,
+            comments != null ? new ArrayList<>(comments) : null, error, degraded);
+    }
+
     public static ResumeGenerationResponse success(String improvedResume, List<String> comments) {
-        return new ResumeGenerationResponse(improvedResume, comments, null);
+        return new ResumeGenerationResponse(improvedResume, comments, null, false);
     }
 
     public static ResumeGenerationResponse error(String error) {
         return new ResumeGenerationResponse(
             "죄송합니다. 자소서 생성 중 오류가 발생했습니다. 다시 시도해주세요.",
             List.of(),
-            error
+            error,
+            false
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.resumeai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeStreamEvent {
+
+    public static final String TOKEN = "token";
+    public static final String LENGTH = "length";
+    public static final String COMMENTS = "comments";
+    public static final String ERROR = "error";
+    public static final String RESULT = "result";
+    public static final String DONE = "done";
+
+    private String type;
+    private Object data;
+
+    /**
+     * 토큰은 앞 공백과 줄바꿈을 그대로 가지므로 JSON 객체({"text": ...})로 감싸 보냅니다.
+     * 문자열 그대로 보내면 SSE 파서가 "data:" 뒤 첫 공백을 지우고, 줄바꿈은 이벤트 경계를 깨뜨립니다.
+     */
+    public static ResumeStreamEvent token(String content) {
+        return new ResumeStreamEvent(TOKEN, Map.of("text", content));
+    }
+
+    public static ResumeStreamEvent length(int characterCount) {
+        return new ResumeStreamEvent(LENGTH, characterCount);
+    }
+
+    public static ResumeStreamEvent comments(List<String> comments) {
+        return new ResumeStreamEvent(COMMENTS, comments);
+    }
+
+    public static ResumeStreamEvent error(String error) {
+        return new ResumeStreamEvent(ERROR, error);
+    }
+
+    public static ResumeStreamEvent result(BulkGenerationResult result) {
+        return new ResumeStreamEvent(RESULT, result);
+    }
+
+    public static ResumeStreamEvent done(int count) {
+        return new ResumeStreamEvent(DONE, count);
+    }
+}
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.resumeai.exception;
 
 import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.job.JobQueueFullException;
+import com.resumeai.service.scheduling.RequestRejectedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -41,6 +44,25 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<ResumeGenerationResponse> handleJobQueueFullException(JobQueueFullException ex) {
+        log.warn("작업 접수 거절: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+            ResumeGenerationResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+        );
+    }
+
+    @ExceptionHandler(RequestRejectedException.class)
+    public ResponseEntity<ResumeGenerationResponse> handleRequestRejectedException(RequestRejectedException ex) {
+        // 한 클라이언트의 과다 요청은 429, 서버 전체 혼잡은 503
+        HttpStatus status = ex.getReason() == RequestRejectedException.Reason.CLIENT_QUEUE_FULL
+            ? HttpStatus.TOO_MANY_REQUESTS
+            : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+            .header(HttpHeaders.RETRY_AFTER, "5")
+            .body(ResumeGenerationResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ResumeGenerationResponse> handleGenericException(Exception ex) {
         log.error("예상치 못한 오류 발생: ", ex);
@@ -4,7 +4,15 @@ import com.resumeai.dto.AIModelType;
 import com.resumeai.dto.ResumeGenerationRequest;
 import com.resumeai.dto.ResumeGenerationResponse;
 
+/**
+ * AI 제공자 구현체의 공통 계약입니다.
+ *
+ * <p>구현체는 프롬프트를 {@link com.resumeai.service.prompt.PromptTemplates#renderMessages}가 만든
+ * 시스템 메시지 + 회사·직군 메시지 + 사용자 메시지 순서로 보내고, 앞의 두 메시지는 가공하지 않고 그대로 보내야 합니다.
+ * 요청 간 프리픽스가 바이트 단위로 같아야 제공자 측 프롬프트 캐시가 적용됩니다.
+ */
 public interface AIService {
     ResumeGenerationResponse generateResume(ResumeGenerationRequest request);
     boolean isModelSupported(AIModelType modelType);
+    String getProviderName();
 }
\ No newline at end of file
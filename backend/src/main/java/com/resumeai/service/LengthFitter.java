@@ -0,0 +1,250 @@
+package com.resumeai.service;
+
+import com.resumeai.config.GenerationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 글자수가 제한을 조금 넘은 결과를 LLM 재호출 없이 줄이는 로컬 보정기입니다.
+ *
+ * <p>다음 순서로 줄이며, 목표 범위에 들어오면 즉시 멈춥니다.
+ * <ol>
+ *   <li>문장 앞 접속어와 강조 부사 제거 ("또한,", "매우" 등)</li>
+ *   <li>괄호 안 부연 설명 제거</li>
+ *   <li>다른 문장과 내용이 많이 겹치는 문장 제거 (문단 첫 문장과 마지막 문장은 유지)</li>
+ *   <li>문장 경계에서 자르기</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LengthFitter {
+
+    private static final Pattern SENTENCE = Pattern.compile("[^.!?\\n]+[.!?]*\\s*|\\n+");
+    private static final Pattern PARENTHETICAL = Pattern.compile("\\s?\\([^()]*\\)");
+
+    private static final List<String> CONNECTIVES = List.of(
+        "또한, ", "또한 ", "그리고 ", "더불어 ", "아울러 ", "게다가 ", "이처럼 ", "나아가 ", "무엇보다 ", "특히 "
+    );
+    private static final List<String> INTENSIFIERS = List.of(
+        "정말 ", "매우 ", "굉장히 ", "아주 ", "너무 ", "진심으로 "
+    );
+
+    private static final double REDUNDANCY_THRESHOLD = 0.35;
+
+    private final GenerationProperties generationProperties;
+
+    /**
+     * 초과 분량이 설정 비율 이내일 때만 로컬 보정을 시도합니다.
+     *
+     * @return 목표 범위에 들어온 결과, 로컬 보정으로 맞출 수 없으면 empty
+     */
+    public Optional<String> fit(String text, int minLength, int maxLength) {
+        GenerationProperties.LocalFit localFit = generationProperties.getLocalFit();
+        if (!localFit.isEnabled() || text.length() <= maxLength) {
+            return Optional.empty();
+        }
+        if (text.length() - maxLength > maxLength * localFit.getMaxOvershootRatio()) {
+            log.debug("로컬 보정 범위 초과 ({}자 > {}자)", text.length(), maxLength);
+            return Optional.empty();
+        }
+
+        List<Sentence> sentences = split(text);
+
+        removePhrases(sentences, CONNECTIVES, maxLength, true);
+        removePhrases(sentences, INTENSIFIERS, maxLength, false);
+        removeParentheticals(sentences, maxLength);
+        dropRedundantSentences(sentences, minLength, maxLength);
+        trimToSentenceBoundary(sentences, minLength, maxLength);
+
+        String fitted = join(sentences);
+        if (fitted.length() < minLength || fitted.length() > maxLength) {
+            log.debug("로컬 보정 실패 - 결과 {}자 (목표: {}자~{}자)", fitted.length(), minLength, maxLength);
+            return Optional.empty();
+        }
+
+        log.info("로컬 보정 성공 - {}자 → {}자", text.length(), fitted.length());
+        return Optional.of(fitted);
+    }
+
+    private List<Sentence> split(String text) {
+        List<Sentence> sentences = new ArrayList<>();
+        Matcher matcher = SENTENCE.matcher(text.trim());
+        while (matcher.find()) {
+            String token = matcher.group();
+            if (token.isBlank()) {
+                // 문단 구분은 직전 문장의 뒤 공백으로 붙임
+                if (!sentences.isEmpty()) {
+                    sentences.get(sentences.size() - 1).trailing += token;
+                }
+                continue;
+            }
+            String body = token.stripTrailing();
+            sentences.add(new Sentence(body, token.substring(body.length())));
+        }
+
+        for (int i = 0; i < sentences.size(); i++) {
+            sentences.get(i).paragraphStart = i == 0 || sentences.get(i - 1).trailing.contains("\n");
+        }
+        return sentences;
+    }
+
+    private void removePhrases(List<Sentence> sentences, List<String> phrases, int maxLength, boolean leadingOnly) {
+        for (String phrase : phrases) {
+            for (Sentence sentence : sentences) {
+                if (length(sentences) <= maxLength) {
+                    return;
+                }
+                if (leadingOnly) {
+                    if (sentence.body.startsWith(phrase) && sentence.body.length() > phrase.length()) {
+                        sentence.body = sentence.body.substring(phrase.length());
+                    }
+                } else {
+                    int index = sentence.body.indexOf(phrase);
+                    if (index >= 0) {
+                        sentence.body = sentence.body.substring(0, index)
+                            + sentence.body.substring(index + phrase.length());
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeParentheticals(List<Sentence> sentences, int maxLength) {
+        for (Sentence sentence : sentences) {
+            if (length(sentences) <= maxLength) {
+                return;
+            }
+            sentence.body = PARENTHETICAL.matcher(sentence.body).replaceAll("");
+        }
+    }
+
+    private void dropRedundantSentences(List<Sentence> sentences, int minLength, int maxLength) {
+        while (length(sentences) > maxLength) {
+            int overflow = length(sentences) - maxLength;
+            int slack = length(sentences) - minLength;
+
+            Sentence candidate = null;
+            double candidateScore = REDUNDANCY_THRESHOLD;
+            for (int i = 0; i < sentences.size(); i++) {
+                Sentence sentence = sentences.get(i);
+                boolean paragraphEnd = i == sentences.size() - 1 || sentences.get(i + 1).paragraphStart;
+                if (sentence.paragraphStart || paragraphEnd || sentence.length() > slack) {
+                    continue;
+                }
+
+                // 겹침이 클수록, 제거 후 목표에 가까울수록 우선
+                double score = redundancy(sentence, sentences) + (sentence.length() >= overflow ? 0.1 : 0.0);
+                if (score > candidateScore) {
+                    candidate = sentence;
+                    candidateScore = score;
+                }
+            }
+
+            if (candidate == null) {
+                return;
+            }
+            remove(sentences, candidate);
+        }
+    }
+
+    private void trimToSentenceBoundary(List<Sentence> sentences, int minLength, int maxLength) {
+        while (length(sentences) > maxLength && sentences.size() > 1) {
+            Sentence last = sentences.get(sentences.size() - 1);
+            if (length(sentences) - last.length() < minLength) {
+                return;
+            }
+            remove(sentences, last);
+        }
+    }
+
+    private double redundancy(Sentence sentence, List<Sentence> sentences) {
+        Set<String> bigrams = sentence.bigrams();
+        double max = 0;
+        for (Sentence other : sentences) {
+            if (other == sentence) {
+                continue;
+            }
+            Set<String> otherBigrams = other.bigrams();
+            int intersection = 0;
+            for (String bigram : bigrams) {
+                if (otherBigrams.contains(bigram)) {
+                    intersection++;
+                }
+            }
+            int union = bigrams.size() + otherBigrams.size() - intersection;
+            if (union > 0) {
+                max = Math.max(max, (double) intersection / union);
+            }
+        }
+        return max;
+    }
+
+    private static Set<String> bigrams(String text) {
+        String compact = text.replaceAll("[\\s\\p{Punct}]", "");
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 2 <= compact.length(); i++) {
+            bigrams.add(compact.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    private void remove(List<Sentence> sentences, Sentence sentence) {
+        int index = sentences.indexOf(sentence);
+        // 문단 끝 문장을 지우면 문단 구분을 앞 문장으로 넘김
+        if (index > 0 && sentence.trailing.contains("\n")) {
+            sentences.get(index - 1).trailing = sentence.trailing;
+        }
+        sentences.remove(index);
+    }
+
+    private int length(List<Sentence> sentences) {
+        // join(sentences).length()와 같은 값 - 마지막 문장의 뒤 공백은 trim으로 빠짐
+        int length = 0;
+        for (Sentence sentence : sentences) {
+            length += sentence.length();
+        }
+        return sentences.isEmpty() ? 0 : length - sentences.get(sentences.size() - 1).trailing.length();
+    }
+
+    private String join(List<Sentence> sentences) {
+        StringBuilder joined = new StringBuilder();
+        for (Sentence sentence : sentences) {
+            joined.append(sentence.body).append(sentence.trailing);
+        }
+        return joined.toString().trim();
+    }
+
+    private static class Sentence {
+        private String body;
+        private String trailing;
+        private boolean paragraphStart;
+        private Set<String> bigrams;
+
+        private Sentence(String body, String trailing) {
+            this.body = body;
+            this.trailing = trailing;
+        }
+
+        private int length() {
+            return body.length() + trailing.length();
+        }
+
+        // 중복 문장 제거 단계에서는 본문이 바뀌지 않으므로 한 번만 계산
+        private Set<String> bigrams() {
+            if (bigrams == null) {
+                bigrams = LengthFitter.bigrams(body);
+            }
+            return bigrams;
+        }
+    }
+}
@@ -1,19 +1,57 @@
 package com.resumeai.service;
 
+import com.resumeai.config.GenerationProperties;
+import com.resumeai.config.GovernorProperties;
 import com.resumeai.dto.AIModelType;
 import com.resumeai.dto.ResumeGenerationRequest;
 import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.dto.ResumeStreamEvent;
+import com.resumeai.service.calibration.LengthCalibration;
+import com.resumeai.service.governor.CallOutcome;
+import com.resumeai.service.governor.GovernorTimeoutException;
+import com.resumeai.service.governor.OutboundGovernor;
+import com.resumeai.service.history.GenerationAttempt;
+import com.resumeai.service.history.GenerationLog;
+import com.resumeai.service.metrics.GenerationMetrics;
+import com.resumeai.service.prompt.PromptContext;
+import com.resumeai.service.prompt.PromptTemplates;
+import com.resumeai.service.prompt.TemplateName;
+import com.resumeai.service.resilience.BulkheadFullException;
+import com.resumeai.service.resilience.CallNotPermittedException;
+import com.resumeai.service.resilience.ProviderResilience;
+import com.resumeai.service.token.TokenBudget;
+import com.resumeai.service.transport.CallTimeouts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.StreamingChatClient;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.metadata.ChatGenerationMetadata;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @Service
@@ -21,19 +59,107 @@ import java.util.List;
 public class OpenAIService implements AIService {
 
     private final ChatClient chatClient;
+    private final StreamingChatClient streamingChatClient;
+    private final GenerationProperties generationProperties;
+    private final ExecutorService aiCallExecutor;
+    private final LengthFitter lengthFitter;
+    private final OutboundGovernor outboundGovernor;
+    private final GovernorProperties governorProperties;
+    private final PromptTemplates promptTemplates;
+    private final TokenBudget tokenBudget;
+    private final GenerationMetrics generationMetrics;
+    private final ProviderResilience providerResilience;
+    private final CallTimeouts callTimeouts;
+    private final GenerationLog generationLog;
+    private final LengthCalibration lengthCalibration;
 
     @Override
     public ResumeGenerationResponse generateResume(ResumeGenerationRequest request) {
-        int maxRetries = 3;
+        AIModelType modelType = AIModelType.fromString(request.getAiModel());
+        if (!providerResilience.isCallPermitted(modelType)) {
+            return generateWithFallback(request, modelType);
+        }
+        try {
+            return generate(request);
+        } catch (CallNotPermittedException e) {
+            // 첫 시도부터 회로에 거절된 경우 (반열림 시험 자리 부족) - 아직 아무것도 생성하지 않았음
+            log.warn("첫 시도 호출 차단: {}", e.getMessage());
+            return generateWithFallback(request, modelType);
+        }
+    }
+
+    /**
+     * 요청 모델을 호출할 수 없을 때 대체 모델로 생성합니다. 원래 모델의 결과가 아니므로 캐시하지 않도록 표시합니다.
+     */
+    private ResumeGenerationResponse generateWithFallback(ResumeGenerationRequest request, AIModelType modelType) {
+        Optional<AIModelType> fallbackType = providerResilience.fallbackFor(modelType);
+        if (fallbackType.isEmpty()) {
+            log.warn("{} 호출 불가 - 대체 모델 없음, 즉시 실패", modelType.getModelName());
+            return ResumeGenerationResponse.error("AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+        }
+        AIModelType fallback = fallbackType.get();
+        log.warn("{} 호출 불가 - {} 모델로 대체 생성", modelType.getModelName(), fallback.getModelName());
+        ResumeGenerationRequest fallbackRequest = request.copy();
+        fallbackRequest.setAiModel(fallback.getModelName());
+
+        try {
+            // 대체 생성 표시는 이력에도 남도록 기록 전에 붙임
+            return generate(fallbackRequest, response -> {
+                if (response.getError() == null) {
+                    response.getComments().add(String.format("⚠️ %s 모델이 일시적으로 불안정하여 %s 모델로 생성했습니다.",
+                        modelType.getModelName(), fallback.getModelName()));
+                    response.setDegraded(true);
+                }
+                return response;
+            });
+        } catch (CallNotPermittedException e) {
+            log.warn("대체 모델 호출도 차단: {}", e.getMessage());
+            return ResumeGenerationResponse.error("AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private ResumeGenerationResponse generate(ResumeGenerationRequest request) {
+        return generate(request, UnaryOperator.identity());
+    }
+
+    /**
+     * @param finisher 응답을 완성하는 마지막 단계 (코멘트 추가 등). 이력은 그 뒤의 응답으로 기록합니다.
+     */
+    private ResumeGenerationResponse generate(ResumeGenerationRequest request,
+                                              UnaryOperator<ResumeGenerationResponse> finisher) {
+        // 순차 재시도는 요청의 초안을 바꾸므로 이력에 남길 원본을 먼저 복사
+        ResumeGenerationRequest original = generationLog.isEnabled() ? request.copy() : null;
+        long startedAt = System.currentTimeMillis();
+        return generationMetrics.timeRequest(getModelName(request.getAiModel()), attempts -> {
+            ResumeGenerationResponse response = finisher.apply(
+                generationProperties.getMode() == GenerationProperties.Mode.SPECULATIVE
+                    ? generateSpeculative(request, attempts)
+                    : generateSequential(request, attempts));
+            if (original != null) {
+                generationLog.append(original, attempts.history(), response, startedAt);
+            }
+            return response;
+        });
+    }
+
+    private ResumeGenerationResponse generateSequential(ResumeGenerationRequest request,
+                                                        GenerationMetrics.Attempts attempts) {
+        int maxRetries = generationProperties.getMaxRetries();
         int minWordCount = (int) (request.getWordLimit() * 0.9); // 90% 기준
         int maxWordCount = request.getWordLimit(); // 최대 글자수
+        int throttledRetries = 0;
 
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            // 작업 취소 등으로 인터럽트되면 남은 시도를 진행하지 않음
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("{}번째 시도 전 요청이 중단됨 - 생성 중단", attempt);
+                return ResumeGenerationResponse.error("요청이 취소되었습니다.");
+            }
             try {
                 log.info("자소서 생성 시도 {}/{} - 목표 글자수: {}자~{}자",
                     attempt, maxRetries, minWordCount, maxWordCount);
 
-                String response = callOpenAI(request, attempt);
+                String response = callOpenAI(request, attempt, attempts);
                 int actualWordCount = response.length();
 
                 log.info("생성된 자소서 글자수: {}자 (목표: {}자~{}자)",
@@ -56,6 +182,11 @@ public class OpenAIService implements AIService {
                         return ResumeGenerationResponse.success(response.trim(), comments);
                     }
                 } else if (actualWordCount > maxWordCount) {
+                    Optional<ResumeGenerationResponse> fitted = fitLocally(request, response.trim(), attempt);
+                    if (fitted.isPresent()) {
+                        return fitted.get();
+                    }
+
                     log.warn("글자수 초과 ({}자 > {}자) - 요약 요청",
                         actualWordCount, maxWordCount);
                     request.setDraft(response.trim());
@@ -68,7 +199,29 @@ public class OpenAIService implements AIService {
                     }
                 }
 
+            } catch (GovernorTimeoutException | BulkheadFullException e) {
+                // 과부하로 호출을 시작하지 못함 - 모델 장애가 아니므로 대체 모델로 보내지 않음
+                log.error("{}번째 시도 - AI 호출 허가 실패: {}", attempt, e.getMessage());
+                return ResumeGenerationResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+            } catch (CallNotPermittedException e) {
+                if (attempt == 1) {
+                    throw e;
+                }
+                // 남은 시도도 같은 이유로 거절되므로 재시도하지 않음
+                log.error("{}번째 시도 - 호출 차단: {}", attempt, e.getMessage());
+                return ResumeGenerationResponse.error("AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+
             } catch (Exception e) {
+                // 429는 호출 조절기가 속도를 낮춘 뒤 다시 대기시키므로 재시도 횟수를 소모하지 않음
+                if (CallOutcome.isThrottled(e) && throttledRetries < governorProperties.getMaxThrottleRetries()) {
+                    throttledRetries++;
+                    log.warn("{}번째 시도가 호출 제한(429)에 걸림 - 같은 시도로 다시 대기 ({}/{})",
+                        attempt, throttledRetries, governorProperties.getMaxThrottleRetries());
+                    attempt--;
+                    continue;
+                }
+
                 log.error("{}번째 시도에서 오류 발생: {}", attempt, e.getMessage());
 
                 if (attempt == maxRetries) {
@@ -81,22 +234,495 @@ public class OpenAIService implements AIService {
         return ResumeGenerationResponse.error("예상치 못한 오류가 발생했습니다.");
     }
 
-    private String callOpenAI(ResumeGenerationRequest request, int attempt) {
-        String systemPrompt = getSystemPrompt();
-        String userPrompt = buildPrompt(request, attempt);
+    /**
+     * 온도와 목표 글자수 배율이 다른 후보들을 동시에 생성하고, 글자수 범위에 먼저 들어온 후보를 반환합니다.
+     * 나머지 후보는 즉시 취소합니다. 범위에 드는 후보가 없으면 가장 가까운 후보로 한 번만 보정합니다.
+     */
+    private ResumeGenerationResponse generateSpeculative(ResumeGenerationRequest request,
+                                                         GenerationMetrics.Attempts attempts) {
+        int minWordCount = (int) (request.getWordLimit() * 0.9);
+        int maxWordCount = request.getWordLimit();
+        GenerationProperties.Speculative speculative = generationProperties.getSpeculative();
+        List<GenerationProperties.Candidate> candidates = speculative.getCandidates();
+
+        log.info("병렬 후보 생성 - 후보 {}개, 목표 글자수: {}자~{}자",
+            candidates.size(), minWordCount, maxWordCount);
+
+        ExecutorCompletionService<String> completionService = new ExecutorCompletionService<>(aiCallExecutor);
+        List<Future<String>> futures = new ArrayList<>(candidates.size());
+        for (GenerationProperties.Candidate candidate : candidates) {
+            futures.add(completionService.submit(() -> callOpenAI(
+                request, 1, candidate.getTemperature(), candidate.getLengthHint(), attempts)));
+        }
+
+        String closest = null;
+        int closestDistance = Integer.MAX_VALUE;
+        long deadline = System.nanoTime() + speculative.getTimeout().toNanos();
+
+        try {
+            for (int received = 0; received < futures.size(); received++) {
+                Future<String> done = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    log.warn("병렬 후보 대기 시간 초과 - 받은 후보 {}개", received);
+                    break;
+                }
+
+                String response;
+                try {
+                    response = done.get().trim();
+                } catch (ExecutionException e) {
+                    log.error("후보 생성 중 오류 발생: {}", e.getCause().getMessage());
+                    continue;
+                }
+
+                int actualWordCount = response.length();
+                log.info("후보 도착 - 글자수: {}자 (목표: {}자~{}자)", actualWordCount, minWordCount, maxWordCount);
+
+                if (actualWordCount >= minWordCount && actualWordCount <= maxWordCount) {
+                    log.info("글자수 조건 만족 후보 선택 - 나머지 후보 취소");
+                    List<String> comments = generateComments(request, 1, actualWordCount);
+                    return ResumeGenerationResponse.success(response, comments);
+                }
+
+                if (actualWordCount > maxWordCount) {
+                    Optional<ResumeGenerationResponse> fitted = fitLocally(request, response, 1);
+                    if (fitted.isPresent()) {
+                        log.info("로컬 보정 후보 선택 - 나머지 후보 취소");
+                        return fitted.get();
+                    }
+                }
+
+                int distance = actualWordCount < minWordCount
+                    ? minWordCount - actualWordCount
+                    : actualWordCount - maxWordCount;
+                if (distance < closestDistance) {
+                    closest = response;
+                    closestDistance = distance;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResumeGenerationResponse.error("AI 서비스 호출이 중단되었습니다.");
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        if (closest == null) {
+            log.error("모든 후보 생성 실패 - 오류 반환");
+            return ResumeGenerationResponse.error("AI 서비스 호출 중 오류가 발생했습니다.");
+        }
+
+        return repairClosestCandidate(request, closest, attempts);
+    }
+
+    private ResumeGenerationResponse repairClosestCandidate(ResumeGenerationRequest request, String closest,
+                                                            GenerationMetrics.Attempts attempts) {
+        int minWordCount = (int) (request.getWordLimit() * 0.9);
+        int maxWordCount = request.getWordLimit();
+
+        log.warn("범위 내 후보 없음 - 가장 가까운 후보({}자)로 보정 요청", closest.length());
+
+        // 원본 요청은 캐시 키 등에 쓰이므로 변경하지 않고 복사본으로 보정
+        ResumeGenerationRequest repairRequest = copyWithDraft(request, closest);
+
+        try {
+            String response = callOpenAI(repairRequest, 2, attempts).trim();
+            int actualWordCount = response.length();
+            List<String> comments = generateComments(repairRequest, 2, actualWordCount);
+
+            if (actualWordCount < minWordCount) {
+                comments.add("⚠️ 글자수가 목표에 미치지 못했지만 보정 후 반환되었습니다.");
+            } else if (actualWordCount > maxWordCount) {
+                comments.add("⚠️ 글자수가 제한을 초과했지만 보정 후 반환되었습니다.");
+            }
+            return ResumeGenerationResponse.success(response, comments);
+
+        } catch (Exception e) {
+            log.error("보정 요청 중 오류 발생: {} - 가장 가까운 후보 반환", e.getMessage());
+            List<String> comments = generateComments(request, 1, closest.length());
+            comments.add("⚠️ 글자수 보정에 실패하여 가장 가까운 결과를 반환했습니다.");
+            return ResumeGenerationResponse.success(closest, comments);
+        }
+    }
+
+    /**
+     * 소폭 초과한 결과를 LLM 재호출 없이 로컬에서 줄여 봅니다.
+     */
+    private Optional<ResumeGenerationResponse> fitLocally(ResumeGenerationRequest request, String response, int attempt) {
+        int minWordCount = (int) (request.getWordLimit() * 0.9);
+        int maxWordCount = request.getWordLimit();
+
+        return lengthFitter.fit(response, minWordCount, maxWordCount)
+            .map(fitted -> {
+                List<String> comments = generateComments(request, attempt, fitted.length());
+                comments.add(String.format("✂️ 재요청 없이 로컬 보정으로 %d자를 줄였습니다.",
+                    response.length() - fitted.length()));
+                return ResumeGenerationResponse.success(fitted, comments);
+            });
+    }
+
+    private ResumeGenerationRequest copyWithDraft(ResumeGenerationRequest request, String draft) {
+        ResumeGenerationRequest copy = request.copy();
+        copy.setDraft(draft);
+        return copy;
+    }
+
+    /**
+     * 첫 시도 프롬프트로 스트리밍 생성을 수행합니다.
+     * 토큰이 도착할 때마다 토큰/누적 글자수 이벤트를 내보내고, 완료 시 코멘트 이벤트를 보냅니다.
+     * 스트리밍 응답은 이미 클라이언트에 전달되었으므로 글자수 재시도는 하지 않습니다.
+     * 단건 호출과 같이 회로 차단기·호출 조절기 허가를 받고, 응답 대기 예산을 스트림 전체에 적용합니다.
+     */
+    public Flux<ResumeStreamEvent> streamResume(ResumeGenerationRequest request) {
+        return Flux.defer(() -> {
+            StringBuilder generated = new StringBuilder(request.getWordLimit() + 256);
+            AIModelType modelType = AIModelType.fromString(request.getAiModel());
+            String modelName = getModelName(request.getAiModel());
+            int minLength = (int) (request.getWordLimit() * 0.9);
+            int maxLength = request.getWordLimit();
+            LengthCalibration.Target target = lengthTarget(request, 1, TemplateName.INITIAL, promptContext(request, 1.0));
+
+            log.info("자소서 스트리밍 생성 시작 - 목표 글자수: {}자~{}자", minLength, maxLength);
+
+            return governedStream(request, modelType, 1, buildChatPrompt(request, TemplateName.INITIAL, target, 0.5F))
+                .mapNotNull(this::extractContent)
+                .concatMap(token -> {
+                    generated.append(token);
+                    return Flux.just(
+                        ResumeStreamEvent.token(token),
+                        ResumeStreamEvent.length(generated.length())
+                    );
+                })
+                .concatWith(Mono.fromSupplier(() -> {
+                    String content = generated.toString();
+                    tokenBudget.recordOutput(request, content);
+                    int actualWordCount = content.trim().length();
+                    generationMetrics.recordLength(modelName, 1, actualWordCount, minLength, maxLength);
+                    recordCalibration(request, modelType, 1, TemplateName.INITIAL, target, actualWordCount,
+                        minLength, maxLength);
+                    log.info("스트리밍 생성 완료 - 글자수: {}자", actualWordCount);
+                    return ResumeStreamEvent.comments(generateComments(request, 1, actualWordCount));
+                }))
+                .onErrorResume(e -> {
+                    generationMetrics.recordError(modelName, e);
+                    if (e instanceof CallNotPermittedException) {
+                        log.warn("스트리밍 호출 차단: {}", e.getMessage());
+                        return Flux.just(ResumeStreamEvent.error("AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요."));
+                    }
+                    if (e instanceof GovernorTimeoutException || e instanceof BulkheadFullException) {
+                        log.warn("스트리밍 호출 허가 실패: {}", e.getMessage());
+                        return Flux.just(ResumeStreamEvent.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+                    }
+                    log.error("스트리밍 생성 중 오류 발생: {}", e.getMessage());
+                    return Flux.just(ResumeStreamEvent.error("AI 서비스 호출 중 오류가 발생했습니다."));
+                });
+        });
+    }
+
+    /**
+     * 스트리밍 호출을 {@link #call}과 같은 순서로 보호합니다: 회로 차단기 허가 → 호출 조절기 허가 → 벌크헤드 자리 →
+     * Observation → 응답 대기 예산. 허가는 스트림이 완료·실패·취소될 때 반납하며, 취소는 제공자 상태로 판정하지 않습니다.
+     */
+    private Flux<ChatResponse> governedStream(ResumeGenerationRequest request, AIModelType modelType, int attempt,
+                                              Prompt prompt) {
+        String modelName = getModelName(request.getAiModel());
+        Duration budget = callTimeouts.budgetFor(modelType, request.getWordLimit());
+
+        // 허가 대기는 블로킹이므로 요청 스레드나 이벤트 루프가 아닌 곳에서 수행
+        Mono<StreamLease> lease = Mono.fromCallable(() -> {
+            ProviderResilience.Permit permit = providerResilience.acquire(modelType, budget);
+            try {
+                OutboundGovernor.Lease governorLease = outboundGovernor.admit(modelType, budget);
+                try {
+                    permit.enter();
+                } catch (RuntimeException e) {
+                    governorLease.cancel();
+                    throw e;
+                }
+                return new StreamLease(permit, governorLease, System.nanoTime());
+            } catch (RuntimeException e) {
+                permit.close();
+                throw e;
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        return Flux.usingWhen(lease,
+            granted -> generationMetrics.observeStream(modelName, attempt,
+                withDeadline(streamingChatClient.stream(prompt), budget)),
+            granted -> Mono.fromRunnable(granted::succeeded),
+            (granted, error) -> Mono.fromRunnable(() -> granted.failed(error)),
+            granted -> Mono.fromRunnable(granted::cancelled));
+    }
+
+    /**
+     * 예산을 호출 전체에 적용합니다 (Flux.timeout(Duration)은 토큰 사이 간격에만 적용됨).
+     */
+    private static <T> Flux<T> withDeadline(Flux<T> stream, Duration budget) {
+        Mono<Long> deadline = Mono.delay(budget).cache();
+        return stream.timeout(deadline, item -> deadline);
+    }
+
+    private record StreamLease(ProviderResilience.Permit permit, OutboundGovernor.Lease governorLease,
+                               long startedAt) {
+
+        void succeeded() {
+            permit.onSuccess(startedAt);
+            governorLease.release(null);
+            permit.close();
+        }
+
+        void failed(Throwable error) {
+            permit.onError(error, startedAt);
+            governorLease.release(error);
+            permit.close();
+        }
+
+        void cancelled() {
+            governorLease.cancel();
+            permit.close();
+        }
+    }
+
+    private String callOpenAI(ResumeGenerationRequest request, int attempt, GenerationMetrics.Attempts attempts) {
+        // 재시도시 더 일관성 있게
+        return callOpenAI(request, attempt, attempt > 1 ? 0.3F : 0.5F, 1.0, attempts);
+    }
+
+    private String callOpenAI(ResumeGenerationRequest request, int attempt, float temperature, double lengthHint,
+                              GenerationMetrics.Attempts attempts) {
+        PromptContext context = promptContext(request, lengthHint);
+        TemplateName template = selectTemplate(context, attempt);
+        LengthCalibration.Target target = lengthTarget(request, attempt, template, context);
+        Prompt prompt = buildChatPrompt(request, template, target, temperature);
+        String modelName = getModelName(request.getAiModel());
+        int minLength = (int) (request.getWordLimit() * 0.9);
+        int maxLength = request.getWordLimit();
+        attempts.increment();
+
+        long startedAt = System.nanoTime();
+        String content;
+        try {
+            content = execute(request, attempt, prompt, generationProperties.getEarlyAbort().isEnabled());
+        } catch (RuntimeException e) {
+            if (generationLog.isEnabled()) {
+                attempts.record(new GenerationAttempt(attempt, template, temperature, lengthHint,
+                    elapsedMillis(startedAt), 0, GenerationAttempt.Outcome.ERROR,
+                    CallOutcome.classify(e).name().toLowerCase()));
+            }
+            throw e;
+        }
+
+        int length = content.trim().length();
+        generationMetrics.recordLength(modelName, attempt, length, minLength, maxLength);
+        recordCalibration(request, AIModelType.fromString(request.getAiModel()), attempt, template, target, length,
+            minLength, maxLength);
+        if (generationLog.isEnabled()) {
+            attempts.record(new GenerationAttempt(attempt, template, temperature, lengthHint,
+                elapsedMillis(startedAt), length, GenerationAttempt.Outcome.of(length, minLength, maxLength), null));
+        }
+        return content;
+    }
+
+    /**
+     * 첫 시도는 모델별 글자수 경향을 보정한 목표로 프롬프트를 만듭니다.
+     * 재시도는 직전 결과 길이를 기준으로 확장/요약하므로 보정하지 않습니다.
+     */
+    private LengthCalibration.Target lengthTarget(ResumeGenerationRequest request, int attempt, TemplateName template,
+                                                  PromptContext context) {
+        if (attempt > 1) {
+            return LengthCalibration.Target.uncalibrated(context.targetMin(), context.targetMax());
+        }
+        LengthCalibration.Target target = lengthCalibration.calibrate(AIModelType.fromString(request.getAiModel()),
+            request.getWordLimit(), template, context.targetMin(), context.targetMax());
+        if (target.promptMax() != context.targetMax()) {
+            log.debug("글자수 보정 - 프롬프트 목표 {}자~{}자 → {}자~{}자",
+                context.targetMin(), context.targetMax(), target.promptMin(), target.promptMax());
+        }
+        return target;
+    }
+
+    private void recordCalibration(ResumeGenerationRequest request, AIModelType modelType, int attempt,
+                                   TemplateName template, LengthCalibration.Target target, int length,
+                                   int minLength, int maxLength) {
+        lengthCalibration.record(modelType, request.getWordLimit(), template,
+            target.promptMin(), target.promptMax(), length);
+        if (attempt == 1) {
+            lengthCalibration.recordFirstAttempt(modelType, request.getWordLimit(),
+                length >= minLength && length <= maxLength);
+        }
+    }
+
+    private static long elapsedMillis(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+
+    /**
+     * 문단 하나만 앞뒤 문맥과 함께 다시 생성합니다 (세션 기반 부분 재생성).
+     */
+    public String rewriteParagraph(ResumeGenerationRequest request, String paragraph,
+                                   String contextBefore, String contextAfter, int targetMin, int targetMax) {
+        ResumeGenerationRequest paragraphRequest = copyWithDraft(request, paragraph);
+        PromptContext context = new PromptContext(paragraphRequest, targetMin, targetMax, contextBefore, contextAfter);
 
-        // Spring AI ChatClient 사용 (0.8.1 버전)
         Prompt prompt = new Prompt(
-            systemPrompt + "\n\n" + userPrompt,
-            OpenAiChatOptions.builder()
-                    .withModel(getModelName(request.getAiModel()))
-                    .withTemperature(attempt > 1 ? 0.3F : 0.5F)  // 재시도시 더 일관성 있게
-                    .withMaxTokens(3000)  // 더 긴 응답 허용
-                    .build()
+            promptTemplates.renderMessages(TemplateName.PARAGRAPH, context),
+            chatOptions(request, 0.5F, tokenBudget.maxOutputTokens(paragraphRequest, targetMax))
         );
+        return execute(paragraphRequest, 1, prompt, false).trim();
+    }
+
+    private String execute(ResumeGenerationRequest request, int attempt, Prompt prompt, boolean abortOnOverrun) {
+        AIModelType modelType = AIModelType.fromString(request.getAiModel());
+        String modelName = getModelName(request.getAiModel());
+
+        // 응답 대기 시간은 모델과 글자수 제한에 맞춘 예산으로 제한 (초과 시 SLOW로 분류)
+        Supplier<ChatResponse> call = abortOnOverrun
+            ? () -> streamUntilOverrun(request, modelType, attempt, prompt)
+            : () -> callTimeouts.withBudget(modelType, request.getWordLimit(), () -> chatClient.call(prompt));
+
+        Duration budget = callTimeouts.budgetFor(modelType, request.getWordLimit());
+        ChatResponse chatResponse = call(modelType, modelName, attempt, budget, call);
+
+        // 토큰 예산이 모자라 잘린 응답은 결말이 없으므로 상한 예산으로 한 번 다시 호출
+        if (isTruncated(chatResponse) && prompt.getOptions() instanceof OpenAiChatOptions options
+                && options.getMaxTokens() != null) {
+            OptionalInt retryBudget = tokenBudget.retryBudget(options.getMaxTokens());
+            if (retryBudget.isPresent()) {
+                log.info("{}번째 시도 - 응답이 토큰 예산({})에 걸려 잘림, 예산 {}로 다시 호출",
+                    attempt, options.getMaxTokens(), retryBudget.getAsInt());
+                generationMetrics.recordUsage(modelName, chatResponse);
+                Prompt uncapped = new Prompt(prompt.getInstructions(),
+                    chatOptions(request, options.getTemperature(), retryBudget.getAsInt()));
+                Supplier<ChatResponse> retry = abortOnOverrun
+                    ? () -> streamUntilOverrun(request, modelType, attempt, uncapped)
+                    : () -> callTimeouts.withBudget(modelType, request.getWordLimit(), () -> chatClient.call(uncapped));
+                chatResponse = call(modelType, modelName, attempt, budget, retry);
+            }
+        }
+
+        String content = chatResponse.getResult().getOutput().getContent();
+        generationMetrics.recordUsage(modelName, chatResponse);
+        generationMetrics.recordPromptCaching(modelName, modelType, tokenBudget.systemPromptTokens(), chatResponse);
+        tokenBudget.recordOutput(request, content);
+        return content;
+    }
 
-        ChatResponse chatResponse = chatClient.call(prompt);
-        return chatResponse.getResult().getOutput().getContent();
+    private ChatResponse call(AIModelType modelType, String modelName, int attempt, Duration budget,
+                              Supplier<ChatResponse> call) {
+        // 회로 차단기는 조절기 대기 전에 확인하고, 벌크헤드 자리는 조절기 허가 뒤에 받아 대기 중인 호출이 차지하지 않게 함.
+        // 지연 판정은 실제 호출 시간과 호출 예산으로 함
+        try (ProviderResilience.Permit permit = providerResilience.acquire(modelType, budget)) {
+            return outboundGovernor.execute(modelType, budget, () -> {
+                permit.enter();
+                return permit.record(() -> generationMetrics.observeCall(modelName, attempt, call));
+            });
+        } catch (RuntimeException e) {
+            generationMetrics.recordError(modelName, e);
+            throw e;
+        }
+    }
+
+    private static boolean isTruncated(ChatResponse chatResponse) {
+        Generation result = chatResponse.getResult();
+        return result != null && result.getMetadata() != null
+            && "length".equalsIgnoreCase(result.getMetadata().getFinishReason());
+    }
+
+    /**
+     * 생성 결과를 스트리밍으로 받으며 누적 글자수를 세다가, 로컬 보정으로도 맞출 수 없을 만큼 제한을 넘으면
+     * 업스트림 호출을 취소합니다. 잘린 앞부분을 그대로 반환하므로 글자수 초과로 판정되어 요약/보정 단계의 초안이 됩니다.
+     */
+    private ChatResponse streamUntilOverrun(ResumeGenerationRequest request, AIModelType modelType, int attempt,
+                                            Prompt prompt) {
+        int maxLength = request.getWordLimit();
+        double allowedOvershoot = maxLength * overrunMargin();
+        StringBuilder generated = new StringBuilder(maxLength + 256);
+        AtomicBoolean aborted = new AtomicBoolean();
+        AtomicReference<String> finishReason = new AtomicReference<>();
+
+        try {
+            withDeadline(streamingChatClient.stream(prompt), callTimeouts.budgetFor(modelType, maxLength))
+                .doOnNext(chunk -> recordFinishReason(chunk, finishReason))
+                .mapNotNull(this::extractContent)
+                .takeUntil(token -> {
+                    generated.append(token);
+                    if (generated.length() - maxLength > allowedOvershoot
+                            && trimmedLength(generated) - maxLength > allowedOvershoot) {
+                        aborted.set(true);
+                    }
+                    return aborted.get();
+                })
+                .blockLast();
+        } catch (RuntimeException e) {
+            // block 중 인터럽트되면 플래그가 지워지므로 복원 (작업 취소 판정에 사용)
+            if (Exceptions.unwrap(e) instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw e;
+        }
+
+        if (aborted.get()) {
+            log.info("{}번째 시도 - 글자수 초과로 생성 조기 중단 ({}자 수신, 제한 {}자)",
+                attempt, generated.length(), maxLength);
+            generationMetrics.recordEarlyAbort(getModelName(request.getAiModel()), attempt);
+        }
+        // 토큰 예산에 걸려 잘렸는지 판단할 수 있도록 마지막 청크의 finish_reason을 옮겨 담음
+        return new ChatResponse(List.of(new Generation(generated.toString())
+            .withGenerationMetadata(ChatGenerationMetadata.from(finishReason.get(), null))));
+    }
+
+    private static void recordFinishReason(ChatResponse chunk, AtomicReference<String> finishReason) {
+        Generation result = chunk.getResult();
+        if (result != null && result.getMetadata() != null) {
+            String reason = result.getMetadata().getFinishReason();
+            if (reason != null && !reason.isBlank()) {
+                finishReason.set(reason);
+            }
+        }
+    }
+
+    /**
+     * 로컬 보정 비율보다 작으면 안 됨 - 잘린 결과를 로컬 보정이 받아들이면 결말 없는 글이 그대로 반환됨
+     */
+    private double overrunMargin() {
+        GenerationProperties.LocalFit localFit = generationProperties.getLocalFit();
+        double margin = generationProperties.getEarlyAbort().getOverrunMargin();
+        return localFit.isEnabled() ? Math.max(margin, localFit.getMaxOvershootRatio()) : margin;
+    }
+
+    private static int trimmedLength(CharSequence text) {
+        int end = text.length();
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private Prompt buildChatPrompt(ResumeGenerationRequest request, TemplateName template,
+                                   LengthCalibration.Target target, float temperature) {
+        // Spring AI ChatClient 사용 (0.8.1 버전) - 고정 시스템 메시지 + 요청별 사용자 메시지
+        return new Prompt(
+            promptTemplates.renderMessages(template,
+                new PromptContext(request, target.promptMin(), target.promptMax())),
+            // 예상 최대 글자수에 맞춘 토큰 예산 (초과 생성 방지)
+            chatOptions(request, temperature, tokenBudget.maxOutputTokens(request, target.expectedMaxLength()))
+        );
+    }
+
+    private OpenAiChatOptions chatOptions(ResumeGenerationRequest request, Float temperature, int maxTokens) {
+        return OpenAiChatOptions.builder()
+                .withModel(getModelName(request.getAiModel()))
+                .withTemperature(temperature)
+                .withMaxTokens(maxTokens)
+                .build();
+    }
+
+    private String extractContent(ChatResponse chunk) {
+        // 마지막 청크는 finish_reason만 담고 내용이 비어 있을 수 있음
+        if (chunk.getResult() == null || chunk.getResult().getOutput() == null) {
+            return null;
+        }
+        return chunk.getResult().getOutput().getContent();
     }
 
     @Override
@@ -104,6 +730,11 @@ public class OpenAIService implements AIService {
         return modelType == AIModelType.GPT_4 || modelType == AIModelType.GPT_3_5_TURBO;
     }
 
+    @Override
+    public String getProviderName() {
+        return "openai";
+    }
+
     private String getModelName(String aiModel) {
         return switch (aiModel.toLowerCase()) {
             case "gpt-4" -> "gpt-4";
@@ -114,126 +745,49 @@ public class OpenAIService implements AIService {
     }
 
 
-    private String getSystemPrompt() {
-        return """
-            당신은 글자수 준수에 매우 엄격한 전문 자기소개서 작성 전문가입니다.
+    // JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    String getSystemPrompt() {
+        return promptTemplates.systemPrompt();
+    }
 
-            핵심 원칙:
-            1. 요청된 글자수를 반드시 지켜야 합니다 (90% 이상 필수)
-            2. 글자수가 부족하면 구체적인 경험과 성과를 추가하세요
-            3. STAR 기법으로 상황-행동-결과를 상세히 서술하세요
-            4. 회사와 직군에 맞는 전문 키워드를 자연스럽게 포함하세요
-            5. 문법과 어투를 자연스럽게 개선하세요
+    String buildPrompt(ResumeGenerationRequest request, int attempt, double lengthHint) {
+        PromptContext context = promptContext(request, lengthHint);
+        return promptTemplates.render(selectTemplate(context, attempt), context);
+    }
 
-            중요: 글자수가 목표에 미달하면 안 됩니다. 반드시 충분한 분량으로 작성하세요.
-            응답은 개선된 자기소개서 내용만 제공하고, 추가 설명은 포함하지 마세요.
-            """;
+    List<Message> buildMessages(ResumeGenerationRequest request, int attempt, double lengthHint) {
+        PromptContext context = promptContext(request, lengthHint);
+        return promptTemplates.renderMessages(selectTemplate(context, attempt), context);
     }
 
-    private String buildPrompt(ResumeGenerationRequest request, int attempt) {
-        int targetMinLength = (int) (request.getWordLimit() * 0.9);
-        int targetMaxLength = request.getWordLimit();
+    private PromptContext promptContext(ResumeGenerationRequest request, double lengthHint) {
+        int targetMinLength = (int) (request.getWordLimit() * 0.9 * lengthHint);
+        int targetMaxLength = (int) (request.getWordLimit() * lengthHint);
+        return new PromptContext(request, targetMinLength, targetMaxLength);
+    }
 
+    private TemplateName selectTemplate(PromptContext context, int attempt) {
         if (attempt > 1) {
-            int currentLength = request.getDraft().length();
+            int currentLength = context.currentLength();
 
             // 글자수 부족시 확장 요청
-            if (currentLength < targetMinLength) {
-                int needMore = targetMinLength - currentLength;
-                log.info("재시도 - 확장 필요: 현재 {}자, 목표 {}자, {}자 더 필요", currentLength, targetMinLength, needMore);
-
-                return String.format("""
-                    다음 자기소개서를 정확히 %d자 이상 %d자 이하로 확장해주세요.
-
-                    현재 내용: %s
-                    (현재 %d자)
-
-                    요구사항:
-                    1. 기존 내용의 핵심은 유지하되, 구체적인 세부사항을 추가하세요
-                    2. STAR 기법을 활용해 상황(Situation), 행동(Action), 결과(Result)를 더 자세히 서술하세요
-                    3. 수치나 구체적 성과가 있다면 더 상세히 기술하세요
-                    4. 반드시 %d자 이상 %d자 이하로 작성하세요
-                    5. 불필요한 반복이나 장황한 표현은 피하세요
-
-                    목표 글자수: %d자~%d자 (현재보다 %d자 더 필요)
-                    """,
-                    targetMinLength,
-                    targetMaxLength,
-                    request.getDraft(),
-                    currentLength,
-                    targetMinLength,
-                    targetMaxLength,
-                    targetMinLength,
-                    targetMaxLength,
-                    needMore
-                );
+            if (currentLength < context.targetMin()) {
+                log.info("재시도 - 확장 필요: 현재 {}자, 목표 {}자, {}자 더 필요",
+                    currentLength, context.targetMin(), context.needMore());
+                return TemplateName.EXPAND;
             }
             // 글자수 초과시 요약 요청
-            else if (currentLength > targetMaxLength) {
-                int needLess = currentLength - targetMaxLength;
-                log.info("재시도 - 요약 필요: 현재 {}자, 목표 {}자, {}자 줄여야 함", currentLength, targetMaxLength, needLess);
-
-                return String.format("""
-                    다음 자기소개서를 정확히 %d자 이하로 요약해주세요.
-
-                    현재 내용: %s
-                    (현재 %d자)
-
-                    요구사항:
-                    1. 핵심 메시지와 중요한 성과는 반드시 유지하세요
-                    2. 중복되거나 부차적인 내용을 제거하세요
-                    3. 문장을 더 간결하고 명확하게 수정하세요
-                    4. 반드시 %d자 이상 %d자 이하로 작성하세요
-                    5. 전체적인 논리 구조는 유지하세요
-
-                    목표 글자수: %d자~%d자 (현재보다 %d자 줄여야 함)
-                    """,
-                    targetMaxLength,
-                    request.getDraft(),
-                    currentLength,
-                    targetMinLength,
-                    targetMaxLength,
-                    targetMinLength,
-                    targetMaxLength,
-                    needLess
-                );
+            else if (currentLength > context.targetMax()) {
+                log.info("재시도 - 요약 필요: 현재 {}자, 목표 {}자, {}자 줄여야 함",
+                    currentLength, context.targetMax(), context.needLess());
+                return TemplateName.SUMMARIZE;
             }
         }
 
-        return String.format("""
-            자기소개서 문항: %s
-
-            초안 내용: %s
-
-            지원 회사: %s
-            지원 직군: %s
-
-            위 정보를 바탕으로 전문적이고 매력적인 자기소개서로 개선해주세요.
-
-            중요한 요구사항:
-            1. 반드시 %d자 이상 %d자 이하로 작성하세요
-            2. 두괄식으로 문단마다 주제가 되는 말을 앞에다 배치해주세요
-            3. STAR 기법(Situation, Task, Action, Result)을 활용하세요
-            4. 구체적인 경험과 성과를 포함하세요
-            5. %s와 %s 분야에 적합한 키워드를 자연스럽게 포함하세요
-            6. 글자수를 정확히 지켜주세요
-
-            글자수 확인: 최종 결과물이 %d자~%d자 범위에 있는지 반드시 확인하고 작성하세요.
-            """,
-            request.getQuestion(),
-            request.getDraft(),
-            request.getCompany(),
-            request.getPosition(),
-            targetMinLength,
-            targetMaxLength,
-            request.getCompany(),
-            request.getPosition(),
-            targetMinLength,
-            targetMaxLength
-        );
+        return TemplateName.INITIAL;
     }
 
-    private List<String> generateComments(ResumeGenerationRequest request, int attempt, int actualWordCount) {
+    List<String> generateComments(ResumeGenerationRequest request, int attempt, int actualWordCount) {
         int minTarget = (int) (request.getWordLimit() * 0.9);
         int maxTarget = request.getWordLimit();
 
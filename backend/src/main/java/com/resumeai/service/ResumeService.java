@@ -3,9 +3,19 @@ package com.resumeai.service;
 import com.resumeai.dto.AIModelType;
 import com.resumeai.dto.ResumeGenerationRequest;
 import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.dto.ResumeStreamEvent;
+import com.resumeai.service.batch.GenerationBatcher;
+import com.resumeai.service.cache.ResumeResponseCache;
+import com.resumeai.service.cache.SemanticResponseCache;
+import com.resumeai.service.metrics.GenerationMetrics;
+import com.resumeai.service.routing.AIServiceRouter;
+import com.resumeai.service.session.IncrementalGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -13,6 +23,12 @@ import org.springframework.stereotype.Service;
 public class ResumeService {
 
     private final OpenAIService openAIService;
+    private final AIServiceRouter aiServiceRouter;
+    private final ResumeResponseCache responseCache;
+    private final SemanticResponseCache semanticCache;
+    private final GenerationBatcher generationBatcher;
+    private final GenerationMetrics generationMetrics;
+    private final IncrementalGenerator incrementalGenerator;
 
     public ResumeGenerationResponse generateResume(ResumeGenerationRequest request) {
         try {
@@ -21,13 +37,29 @@ public class ResumeService {
 
             AIModelType modelType = AIModelType.fromString(request.getAiModel());
 
-            // 현재는 OpenAI만 지원
-            if (!openAIService.isModelSupported(modelType)) {
+            if (!aiServiceRouter.isModelSupported(modelType)) {
                 log.warn("지원하지 않는 AI 모델: {}", request.getAiModel());
+                generationMetrics.recordFailure("unsupported_model");
                 return ResumeGenerationResponse.error("지원하지 않는 AI 모델입니다.");
             }
 
-            ResumeGenerationResponse response = openAIService.generateResume(request);
+            // 세션 요청이면 바뀐 문단만 다시 생성
+            Optional<ResumeGenerationResponse> incremental = incrementalGenerator.tryGenerate(request);
+            if (incremental.isPresent()) {
+                log.info("자소서 부분 재생성 성공 - 길이: {} 글자", incremental.get().getImprovedResume().length());
+                return incremental.get();
+            }
+
+            // 재시도 중 초안이 바뀔 수 있으므로 세션에는 원본 초안을 기록
+            ResumeGenerationRequest original = request.getSessionId() != null ? request.copy() : null;
+
+            // 정확히 같은 요청 → 거의 같은 요청 → 생성 순으로 확인
+            ResumeGenerationResponse response = responseCache.getOrGenerate(request,
+                () -> semanticCache.getOrGenerate(request, () -> generationBatcher.submit(request)));
+
+            if (original != null) {
+                incrementalGenerator.remember(original, response);
+            }
 
             if (response.getError() != null) {
                 log.error("자소서 생성 실패: {}", response.getError());
@@ -39,7 +71,23 @@ public class ResumeService {
 
         } catch (Exception e) {
             log.error("자소서 생성 중 예외 발생: ", e);
+            generationMetrics.recordFailure("exception");
             return ResumeGenerationResponse.error("서비스 처리 중 오류가 발생했습니다.");
         }
     }
+
+    public Flux<ResumeStreamEvent> streamResume(ResumeGenerationRequest request) {
+        log.info("자소서 스트리밍 요청 - 회사: {}, 직군: {}, 모델: {}",
+            request.getCompany(), request.getPosition(), request.getAiModel());
+
+        AIModelType modelType = AIModelType.fromString(request.getAiModel());
+
+        if (!openAIService.isModelSupported(modelType)) {
+            log.warn("지원하지 않는 AI 모델: {}", request.getAiModel());
+            generationMetrics.recordFailure("unsupported_model");
+            return Flux.just(ResumeStreamEvent.error("지원하지 않는 AI 모델입니다."));
+        }
+
+        return openAIService.streamResume(request);
+    }
 }
\ No newline at end of file
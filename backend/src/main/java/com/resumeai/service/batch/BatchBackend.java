@@ -0,0 +1,16 @@
+package com.resumeai.service.batch;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 묶인 요청들을 실제 AI 제공자로 보내는 방식입니다.
+ * 반환 목록의 순서는 입력 요청 순서와 같아야 합니다.
+ */
+public interface BatchBackend {
+
+    List<CompletableFuture<ResumeGenerationResponse>> dispatch(BatchKey key, List<ResumeGenerationRequest> requests);
+}
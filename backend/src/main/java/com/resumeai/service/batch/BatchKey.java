@@ -0,0 +1,14 @@
+package com.resumeai.service.batch;
+
+import com.resumeai.dto.AIModelType;
+import com.resumeai.dto.ResumeGenerationRequest;
+
+/**
+ * 같은 배치로 묶을 수 있는 요청의 기준입니다. 같은 모델을 쓰는 요청끼리 묶습니다.
+ */
+public record BatchKey(AIModelType modelType) {
+
+    public static BatchKey of(ResumeGenerationRequest request) {
+        return new BatchKey(AIModelType.fromString(request.getAiModel()));
+    }
+}
@@ -0,0 +1,185 @@
+package com.resumeai.service.batch;
+
+import com.resumeai.config.BatchingProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.cache.RequestFingerprint;
+import com.resumeai.service.routing.AIServiceRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ResumeService와 AI 제공자 라우터 사이에서 짧은 시간 동안 요청을 모아 배치로 보냅니다.
+ *
+ * <p>모인 요청은 {@link BatchKey}(모델) 기준으로 묶고, 묶음 안의 동일 요청은 한 번만 보낸 뒤
+ * 결과를 기다리는 모든 호출자에게 나눠 줍니다. 실제 전송은 {@link BatchBackend}가 담당합니다.
+ * 비활성화 상태에서는 라우터를 바로 호출합니다.
+ */
+@Slf4j
+@Component
+public class GenerationBatcher {
+
+    private final BatchingProperties properties;
+    private final AIServiceRouter aiServiceRouter;
+    private final BatchBackend backend;
+    private final BlockingQueue<PendingRequest> queue;
+
+    private final DistributionSummary batchSize;
+    private final Counter deduplicated;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public GenerationBatcher(BatchingProperties properties, AIServiceRouter aiServiceRouter, BatchBackend backend,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.aiServiceRouter = aiServiceRouter;
+        this.backend = backend;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("resume.batch.queue.size", queue, BlockingQueue::size)
+            .description("배치 대기열에 쌓인 요청 수")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("resume.batch.size")
+            .description("한 번에 전송한 묶음 크기 (중복 제거 후)")
+            .register(meterRegistry);
+        this.deduplicated = Counter.builder("resume.batch.deduplicated")
+            .description("묶음 안에서 중복으로 합쳐진 요청 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        dispatcher = Thread.ofPlatform().name("generation-batcher").daemon().start(this::dispatchLoop);
+        log.info("요청 배치 활성화 - 대기 시간: {}ms, 최대 묶음: {}",
+            properties.getWindow().toMillis(), properties.getMaxBatchSize());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    public ResumeGenerationResponse submit(ResumeGenerationRequest request) {
+        if (!properties.isEnabled()) {
+            return aiServiceRouter.generateResume(request);
+        }
+
+        PendingRequest pending = new PendingRequest(request, RequestFingerprint.of(request), new CompletableFuture<>());
+        try {
+            if (!queue.offer(pending, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("배치 대기열 포화 - 요청 거절 (대기 {}건)", queue.size());
+                return ResumeGenerationResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return pending.result().get(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResumeGenerationResponse.error("요청 처리가 중단되었습니다.");
+        } catch (TimeoutException e) {
+            log.error("배치 요청 응답 대기 시간 초과");
+            return ResumeGenerationResponse.error("AI 서비스 응답 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                log.warn("배치 요청 거절: {}", e.getCause().getMessage());
+                return ResumeGenerationResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            log.error("배치 요청 처리 중 오류 발생: {}", e.getCause().getMessage());
+            return ResumeGenerationResponse.error("AI 서비스 호출 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingRequest first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PendingRequest> window = new ArrayList<>();
+                window.add(first);
+                long deadline = System.nanoTime() + properties.getWindow().toNanos();
+                while (window.size() < properties.getMaxBatchSize()) {
+                    PendingRequest next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    window.add(next);
+                }
+
+                dispatch(window);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("배치 전송 중 오류 발생: ", e);
+            }
+        }
+    }
+
+    private void dispatch(List<PendingRequest> window) {
+        Map<BatchKey, Map<String, List<PendingRequest>>> groups = new LinkedHashMap<>();
+        for (PendingRequest pending : window) {
+            groups.computeIfAbsent(BatchKey.of(pending.request()), key -> new LinkedHashMap<>())
+                .computeIfAbsent(pending.fingerprint(), fingerprint -> new ArrayList<>())
+                .add(pending);
+        }
+
+        groups.forEach((key, byFingerprint) -> {
+            List<List<PendingRequest>> waiters = new ArrayList<>(byFingerprint.values());
+            List<ResumeGenerationRequest> unique = waiters.stream()
+                .map(sameRequests -> sameRequests.get(0).request())
+                .toList();
+
+            batchSize.record(unique.size());
+            int duplicates = waiters.stream().mapToInt(List::size).sum() - unique.size();
+            if (duplicates > 0) {
+                deduplicated.increment(duplicates);
+            }
+            log.debug("배치 전송 - 모델: {}, 요청 {}건 (중복 {}건 제거)", key.modelType(), unique.size(), duplicates);
+
+            List<CompletableFuture<ResumeGenerationResponse>> results = backend.dispatch(key, unique);
+            for (int i = 0; i < results.size(); i++) {
+                List<PendingRequest> sameRequests = waiters.get(i);
+                results.get(i).whenComplete((response, error) -> sameRequests.forEach(pending -> {
+                    if (error != null) {
+                        pending.result().completeExceptionally(error);
+                    } else {
+                        pending.result().complete(response);
+                    }
+                }));
+            }
+        });
+    }
+
+    private record PendingRequest(ResumeGenerationRequest request, String fingerprint,
+                                  CompletableFuture<ResumeGenerationResponse> result) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.resumeai.service.batch;
+
+import com.resumeai.config.BatchingProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.routing.AIServiceRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 안의 요청을 동시 호출 수 한도 안에서 병렬로 보냅니다.
+ * 한도에 도달하면 디스패처가 대기하므로 대기열이 차고, 제출 측에서 배압이 걸립니다.
+ * permit-timeout 동안 자리가 나지 않거나 디스패처가 중단되면 묶음의 남은 요청은 거절로 완료합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "resume-ai.batching", name = "backend", havingValue = "parallel", matchIfMissing = true)
+public class ParallelFanOutBackend implements BatchBackend {
+
+    private final AIServiceRouter aiServiceRouter;
+    private final ExecutorService aiCallExecutor;
+    private final Semaphore permits;
+    private final long permitTimeoutNanos;
+
+    public ParallelFanOutBackend(AIServiceRouter aiServiceRouter, ExecutorService aiCallExecutor,
+                                 BatchingProperties batchingProperties) {
+        this.aiServiceRouter = aiServiceRouter;
+        this.aiCallExecutor = aiCallExecutor;
+        this.permits = new Semaphore(batchingProperties.getMaxConcurrency());
+        this.permitTimeoutNanos = batchingProperties.getPermitTimeout().toNanos();
+    }
+
+    @Override
+    public List<CompletableFuture<ResumeGenerationResponse>> dispatch(BatchKey key,
+                                                                       List<ResumeGenerationRequest> requests) {
+        List<CompletableFuture<ResumeGenerationResponse>> results = new ArrayList<>(requests.size());
+        for (ResumeGenerationRequest request : requests) {
+            if (!acquire()) {
+                log.warn("동시 호출 자리 대기 실패 - 묶음의 남은 요청 {}건 거절 (모델: {})",
+                    requests.size() - results.size(), key.modelType());
+                while (results.size() < requests.size()) {
+                    results.add(CompletableFuture.failedFuture(
+                        new RejectedExecutionException("동시 호출 한도 대기 시간 초과")));
+                }
+                break;
+            }
+            results.add(CompletableFuture
+                .supplyAsync(() -> aiServiceRouter.generateResume(request), aiCallExecutor)
+                .whenComplete((response, error) -> permits.release()));
+        }
+        return results;
+    }
+
+    /**
+     * 디스패처 스레드가 중단되면 인터럽트 상태를 되살려 배치 루프가 종료되게 합니다.
+     */
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(permitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.resumeai.service.bulk;
+
+import com.resumeai.config.BulkProperties;
+import com.resumeai.dto.BulkGenerationResult;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.dto.ResumeStreamEvent;
+import com.resumeai.service.ResumeService;
+import com.resumeai.service.cache.RequestFingerprint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 한 지원서의 여러 문항을 병렬로 생성하고, 끝나는 순서대로 결과를 내보냅니다.
+ *
+ * <p>같은 문항·초안은 한 번만 생성해 해당 위치 모두에 결과를 보냅니다. 요청 하나의 동시 생성 수는
+ * max-concurrency로 제한되므로 전체 시간은 대략 가장 느린 문항 시간에 가까워집니다.
+ * 각 문항은 단건 API와 같은 경로(캐시, 배치, 라우팅)를 거칩니다.
+ *
+ * <p>문항은 전용 스케줄러에서 생성하며, 스레드 수(global-max-concurrency)와 대기 문항 수(max-queued)로
+ * 모든 일괄 요청을 합친 동시 생성 수를 제한합니다. 대기열까지 차면 해당 문항은 오류 결과로 보냅니다.
+ */
+@Slf4j
+@Service
+public class BulkGenerationService {
+
+    private final BulkProperties properties;
+    private final ResumeService resumeService;
+    private final Scheduler scheduler;
+    private final Counter deduplicated;
+    private final Counter rejected;
+
+    public BulkGenerationService(BulkProperties properties, ResumeService resumeService, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.resumeService = resumeService;
+        this.scheduler = Schedulers.newBoundedElastic(properties.getGlobalMaxConcurrency(), properties.getMaxQueued(),
+            "bulk-generation", 60, true);
+        this.deduplicated = Counter.builder("resume.bulk.deduplicated")
+            .description("일괄 생성 요청 안에서 중복으로 합쳐진 문항 수")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("resume.bulk.rejected")
+            .description("전체 동시 생성 한도와 대기열이 가득 차 거절한 문항 수")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+
+    public Flux<ResumeStreamEvent> generate(List<ResumeGenerationRequest> requests) {
+        // 같은 문항·초안은 위치만 모아 한 번만 생성
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            positions.computeIfAbsent(RequestFingerprint.of(requests.get(i)), key -> new ArrayList<>()).add(i);
+        }
+        int duplicates = requests.size() - positions.size();
+        if (duplicates > 0) {
+            deduplicated.increment(duplicates);
+        }
+
+        log.info("일괄 생성 시작 - 문항 {}개 (중복 {}개 제외), 동시 {}개",
+            requests.size(), duplicates, properties.getMaxConcurrency());
+
+        return Flux.fromIterable(positions.values())
+            .flatMap(indexes -> generateOne(requests, indexes), properties.getMaxConcurrency())
+            .concatWith(Mono.fromSupplier(() -> {
+                log.info("일괄 생성 완료 - 문항 {}개", requests.size());
+                return ResumeStreamEvent.done(requests.size());
+            }));
+    }
+
+    private Flux<ResumeStreamEvent> generateOne(List<ResumeGenerationRequest> requests, List<Integer> indexes) {
+        ResumeGenerationRequest request = requests.get(indexes.get(0));
+        return Mono.fromCallable(() -> resumeService.generateResume(request.copy()))
+            .subscribeOn(scheduler)
+            .onErrorResume(RejectedExecutionException.class, e -> {
+                log.warn("일괄 생성 대기열 초과 - 문항 {}개 거절", indexes.size());
+                rejected.increment(indexes.size());
+                return Mono.just(ResumeGenerationResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            })
+            .flatMapIterable(response -> indexes.stream()
+                .map(index -> ResumeStreamEvent.result(
+                    new BulkGenerationResult(index, requests.get(index).getQuestion(), response)))
+                .toList());
+    }
+}
@@ -0,0 +1,139 @@
+package com.resumeai.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.dto.ResumeGenerationResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 응답 캐시의 로컬 디스크 계층입니다. 키마다 JSON 파일 하나를 저장하며,
+ * 파일 수정 시각으로 TTL을 판단합니다. 쓰기는 별도 스레드에서 수행해 요청 경로를 막지 않으며,
+ * 쓸 때마다 가장 오래 전에 쓴 항목부터 지워 최대 개수를 유지합니다.
+ */
+@Slf4j
+class DiskResponseStore implements AutoCloseable {
+
+    private final Path directory;
+    private final Duration ttl;
+    private final long maximumEntries;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("response-cache-writer").daemon().factory());
+
+    // 쓴 순서대로의 키 (가장 오래된 것이 앞). 생성자와 쓰기 스레드에서만 접근
+    private final LinkedHashSet<String> keys = new LinkedHashSet<>();
+
+    DiskResponseStore(Path directory, Duration ttl, long maximumEntries, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.ttl = ttl;
+        this.maximumEntries = maximumEntries;
+        this.objectMapper = objectMapper;
+        cleanUp();
+    }
+
+    Optional<ResumeGenerationResponse> get(String key) {
+        Path file = directory.resolve(key + ".json");
+        try {
+            if (!Files.exists(file) || isExpired(Files.getLastModifiedTime(file))) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(file.toFile(), ResumeGenerationResponse.class));
+        } catch (IOException e) {
+            log.warn("디스크 캐시 읽기 실패 ({}): {}", file.getFileName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void putAsync(String key, ResumeGenerationResponse response) {
+        writer.execute(() -> {
+            Path file = directory.resolve(key + ".json");
+            Path temp = directory.resolve(key + ".tmp");
+            try {
+                objectMapper.writeValue(temp.toFile(), response);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                keys.remove(key);
+                keys.add(key);
+                evictOverflow();
+            } catch (IOException e) {
+                log.warn("디스크 캐시 쓰기 실패 ({}): {}", file.getFileName(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 만료된 파일을 지우고, 남은 파일이 최대 개수를 넘으면 오래된 것부터 지웁니다.
+     */
+    private void cleanUp() throws IOException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(path -> path.toString().endsWith(".json")).toList();
+        }
+
+        List<Path> live = files.stream()
+            .filter(path -> {
+                if (isExpired(lastModified(path))) {
+                    delete(path);
+                    return false;
+                }
+                return true;
+            })
+            .sorted(Comparator.comparing(DiskResponseStore::lastModified).reversed())
+            .toList();
+
+        live.stream().skip(maximumEntries).forEach(this::delete);
+        live.stream().limit(maximumEntries).toList().reversed()
+            .forEach(path -> keys.add(keyOf(path)));
+        log.info("디스크 캐시 로드 - 유효 항목 {}개 ({})", Math.min(live.size(), maximumEntries), directory);
+    }
+
+    private void evictOverflow() {
+        while (keys.size() > maximumEntries) {
+            String eldest = keys.removeFirst();
+            delete(directory.resolve(eldest + ".json"));
+        }
+    }
+
+    private static String keyOf(Path path) {
+        String name = path.getFileName().toString();
+        return name.substring(0, name.length() - ".json".length());
+    }
+
+    private boolean isExpired(FileTime lastModified) {
+        return lastModified.toInstant().plus(ttl).isBefore(Instant.now());
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 삭제 실패 ({}): {}", path.getFileName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+    }
+}
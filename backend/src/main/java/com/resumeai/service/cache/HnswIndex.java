@@ -0,0 +1,228 @@
+package com.resumeai.service.cache;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 단위 벡터용 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스입니다.
+ * 유사도는 내적(코사인)이며 벡터는 float 배열 그대로 보관합니다.
+ *
+ * <p>노드 삭제는 표시만 하고 그래프에는 남겨 탐색 경로로 계속 사용합니다. 삭제 노드가 쌓이면
+ * 호출 측이 살아 있는 노드만으로 인덱스를 다시 만듭니다. 동기화는 호출 측 책임입니다 (검색끼리는 동시 실행 가능).
+ */
+final class HnswIndex {
+
+    private final int capacity;
+    private final int maxLinks;
+    private final int maxLinksLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+
+    private final float[][] vectors;
+    // links[node][level] = 이웃 노드 번호, linkCounts[node][level] = 유효한 이웃 수
+    private final int[][][] links;
+    private final int[][] linkCounts;
+    private final BitSet deleted = new BitSet();
+
+    private int size;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+
+    HnswIndex(int capacity, int maxLinks, int efConstruction) {
+        this.capacity = capacity;
+        this.maxLinks = maxLinks;
+        this.maxLinksLevel0 = maxLinks * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(maxLinks);
+        this.vectors = new float[capacity][];
+        this.links = new int[capacity][][];
+        this.linkCounts = new int[capacity][];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * @return 새 노드 번호
+     */
+    int add(float[] vector) {
+        if (isFull()) {
+            throw new IllegalStateException("HNSW 인덱스 용량 초과");
+        }
+        int node = size++;
+        int level = randomLevel();
+        vectors[node] = vector;
+        links[node] = new int[level + 1][];
+        linkCounts[node] = new int[level + 1];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[(l == 0 ? maxLinksLevel0 : maxLinks) + 1];
+        }
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            topLevel = level;
+            return node;
+        }
+
+        int current = entryPoint;
+        for (int l = topLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            List<Scored> candidates = searchLayer(vector, current, efConstruction, l);
+            int limit = l == 0 ? maxLinksLevel0 : maxLinks;
+            for (int i = 0; i < Math.min(maxLinks, candidates.size()); i++) {
+                int neighbor = candidates.get(i).node();
+                connect(node, neighbor, l, limit);
+                connect(neighbor, node, l, limit);
+            }
+            current = candidates.get(0).node();
+        }
+
+        if (level > topLevel) {
+            entryPoint = node;
+            topLevel = level;
+        }
+        return node;
+    }
+
+    float[] vector(int node) {
+        return vectors[node];
+    }
+
+    void markDeleted(int node) {
+        deleted.set(node);
+    }
+
+    /**
+     * 삭제되지 않은 노드 중 유사도가 높은 순으로 최대 k개를 찾습니다.
+     */
+    List<Scored> search(float[] query, int k, int ef) {
+        if (entryPoint < 0) {
+            return List.of();
+        }
+        int current = entryPoint;
+        for (int l = topLevel; l > 0; l--) {
+            current = greedyClosest(query, current, l);
+        }
+
+        List<Scored> results = new ArrayList<>(k);
+        for (Scored scored : searchLayer(query, current, Math.max(ef, k), 0)) {
+            if (!deleted.get(scored.node())) {
+                results.add(scored);
+                if (results.size() == k) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, vectors[current]);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][level];
+            for (int i = 0, n = linkCounts[current][level]; i < n; i++) {
+                float score = similarity(query, vectors[neighbors[i]]);
+                if (score > best) {
+                    best = score;
+                    current = neighbors[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 계층에서 ef개 후보를 유지하며 탐색합니다. 결과는 유사도 내림차순입니다.
+     */
+    private List<Scored> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Scored> candidates = new PriorityQueue<>(Comparator.comparingDouble(Scored::score).reversed());
+        PriorityQueue<Scored> found = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+
+        Scored first = new Scored(start, similarity(query, vectors[start]));
+        visited.set(start);
+        candidates.add(first);
+        found.add(first);
+
+        while (!candidates.isEmpty()) {
+            Scored candidate = candidates.poll();
+            if (found.size() >= ef && candidate.score() < found.peek().score()) {
+                break;
+            }
+            int[] neighbors = links[candidate.node()][level];
+            for (int i = 0, n = linkCounts[candidate.node()][level]; i < n; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = similarity(query, vectors[neighbor]);
+                if (found.size() < ef || score > found.peek().score()) {
+                    Scored scored = new Scored(neighbor, score);
+                    candidates.add(scored);
+                    found.add(scored);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        List<Scored> sorted = new ArrayList<>(found);
+        sorted.sort(Comparator.comparingDouble(Scored::score).reversed());
+        return sorted;
+    }
+
+    /**
+     * from의 이웃 목록에 to를 추가하고, 한도를 넘으면 가장 유사도가 낮은 이웃을 뺍니다.
+     */
+    private void connect(int from, int to, int level, int limit) {
+        int[] neighbors = links[from][level];
+        int count = linkCounts[from][level];
+        neighbors[count++] = to;
+        if (count > limit) {
+            int weakest = 0;
+            float weakestScore = Float.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                float score = similarity(vectors[from], vectors[neighbors[i]]);
+                if (score < weakestScore) {
+                    weakestScore = score;
+                    weakest = i;
+                }
+            }
+            neighbors[weakest] = neighbors[--count];
+        }
+        linkCounts[from][level] = count;
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return (int) (-Math.log(uniform) * levelMultiplier);
+    }
+
+    static float similarity(float[] a, float[] b) {
+        float dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+
+    record Scored(int node, float score) {
+    }
+}
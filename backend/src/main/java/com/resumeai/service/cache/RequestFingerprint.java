@@ -0,0 +1,52 @@
+package com.resumeai.service.cache;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 생성 요청의 정규화된 해시를 계산합니다.
+ * 앞뒤 공백과 연속 공백 차이, 모델 이름의 대소문자 차이는 같은 요청으로 취급합니다.
+ * 문항·초안 등 본문의 대소문자는 생성 결과에 영향을 주므로 구분합니다.
+ */
+public final class RequestFingerprint {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char SEPARATOR = '\u0000';
+
+    private RequestFingerprint() {
+    }
+
+    public static String of(ResumeGenerationRequest request) {
+        StringBuilder canonical = new StringBuilder(request.getDraft().length() + 512)
+            .append(normalize(request.getQuestion())).append(SEPARATOR)
+            .append(normalize(request.getDraft())).append(SEPARATOR)
+            .append(normalize(request.getCompany())).append(SEPARATOR)
+            .append(normalize(request.getPosition())).append(SEPARATOR)
+            .append(request.getWordLimit()).append(SEPARATOR)
+            .append(normalize(request.getAiModel()).toLowerCase(Locale.ROOT)).append(SEPARATOR)
+            .append(request.getIncludeComments());
+
+        return HexFormat.of().formatHex(sha256().digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.strip()).replaceAll(" ");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
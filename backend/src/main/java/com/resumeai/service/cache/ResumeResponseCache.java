@@ -0,0 +1,149 @@
+package com.resumeai.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumeai.config.ResponseCacheProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 생성 요청(정규화된 해시 기준)의 응답을 재사용하는 캐시입니다.
+ *
+ * <ul>
+ *   <li>메모리 계층: Caffeine (W-TinyLFU 축출, 최대 개수 + TTL)</li>
+ *   <li>디스크 계층(선택): 재시작 후에도 유지</li>
+ *   <li>동시에 들어온 동일 요청은 하나의 생성 호출로 합쳐서 결과를 공유</li>
+ * </ul>
+ * 오류 응답은 캐시하지 않습니다. 호출자가 응답에 코멘트를 덧붙일 수 있으므로 저장과 반환 모두 복사본을 사용합니다. 지표는 actuator metrics의 cache.* 와 resume.cache.* 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class ResumeResponseCache implements AutoCloseable {
+
+    private static final String CACHE_NAME = "resume.response";
+
+    private final ResponseCacheProperties properties;
+    private final Cache<String, ResumeGenerationResponse> memory;
+    private final DiskResponseStore disk;
+    private final ConcurrentMap<String, CompletableFuture<ResumeGenerationResponse>> inFlight =
+        new ConcurrentHashMap<>();
+
+    private final Counter diskHits;
+    private final Counter collapsedRequests;
+
+    public ResumeResponseCache(ResponseCacheProperties properties, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.memory = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+        this.disk = properties.getDisk().isEnabled() ? openDisk(properties, objectMapper) : null;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, CACHE_NAME);
+        this.diskHits = Counter.builder("resume.cache.disk.hits")
+            .description("메모리 캐시 미스 후 디스크 캐시에서 찾은 횟수")
+            .register(meterRegistry);
+        this.collapsedRequests = Counter.builder("resume.cache.collapsed")
+            .description("진행 중인 동일 요청에 합쳐진 요청 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답이 있으면 반환하고, 없으면 generator로 생성합니다.
+     * 키는 generator 호출 전에 계산하므로 generator가 요청 객체를 변경해도 영향이 없습니다.
+     */
+    public ResumeGenerationResponse getOrGenerate(ResumeGenerationRequest request,
+                                                  Supplier<ResumeGenerationResponse> generator) {
+        if (!properties.isEnabled()) {
+            return generator.get();
+        }
+
+        String key = RequestFingerprint.of(request);
+
+        Optional<ResumeGenerationResponse> cached = lookup(key);
+        if (cached.isPresent()) {
+            log.info("캐시 적중 - 키: {}", key.substring(0, 12));
+            return cached.get().copy();
+        }
+
+        CompletableFuture<ResumeGenerationResponse> pending = new CompletableFuture<>();
+        CompletableFuture<ResumeGenerationResponse> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            log.info("진행 중인 동일 요청에 합류 - 키: {}", key.substring(0, 12));
+            collapsedRequests.increment();
+            return existing.join().copy();
+        }
+
+        try {
+            ResumeGenerationResponse response = generator.get();
+            if (response.getError() == null && !response.isDegraded()) {
+                store(key, response.copy());
+            }
+            // 합류한 요청은 각자 복사본을 받음
+            pending.complete(response.copy());
+            return response;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private Optional<ResumeGenerationResponse> lookup(String key) {
+        ResumeGenerationResponse response = memory.getIfPresent(key);
+        if (response != null) {
+            return Optional.of(response);
+        }
+        if (disk == null) {
+            return Optional.empty();
+        }
+
+        Optional<ResumeGenerationResponse> fromDisk = disk.get(key);
+        fromDisk.ifPresent(value -> {
+            diskHits.increment();
+            memory.put(key, value);
+        });
+        return fromDisk;
+    }
+
+    private void store(String key, ResumeGenerationResponse response) {
+        memory.put(key, response);
+        if (disk != null) {
+            disk.putAsync(key, response);
+        }
+    }
+
+    private static DiskResponseStore openDisk(ResponseCacheProperties properties, ObjectMapper objectMapper) {
+        try {
+            return new DiskResponseStore(Path.of(properties.getDisk().getDirectory()), properties.getTtl(),
+                properties.getMaximumSize(), objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("디스크 캐시 디렉터리를 열 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.resumeai.service.cache;
+
+import com.resumeai.config.ResponseCacheProperties;
+import com.resumeai.dto.AIModelType;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.LengthFitter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 정확히 같지는 않지만 거의 같은 요청(공백·문장부호 차이, 회사명 표기 차이)의 응답을 재사용하는 캐시입니다.
+ *
+ * <p>요청을 {@link ShingleEmbedder}로 벡터화해 {@link HnswIndex}에서 가장 가까운 이전 요청을 찾습니다.
+ * 유사도가 임계값 이상이고 모델과 초안 속 숫자가 같으면 후보로 보고, 이전 결과의 회사명을 새 표기로 바꾼 뒤
+ * 새 요청의 글자수 범위를 확인합니다. 범위를 조금 넘으면 {@link LengthFitter}로 줄이고, 맞출 수 없으면 재사용하지 않습니다.
+ *
+ * <p>항목 수는 최대 개수로 제한하며 오래된 항목부터 축출합니다. 축출된 노드는 인덱스에 삭제 표시만 하고,
+ * 인덱스가 가득 차면 살아 있는 항목만으로 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class SemanticResponseCache {
+
+    private static final int EF_CONSTRUCTION = 100;
+
+    private final ResponseCacheProperties.Semantic properties;
+    private final LengthFitter lengthFitter;
+    private final Clock clock;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Deque<Integer> insertionOrder = new ArrayDeque<>();
+    private HnswIndex index;
+    private Entry[] entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejected;
+
+    public SemanticResponseCache(ResponseCacheProperties cacheProperties, LengthFitter lengthFitter,
+                                 MeterRegistry meterRegistry) {
+        this(cacheProperties, lengthFitter, meterRegistry, Clock.systemUTC());
+    }
+
+    SemanticResponseCache(ResponseCacheProperties cacheProperties, LengthFitter lengthFitter,
+                          MeterRegistry meterRegistry, Clock clock) {
+        this.properties = cacheProperties.getSemantic();
+        this.lengthFitter = lengthFitter;
+        this.clock = clock;
+        this.index = newIndex();
+        this.entries = new Entry[indexCapacity()];
+
+        Gauge.builder("resume.cache.semantic.size", insertionOrder, Deque::size)
+            .description("유사 요청 캐시에 보관 중인 항목 수")
+            .register(meterRegistry);
+        this.hits = Counter.builder("resume.cache.semantic.lookups")
+            .tag("result", "hit")
+            .description("유사 요청 캐시 조회 결과")
+            .register(meterRegistry);
+        this.misses = Counter.builder("resume.cache.semantic.lookups")
+            .tag("result", "miss")
+            .description("유사 요청 캐시 조회 결과")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("resume.cache.semantic.lookups")
+            .tag("result", "length_rejected")
+            .description("유사 요청 캐시 조회 결과")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 재사용할 수 있는 유사 응답이 있으면 반환하고, 없으면 generator로 생성한 뒤 보관합니다.
+     * 벡터와 보관용 요청은 generator 호출 전에 만들어 두므로 generator가 요청 객체를 변경해도 영향이 없습니다.
+     */
+    public ResumeGenerationResponse getOrGenerate(ResumeGenerationRequest request,
+                                                  Supplier<ResumeGenerationResponse> generator) {
+        if (!properties.isEnabled()) {
+            return generator.get();
+        }
+
+        float[] vector = ShingleEmbedder.embed(request);
+        ResumeGenerationRequest original = request.copy();
+
+        Optional<ResumeGenerationResponse> reused = lookup(original, vector);
+        if (reused.isPresent()) {
+            return reused.get();
+        }
+
+        ResumeGenerationResponse response = generator.get();
+        if (response.getError() == null && !response.isDegraded()) {
+            store(original, vector, response);
+        }
+        return response;
+    }
+
+    private Optional<ResumeGenerationResponse> lookup(ResumeGenerationRequest request, float[] vector) {
+        List<Candidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Instant now = clock.instant();
+            for (HnswIndex.Scored scored : index.search(vector, 4, properties.getEfSearch())) {
+                Entry entry = entries[scored.node()];
+                if (scored.score() < properties.getThreshold()) {
+                    break;
+                }
+                if (entry != null && entry.expiresAt().isAfter(now) && entry.isCompatibleWith(request)) {
+                    candidates.add(new Candidate(entry, scored.score()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (candidates.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        for (Candidate candidate : candidates) {
+            Optional<ResumeGenerationResponse> adapted = adapt(candidate, request);
+            if (adapted.isPresent()) {
+                log.info("유사 요청 캐시 적중 - 유사도: {}", String.format("%.3f", candidate.score()));
+                hits.increment();
+                return adapted;
+            }
+        }
+        log.debug("유사 요청 캐시 후보 {}건이 글자수 범위를 맞추지 못함", candidates.size());
+        rejected.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 이전 결과의 회사명을 새 요청의 표기로 바꾸고 새 요청의 글자수 범위를 확인합니다.
+     */
+    private Optional<ResumeGenerationResponse> adapt(Candidate candidate, ResumeGenerationRequest request) {
+        Entry entry = candidate.entry();
+        String resume = replaceCompany(entry.response().getImprovedResume(), entry.company(), request.getCompany());
+
+        int minLength = (int) (request.getWordLimit() * 0.9);
+        int maxLength = request.getWordLimit();
+        if (resume.length() < minLength) {
+            return Optional.empty();
+        }
+        if (resume.length() > maxLength) {
+            Optional<String> fitted = lengthFitter.fit(resume, minLength, maxLength);
+            if (fitted.isEmpty()) {
+                return Optional.empty();
+            }
+            resume = fitted.get();
+        }
+
+        List<String> comments = new ArrayList<>();
+        for (String comment : entry.response().getComments()) {
+            comments.add(replaceCompany(comment, entry.company(), request.getCompany()));
+        }
+        comments.add(String.format("♻️ 거의 같은 이전 요청의 결과를 재사용했습니다 (유사도 %.2f, %d자)",
+            candidate.score(), resume.length()));
+        return Optional.of(ResumeGenerationResponse.success(resume, comments));
+    }
+
+    private void store(ResumeGenerationRequest request, float[] vector, ResumeGenerationResponse response) {
+        Entry entry = new Entry(AIModelType.fromString(request.getAiModel()),
+            ShingleEmbedder.numbers(request.getDraft()), request.getCompany(), response, clock.instant().plus(properties.getTtl()));
+
+        lock.writeLock().lock();
+        try {
+            while (insertionOrder.size() >= properties.getMaximumSize()) {
+                int evicted = insertionOrder.pollFirst();
+                entries[evicted] = null;
+                index.markDeleted(evicted);
+            }
+            if (index.isFull()) {
+                rebuild();
+            }
+            int node = index.add(vector);
+            entries[node] = entry;
+            insertionOrder.addLast(node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 항목만 입력 순서대로 새 인덱스에 다시 넣습니다. 쓰기 잠금 안에서 호출합니다.
+     */
+    private void rebuild() {
+        HnswIndex rebuilt = newIndex();
+        Entry[] rebuiltEntries = new Entry[indexCapacity()];
+        Deque<Integer> rebuiltOrder = new ArrayDeque<>(insertionOrder.size());
+        for (int node : insertionOrder) {
+            int newNode = rebuilt.add(index.vector(node));
+            rebuiltEntries[newNode] = entries[node];
+            rebuiltOrder.addLast(newNode);
+        }
+        log.debug("유사 요청 캐시 인덱스 재구성 - 노드 {}개 → {}개", index.size(), rebuilt.size());
+
+        index = rebuilt;
+        entries = rebuiltEntries;
+        insertionOrder.clear();
+        insertionOrder.addAll(rebuiltOrder);
+    }
+
+    private HnswIndex newIndex() {
+        return new HnswIndex(indexCapacity(), properties.getMaxLinks(), EF_CONSTRUCTION);
+    }
+
+    // 삭제 표시된 노드가 최대 개수만큼 쌓이면 재구성
+    private int indexCapacity() {
+        return properties.getMaximumSize() * 2;
+    }
+
+    private static String replaceCompany(String text, String from, String to) {
+        if (from == null || to == null || from.equals(to)) {
+            return text;
+        }
+        return text.replace(from, to);
+    }
+
+    private record Entry(AIModelType modelType, String draftNumbers, String company,
+                         ResumeGenerationResponse response, Instant expiresAt) {
+
+        boolean isCompatibleWith(ResumeGenerationRequest request) {
+            return modelType == AIModelType.fromString(request.getAiModel())
+                && draftNumbers.equals(ShingleEmbedder.numbers(request.getDraft()));
+        }
+    }
+
+    private record Candidate(Entry entry, float score) {
+    }
+}
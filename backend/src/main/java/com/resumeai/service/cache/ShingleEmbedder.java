@@ -0,0 +1,116 @@
+package com.resumeai.service.cache;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 모델 없이 글자 3-gram을 해시해 요청을 고정 길이 단위 벡터로 만듭니다 (feature hashing).
+ *
+ * <p>문항·직군·회사·초안을 각각 별도 구간에 담고 구간마다 가중치를 주므로, 두 벡터의 내적은
+ * 항목별 코사인 유사도의 가중 평균이 됩니다. 공백·문장부호·대소문자 차이는 정규화 단계에서 사라집니다.
+ */
+final class ShingleEmbedder {
+
+    private static final int SHINGLE = 3;
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private static final int QUESTION_WIDTH = 64;
+    private static final int POSITION_WIDTH = 64;
+    private static final int COMPANY_WIDTH = 64;
+    private static final int DRAFT_WIDTH = 256;
+
+    static final int DIMENSIONS = QUESTION_WIDTH + POSITION_WIDTH + COMPANY_WIDTH + DRAFT_WIDTH;
+
+    // 초안이 결과를 좌우하므로 가장 큰 비중, 회사명은 표기 차이만 흡수하도록 작은 비중
+    private static final double QUESTION_WEIGHT = 0.25;
+    private static final double POSITION_WEIGHT = 0.10;
+    private static final double COMPANY_WEIGHT = 0.05;
+    private static final double DRAFT_WEIGHT = 0.60;
+
+    private ShingleEmbedder() {
+    }
+
+    static float[] embed(ResumeGenerationRequest request) {
+        float[] vector = new float[DIMENSIONS];
+        int offset = 0;
+        offset = addField(vector, offset, QUESTION_WIDTH, request.getQuestion(), QUESTION_WEIGHT);
+        offset = addField(vector, offset, POSITION_WIDTH, request.getPosition(), POSITION_WEIGHT);
+        offset = addField(vector, offset, COMPANY_WIDTH, request.getCompany(), COMPANY_WEIGHT);
+        addField(vector, offset, DRAFT_WIDTH, request.getDraft(), DRAFT_WEIGHT);
+        normalize(vector, 0, DIMENSIONS, 1.0);
+        return vector;
+    }
+
+    /**
+     * 초안에 나온 숫자들. 수치는 결과에 그대로 옮겨지는 사실이라 유사도와 별개로 일치해야 재사용합니다.
+     */
+    static String numbers(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder numbers = new StringBuilder();
+        Matcher matcher = NUMBER.matcher(Normalizer.normalize(text, Normalizer.Form.NFKC));
+        while (matcher.find()) {
+            numbers.append(matcher.group()).append(',');
+        }
+        return numbers.toString();
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        folded.codePoints()
+            .filter(Character::isLetterOrDigit)
+            .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private static int addField(float[] vector, int offset, int width, String text, double weight) {
+        String normalized = normalize(text);
+        if (!normalized.isEmpty()) {
+            int windows = Math.max(1, normalized.length() - SHINGLE + 1);
+            for (int i = 0; i < windows; i++) {
+                int hash = hash(normalized, i, Math.min(i + SHINGLE, normalized.length()));
+                int bucket = (hash >>> 1) % width;
+                vector[offset + bucket] += (hash & 1) == 0 ? 1 : -1;
+            }
+            normalize(vector, offset, width, Math.sqrt(weight));
+        }
+        return offset + width;
+    }
+
+    private static void normalize(float[] vector, int offset, int width, double targetNorm) {
+        double sum = 0;
+        for (int i = offset; i < offset + width; i++) {
+            sum += vector[i] * vector[i];
+        }
+        if (sum == 0) {
+            return;
+        }
+        float scale = (float) (targetNorm / Math.sqrt(sum));
+        for (int i = offset; i < offset + width; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+    private static int hash(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        // murmur3 fmix32 - 인접 3-gram이 인접 버킷에 몰리지 않도록 섞음
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
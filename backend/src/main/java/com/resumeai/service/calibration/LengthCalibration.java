@@ -0,0 +1,243 @@
+package com.resumeai.service.calibration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.config.LengthCalibrationProperties;
+import com.resumeai.dto.AIModelType;
+import com.resumeai.service.prompt.TemplateName;
+import com.resumeai.service.stats.RatioStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 모델이 프롬프트에 적힌 글자수 범위를 얼마나 벗어나는지 (모델, 글자수 제한 구간, 프롬프트 템플릿)별로 관측하고,
+ * 첫 시도 프롬프트의 목표 글자수와 max_tokens를 그만큼 보정합니다 (resume-ai.calibration).
+ *
+ * <p>관측값은 실제 글자수 / 프롬프트 목표 범위 중앙값입니다. 평균 비율이 1.1이면 목표를 1/1.1로 줄여 적어야
+ * 결과가 원래 범위의 중앙에 떨어집니다. 보정 계수는 min-factor~max-factor로 제한합니다.
+ * 재시도는 직전 결과 길이를 기준으로 확장/요약하므로 보정하지 않고 관측만 합니다.
+ * 초과 생성 조기 중단으로 잘린 응답은 잘린 길이로 기록되므로 초과 경향이 실제보다 작게 잡히지만 보정 방향은 같습니다.
+ *
+ * <p>상태는 주기적으로 JSON 파일에 저장해 재시작 후에도 이어서 사용합니다.
+ */
+@Slf4j
+@Component
+public class LengthCalibration {
+
+    // 오류 문구 등 비정상 응답이 평균을 끌고 가지 않도록 관측 비율을 제한
+    private static final double MIN_RATIO = 0.2;
+    private static final double MAX_RATIO = 5.0;
+
+    private final LengthCalibrationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int[] bucketBounds;
+    private final String[] bucketLabels;
+    private final ConcurrentMap<Key, RatioStats> stats = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private ScheduledExecutorService saver;
+
+    public LengthCalibration(LengthCalibrationProperties properties, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.bucketBounds = properties.getBuckets().stream().mapToInt(Integer::intValue).sorted().toArray();
+        this.bucketLabels = new String[bucketBounds.length + 1];
+        int lower = 1;
+        for (int i = 0; i < bucketBounds.length; i++) {
+            bucketLabels[i] = lower + "-" + bucketBounds[i];
+            lower = bucketBounds[i] + 1;
+        }
+        bucketLabels[bucketBounds.length] = lower + "+";
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        load();
+        saver = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("length-calibration-saver").daemon().factory());
+        long interval = properties.getSaveInterval().toMillis();
+        saver.scheduleWithFixedDelay(this::save, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (saver != null) {
+            saver.shutdown();
+            save();
+        }
+    }
+
+    /**
+     * 목표 글자수 범위를 보정합니다. 비활성화되었거나 관측이 부족하면 그대로 반환합니다.
+     */
+    public Target calibrate(AIModelType modelType, int wordLimit, TemplateName template, int targetMin, int targetMax) {
+        if (!properties.isEnabled()) {
+            return Target.uncalibrated(targetMin, targetMax);
+        }
+        RatioStats ratio = stats.get(new Key(modelType, bucket(wordLimit), template));
+        if (ratio == null) {
+            return Target.uncalibrated(targetMin, targetMax);
+        }
+        RatioStats.Snapshot snapshot = ratio.snapshot();
+        if (snapshot.samples() < properties.getMinSamples()) {
+            return Target.uncalibrated(targetMin, targetMax);
+        }
+
+        double factor = Math.max(properties.getMinFactor(), Math.min(properties.getMaxFactor(), 1.0 / snapshot.mean()));
+        int promptMin = (int) Math.round(targetMin * factor);
+        int promptMax = (int) Math.round(targetMax * factor);
+        // max_tokens는 보정된 프롬프트로 실제 나올 길이의 상단(평균 + 2σ)에 맞춤
+        int expectedMax = (int) Math.ceil(promptMax * (snapshot.mean() + 2 * snapshot.stdDev()));
+        return new Target(promptMin, promptMax, Math.max(targetMax, expectedMax));
+    }
+
+    /**
+     * 프롬프트에 적은 목표 범위와 실제 글자수를 기록합니다.
+     */
+    public void record(AIModelType modelType, int wordLimit, TemplateName template,
+                       int promptMin, int promptMax, int actualLength) {
+        if (!properties.isEnabled() || promptMax <= 0) {
+            return;
+        }
+        double ratio = actualLength / ((promptMin + promptMax) / 2.0);
+        stats(new Key(modelType, bucket(wordLimit), template))
+            .record(Math.max(MIN_RATIO, Math.min(MAX_RATIO, ratio)));
+        dirty.set(true);
+    }
+
+    /**
+     * 첫 시도 결과가 목표 범위에 들었는지 기록합니다 (resume.generation.first.attempt).
+     */
+    public void recordFirstAttempt(AIModelType modelType, int wordLimit, boolean hit) {
+        Counter.builder("resume.generation.first.attempt")
+            .description("첫 시도 결과의 글자수 범위 적중 여부")
+            .tag("model", modelType.getModelName())
+            .tag("bucket", bucket(wordLimit))
+            .tag("result", hit ? "hit" : "miss")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private String bucket(int wordLimit) {
+        for (int i = 0; i < bucketBounds.length; i++) {
+            if (wordLimit <= bucketBounds[i]) {
+                return bucketLabels[i];
+            }
+        }
+        return bucketLabels[bucketBounds.length];
+    }
+
+    private RatioStats stats(Key key) {
+        RatioStats existing = stats.get(key);
+        return existing != null ? existing : register(key, new RatioStats(properties.getWeight()));
+    }
+
+    private RatioStats register(Key key, RatioStats ratio) {
+        RatioStats registered = stats.putIfAbsent(key, ratio);
+        if (registered != null) {
+            return registered;
+        }
+        Gauge.builder("resume.calibration.ratio", ratio, r -> r.snapshot().mean())
+            .description("실제 글자수 / 프롬프트 목표 글자수 비율 (이동 평균)")
+            .tag("model", key.model().getModelName())
+            .tag("bucket", key.bucket())
+            .tag("variant", key.variant().name().toLowerCase())
+            .register(meterRegistry);
+        return ratio;
+    }
+
+    private void load() {
+        Path file = Path.of(properties.getFile());
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            List<Entry> entries = objectMapper.readValue(file.toFile(), new TypeReference<>() {
+            });
+            Set<String> buckets = Set.of(bucketLabels);
+            int loaded = 0;
+            for (Entry entry : entries) {
+                // 구간 설정이 바뀌었거나 없어진 모델/템플릿의 기록은 버림
+                if (!buckets.contains(entry.bucket())) {
+                    continue;
+                }
+                try {
+                    Key key = new Key(AIModelType.valueOf(entry.model()), entry.bucket(), TemplateName.valueOf(entry.variant()));
+                    register(key, new RatioStats(properties.getWeight(),
+                        new RatioStats.Snapshot(entry.mean(), entry.variance(), entry.samples())));
+                    loaded++;
+                } catch (IllegalArgumentException e) {
+                    log.debug("알 수 없는 글자수 보정 항목 무시: {}", entry);
+                }
+            }
+            log.info("글자수 보정 상태 로드 - {}개 항목 ({})", loaded, file);
+        } catch (IOException e) {
+            log.warn("글자수 보정 상태 읽기 실패 - 처음부터 관측합니다 ({}): {}", file, e.getMessage());
+        }
+    }
+
+    private void save() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        Path file = Path.of(properties.getFile());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        List<Entry> entries = new ArrayList<>(stats.size());
+        stats.forEach((key, ratio) -> {
+            RatioStats.Snapshot snapshot = ratio.snapshot();
+            entries.add(new Entry(key.model().name(), key.bucket(), key.variant().name(),
+                snapshot.mean(), snapshot.variance(), snapshot.samples()));
+        });
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            objectMapper.writeValue(temp.toFile(), entries);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("글자수 보정 상태 저장 실패 ({}): {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 프롬프트에 적을 목표 범위와 max_tokens 계산에 쓸 예상 최대 글자수
+     */
+    public record Target(int promptMin, int promptMax, int expectedMaxLength) {
+
+        public static Target uncalibrated(int targetMin, int targetMax) {
+            return new Target(targetMin, targetMax, targetMax);
+        }
+    }
+
+    private record Key(AIModelType model, String bucket, TemplateName variant) {
+    }
+
+    record Entry(String model, String bucket, String variant, double mean, double variance, long samples) {
+    }
+}
\ No newline at end of file
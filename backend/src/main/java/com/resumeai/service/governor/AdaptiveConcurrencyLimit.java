@@ -0,0 +1,87 @@
+package com.resumeai.service.governor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 방식으로 조정되는 동시 호출 한도입니다.
+ * 정상 응답마다 한도를 1/limit씩 늘리고(한도만큼 성공하면 +1),
+ * 429·5xx·느린 응답이 오면 한도를 절반으로 줄입니다. 한 번 줄인 뒤에는 잠시 추가 감소를 막아
+ * 같은 과부하 구간의 실패가 한도를 연속으로 깎지 않게 합니다.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final double DECREASE_RATIO = 0.5;
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.lastDecreaseNanos = System.nanoTime() - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /**
+     * 한도 안에 자리가 날 때까지 마감 시간까지 기다립니다.
+     */
+    boolean acquire(long deadlineNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(CallOutcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> limit = Math.min(maxLimit, limit + 1.0 / limit);
+                case SLOW, THROTTLED, SERVER_ERROR -> decrease();
+                case CLIENT_ERROR, CANCELLED -> {
+                    // 요청 자체의 문제이거나 호출 측에서 중단했으므로 한도를 조정하지 않음
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos >= DECREASE_COOLDOWN_NANOS) {
+            limit = Math.max(minLimit, limit * DECREASE_RATIO);
+            lastDecreaseNanos = now;
+        }
+    }
+}
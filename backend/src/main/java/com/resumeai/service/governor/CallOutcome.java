@@ -0,0 +1,73 @@
+package com.resumeai.service.governor;
+
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AI 제공자 호출 결과 분류입니다.
+ */
+public enum CallOutcome {
+    SUCCESS,
+    SLOW,
+    THROTTLED,
+    SERVER_ERROR,
+    CLIENT_ERROR,
+    /**
+     * 작업 취소나 벌크헤드 포화 등으로 호출 측에서 중단한 호출. 제공자 상태와 무관하므로 한도 조정이나 회로 판정에 쓰지 않습니다.
+     */
+    CANCELLED;
+
+    // Spring AI 오류 처리기는 "429 - {본문}" 형식의 메시지로 예외를 만듦
+    private static final Pattern STATUS_PREFIX = Pattern.compile("^(\\d{3}) - ");
+
+    public static CallOutcome classify(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            Integer status = statusOf(cause);
+            if (status != null) {
+                if (status == 429) {
+                    return THROTTLED;
+                }
+                return status >= 500 ? SERVER_ERROR : CLIENT_ERROR;
+            }
+            if (cause instanceof SocketTimeoutException || cause instanceof TimeoutException) {
+                return SLOW;
+            }
+            // 소켓 타임아웃도 InterruptedIOException이므로 위에서 먼저 걸러야 함
+            if (cause instanceof InterruptedException || cause instanceof InterruptedIOException
+                    || cause instanceof ClosedByInterruptException || cause instanceof CancellationException
+                    || cause instanceof RejectedExecutionException) {
+                return CANCELLED;
+            }
+        }
+        return SERVER_ERROR;
+    }
+
+    public static boolean isThrottled(Throwable error) {
+        return classify(error) == THROTTLED;
+    }
+
+    private static Integer statusOf(Throwable error) {
+        if (error instanceof RestClientResponseException e) {
+            return e.getStatusCode().value();
+        }
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().value();
+        }
+        if (error.getMessage() != null) {
+            Matcher matcher = STATUS_PREFIX.matcher(error.getMessage());
+            if (matcher.find()) {
+                return Integer.parseInt(matcher.group(1));
+            }
+        }
+        return null;
+    }
+}
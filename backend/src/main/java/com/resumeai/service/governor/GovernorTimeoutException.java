@@ -0,0 +1,11 @@
+package com.resumeai.service.governor;
+
+/**
+ * 마감 시간 안에 AI 호출 허가를 받지 못한 경우 발생합니다.
+ */
+public class GovernorTimeoutException extends RuntimeException {
+
+    public GovernorTimeoutException(String message) {
+        super(message);
+    }
+}
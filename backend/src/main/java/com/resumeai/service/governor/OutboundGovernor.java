@@ -0,0 +1,204 @@
+package com.resumeai.service.governor;
+
+import com.resumeai.config.GovernorProperties;
+import com.resumeai.dto.AIModelType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * AI 제공자로 나가는 호출을 모델별로 조절합니다.
+ *
+ * <ul>
+ *   <li>토큰 버킷으로 초당 호출 수 제한 (429 응답 시 잠시 정지)</li>
+ *   <li>지연 시간과 429/5xx 응답에 따라 AIMD로 동시 호출 한도 조정 (지연 기준은 호출마다 응답 대기 예산의 일정 비율)</li>
+ *   <li>허가를 바로 받을 수 없으면 실패 대신 마감 시간까지 대기</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboundGovernor {
+
+    private final GovernorProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<AIModelType, ModelGovernor> governors = new ConcurrentHashMap<>();
+    private final Lease noOp = new Lease(null, 0);
+
+    public OutboundGovernor(GovernorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param callBudget 이 호출의 응답 대기 예산. 지연 호출 판정 기준이 됩니다.
+     */
+    public <T> T execute(AIModelType modelType, Duration callBudget, Supplier<T> call) {
+        Lease lease = admit(modelType, callBudget);
+        Throwable error = null;
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            lease.release(error);
+        }
+    }
+
+    /**
+     * 허가를 받을 때까지 기다린 뒤 허가를 반환합니다. 스트리밍 호출처럼 호출 범위를 블록으로 감쌀 수 없을 때 사용하며,
+     * 호출이 끝나면 반드시 {@link Lease#release} 또는 {@link Lease#cancel}로 반납해야 합니다.
+     *
+     * @param callBudget 이 호출의 응답 대기 예산. 지연 호출 판정 기준이 됩니다.
+     * @throws GovernorTimeoutException 마감 시간 안에 허가를 받지 못한 경우
+     */
+    public Lease admit(AIModelType modelType, Duration callBudget) {
+        if (!properties.isEnabled()) {
+            return noOp;
+        }
+
+        ModelGovernor governor = governors.computeIfAbsent(modelType, this::createGovernor);
+        long deadlineNanos = System.nanoTime() + properties.getQueueTimeout().toNanos();
+
+        long queuedAt = System.nanoTime();
+        governor.admit(deadlineNanos);
+        governor.queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        return new Lease(governor, slowCallNanos(callBudget));
+    }
+
+    private long slowCallNanos(Duration callBudget) {
+        if (properties.getSlowCallBudgetRatio() <= 0 || callBudget == null) {
+            return properties.getSlowCallThreshold().toNanos();
+        }
+        return (long) (callBudget.toNanos() * properties.getSlowCallBudgetRatio());
+    }
+
+    /**
+     * 동시 호출 자리 하나. 결과에 따라 AIMD 한도를 조정하며 두 번째 반납부터는 무시합니다.
+     */
+    public final class Lease {
+
+        private final ModelGovernor governor;
+        private final long slowCallNanos;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(ModelGovernor governor, long slowCallNanos) {
+            this.governor = governor;
+            this.slowCallNanos = slowCallNanos;
+        }
+
+        /**
+         * @param error 호출이 실패했으면 원인, 성공했으면 null
+         */
+        public void release(Throwable error) {
+            if (governor == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+            CallOutcome outcome;
+            if (error == null) {
+                outcome = System.nanoTime() - startedAt > slowCallNanos
+                    ? CallOutcome.SLOW
+                    : CallOutcome.SUCCESS;
+            } else {
+                // 취소로 인터럽트된 스레드에서는 전송 계층이 어떤 예외를 던졌든 취소로 봄
+                outcome = Thread.currentThread().isInterrupted() ? CallOutcome.CANCELLED : CallOutcome.classify(error);
+                if (outcome == CallOutcome.THROTTLED) {
+                    log.warn("{} 호출 제한(429) 응답 - {}ms 동안 새 호출 정지, 동시 한도 축소",
+                        governor.modelType.getModelName(), properties.getThrottleBackoff().toMillis());
+                    governor.throttled.increment();
+                    governor.bucket.pause(properties.getThrottleBackoff().toNanos());
+                }
+            }
+            governor.concurrency.release(outcome);
+        }
+
+        /**
+         * 클라이언트가 끊는 등 호출 측 사정으로 중단된 호출. 한도는 조정하지 않습니다.
+         */
+        public void cancel() {
+            if (governor != null && released.compareAndSet(false, true)) {
+                governor.concurrency.release(CallOutcome.CANCELLED);
+            }
+        }
+    }
+
+    private ModelGovernor createGovernor(AIModelType modelType) {
+        GovernorProperties.Limits limits = properties.limitsFor(modelType.getModelName());
+        log.info("{} 호출 조절 시작 - 초당 {}회, 동시 {}건(최소 {}, 최대 {})", modelType.getModelName(),
+            limits.getRequestsPerSecond(), limits.getInitialConcurrency(),
+            limits.getMinConcurrency(), limits.getMaxConcurrency());
+        return new ModelGovernor(modelType, limits);
+    }
+
+    private class ModelGovernor {
+
+        private final AIModelType modelType;
+        private final TokenBucket bucket;
+        private final AdaptiveConcurrencyLimit concurrency;
+        private final Timer queueWait;
+        private final Counter throttled;
+        private final Counter rejected;
+
+        private ModelGovernor(AIModelType modelType, GovernorProperties.Limits limits) {
+            this.modelType = modelType;
+            this.bucket = new TokenBucket(limits.getRequestsPerSecond(), limits.getBurst());
+            this.concurrency = new AdaptiveConcurrencyLimit(
+                limits.getInitialConcurrency(), limits.getMinConcurrency(), limits.getMaxConcurrency());
+
+            String model = modelType.getModelName();
+            Gauge.builder("resume.governor.concurrency.limit", concurrency, AdaptiveConcurrencyLimit::limit)
+                .tag("model", model)
+                .register(meterRegistry);
+            Gauge.builder("resume.governor.in.flight", concurrency, AdaptiveConcurrencyLimit::inFlight)
+                .tag("model", model)
+                .register(meterRegistry);
+            this.queueWait = Timer.builder("resume.governor.queue.wait")
+                .description("AI 호출 허가를 받기까지 기다린 시간")
+                .tag("model", model)
+                .register(meterRegistry);
+            this.throttled = Counter.builder("resume.governor.throttled")
+                .description("제공자가 429로 응답한 횟수")
+                .tag("model", model)
+                .register(meterRegistry);
+            this.rejected = Counter.builder("resume.governor.rejected")
+                .description("마감 시간 안에 허가를 받지 못한 호출 수")
+                .tag("model", model)
+                .register(meterRegistry);
+        }
+
+        private void admit(long deadlineNanos) {
+            try {
+                long waitNanos = bucket.reserve(deadlineNanos);
+                if (waitNanos < 0) {
+                    throw reject("호출 속도 한도");
+                }
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+                if (!concurrency.acquire(deadlineNanos)) {
+                    throw reject("동시 호출 한도");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GovernorTimeoutException("AI 호출 대기 중 중단되었습니다.");
+            }
+        }
+
+        private GovernorTimeoutException reject(String reason) {
+            rejected.increment();
+            log.warn("{} 호출 대기 시간 초과 ({})", modelType.getModelName(), reason);
+            return new GovernorTimeoutException(reason + " 대기 시간을 초과했습니다.");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.resumeai.service.governor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 방식의 토큰 버킷입니다. 토큰이 부족하면 필요한 대기 시간을 돌려주고,
+ * 마감 시간 안에 토큰을 받을 수 없으면 예약하지 않습니다.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    TokenBucket(double requestsPerSecond, int burst) {
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.pausedUntilNanos = lastRefillNanos;
+    }
+
+    /**
+     * 토큰 하나를 예약합니다.
+     *
+     * @return 호출 전 기다려야 하는 시간(ns), 마감 전에 받을 수 없으면 -1
+     */
+    synchronized long reserve(long deadlineNanos) {
+        long now = System.nanoTime();
+        refill(now);
+
+        long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        waitNanos = Math.max(waitNanos, pausedUntilNanos - now);
+
+        if (now + waitNanos > deadlineNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * 제공자가 429를 돌려준 경우 일정 시간 동안 새 호출을 멈춥니다.
+     */
+    synchronized void pause(long nanos) {
+        long until = System.nanoTime() + nanos;
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+    }
+
+    private void refill(long now) {
+        // 멈춘 동안에는 토큰을 채우지 않음
+        long from = Math.max(lastRefillNanos, Math.min(now, pausedUntilNanos));
+        if (now > from) {
+            tokens = Math.min(capacity, tokens + (now - from) * tokensPerNano);
+        }
+        lastRefillNanos = now;
+    }
+}
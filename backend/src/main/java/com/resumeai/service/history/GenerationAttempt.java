@@ -0,0 +1,31 @@
+package com.resumeai.service.history;
+
+import com.resumeai.service.prompt.TemplateName;
+
+/**
+ * AI 호출 한 번의 기록입니다. latencyMillis는 호출 조절기 대기를 포함합니다.
+ *
+ * @param error 실패한 호출의 원인 분류 (CallOutcome), 성공이면 null
+ */
+public record GenerationAttempt(
+    int attempt,
+    TemplateName template,
+    float temperature,
+    double lengthHint,
+    long latencyMillis,
+    int length,
+    Outcome outcome,
+    String error
+) {
+
+    public enum Outcome {
+        UNDER,
+        WITHIN,
+        OVER,
+        ERROR;
+
+        public static Outcome of(int length, int minLength, int maxLength) {
+            return length < minLength ? UNDER : length > maxLength ? OVER : WITHIN;
+        }
+    }
+}
\ No newline at end of file
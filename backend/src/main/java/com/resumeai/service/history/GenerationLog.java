@@ -0,0 +1,209 @@
+package com.resumeai.service.history;
+
+import com.resumeai.config.GenerationLogProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 생성 요청마다 원본 요청, 시도별 이력(프롬프트 변형, 지연, 글자수 판정), 최종 응답을
+ * 메모리 매핑된 세그먼트 파일에 이어 씁니다 (resume-ai.history).
+ *
+ * <p>요청 스레드는 대기열에 넣기만 하고, 인코딩과 쓰기는 전용 스레드가 합니다. 대기열이 가득 차면
+ * 요청을 막지 않고 레코드를 버립니다. 세그먼트는 크기 기준으로 넘어가며, 봉인된 세그먼트는
+ * {@link LogCompactor}가 주기적으로 정리합니다. 기록은 {@link GenerationLogReader}로 읽습니다.
+ */
+@Slf4j
+@Component
+public class GenerationLog {
+
+    private final GenerationLogProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<GenerationRecord> queue;
+    private final Counter appended;
+    private final Counter dropped;
+
+    private Path directory;
+    private long nextSegmentId;
+    // 압축기는 이 번호보다 작은(봉인된) 세그먼트만 다룸
+    private volatile long activeSegmentId = Long.MAX_VALUE;
+    private volatile boolean running;
+    private Thread writer;
+    private ScheduledExecutorService compactor;
+
+    public GenerationLog(GenerationLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("resume.history.queue.size", queue, BlockingQueue::size)
+            .description("기록 대기 중인 생성 이력 수")
+            .register(meterRegistry);
+        this.appended = Counter.builder("resume.history.appended")
+            .description("생성 이력 로그에 기록한 레코드 수")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("resume.history.dropped")
+            .description("대기열 포화나 쓰기 오류로 버린 생성 이력 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        directory = Path.of(properties.getDirectory());
+        try {
+            Files.createDirectories(directory);
+            nextSegmentId = recover() + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("생성 이력 로그 디렉터리를 열 수 없습니다: " + directory, e);
+        }
+        activeSegmentId = nextSegmentId;
+        running = true;
+        writer = Thread.ofPlatform().name("generation-log-writer").daemon().start(this::writeLoop);
+
+        LogCompactor logCompactor = new LogCompactor(directory, properties, meterRegistry);
+        compactor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("generation-log-compactor").daemon().factory());
+        long interval = properties.getCompactionInterval().toMillis();
+        compactor.scheduleWithFixedDelay(() -> logCompactor.compact(activeSegmentId),
+            0, interval, TimeUnit.MILLISECONDS);
+
+        log.info("생성 이력 로그 활성화 - {} (세그먼트 {}, 보관 {}일)",
+            directory, properties.getSegmentSize(), properties.getRetention().toDays());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!running) {
+            return;
+        }
+        // 쓰기 스레드는 flush-interval 안에 멈춤을 알아채고 남은 레코드를 모두 쓴 뒤 세그먼트를 봉인함.
+        // 인터럽트하면 FileChannel이 닫히므로(ClosedByInterruptException) 인터럽트하지 않음
+        running = false;
+        compactor.shutdown();
+        try {
+            writer.join(properties.getFlushInterval().plusSeconds(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 생성 결과를 기록 대기열에 넣습니다. request는 재시도로 바뀌기 전의 원본이어야 합니다.
+     * 쓰기 스레드가 인코딩하는 동안 호출 측이 응답을 고쳐도(캐시 복사, 코멘트 추가) 영향이 없도록 복사본을 넣습니다.
+     */
+    public void append(ResumeGenerationRequest request, List<GenerationAttempt> attempts,
+                       ResumeGenerationResponse response, long startedAtMillis) {
+        if (!running) {
+            return;
+        }
+        GenerationRecord record = new GenerationRecord(startedAtMillis, System.currentTimeMillis() - startedAtMillis,
+            request, List.copyOf(attempts), response.copy());
+        if (!queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    private void writeLoop() {
+        RecordCodec codec = new RecordCodec();
+        long flushNanos = properties.getFlushInterval().toNanos();
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+        LogSegment segment = null;
+        try {
+            while (true) {
+                GenerationRecord record;
+                try {
+                    record = running ? queue.poll(flushNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (record == null) {
+                    if (!running) {
+                        break;
+                    }
+                } else {
+                    segment = write(codec, segment, record);
+                    dirty = segment != null;
+                }
+                if (dirty && System.nanoTime() - lastFlush >= flushNanos) {
+                    segment.force();
+                    lastFlush = System.nanoTime();
+                    dirty = false;
+                }
+            }
+        } finally {
+            if (segment != null) {
+                segment.close();
+            }
+        }
+    }
+
+    private LogSegment write(RecordCodec codec, LogSegment segment, GenerationRecord record) {
+        try {
+            ByteBuffer frame = codec.encode(record);
+            if (segment == null || !segment.append(frame)) {
+                if (segment != null) {
+                    // 봉인하면 파일이 줄어들어 매핑에 더 쓸 수 없음
+                    segment.close();
+                    segment = null;
+                }
+                long id = nextSegmentId++;
+                segment = LogSegment.create(directory, id,
+                    Math.max(properties.getSegmentSize().toBytes(), frame.remaining()));
+                activeSegmentId = id;
+                segment.append(frame);
+            }
+            appended.increment();
+        } catch (IOException | RuntimeException e) {
+            log.warn("생성 이력 쓰기 실패: {}", e.getMessage());
+            dropped.increment();
+        }
+        return segment;
+    }
+
+    /**
+     * 병합 중 남은 임시 파일을 지우고 마지막 세그먼트의 쓰다 만 부분을 잘라 냅니다.
+     *
+     * @return 마지막 세그먼트 번호 (없으면 0)
+     */
+    private long recover() throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path temp : entries.filter(path -> path.toString().endsWith(LogSegment.TEMP_SUFFIX)).toList()) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        List<Path> segments = LogSegment.list(directory);
+        if (segments.isEmpty()) {
+            return 0;
+        }
+        Path last = segments.get(segments.size() - 1);
+        LogSegment.recover(last);
+        return LogSegment.idOf(last);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.resumeai.service.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 생성 이력 로그를 기록 순서대로 읽습니다. 세그먼트를 하나씩 매핑해 필요한 만큼만 디코딩합니다.
+ *
+ * <p>애플리케이션이 쓰는 중에도 읽을 수 있으며, 쓰기 중인 세그먼트는 읽기 시작한 시점까지 기록된 레코드만 보입니다.
+ * 압축과 겹치면 일부 레코드가 빠지거나 중복될 수 있습니다.
+ */
+public final class GenerationLogReader {
+
+    private GenerationLogReader() {
+    }
+
+    public static Stream<GenerationRecord> read(Path directory) {
+        try {
+            return LogSegment.list(directory).stream().flatMap(GenerationLogReader::records);
+        } catch (IOException e) {
+            throw new UncheckedIOException("생성 이력 로그를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private static Stream<GenerationRecord> records(Path segmentPath) {
+        ByteBuffer segment;
+        try {
+            segment = LogSegment.mapReadOnly(segmentPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("생성 이력 세그먼트를 읽을 수 없습니다: " + segmentPath, e);
+        }
+        return Stream.iterate(RecordCodec.readFrame(segment), Objects::nonNull, previous -> RecordCodec.readFrame(segment))
+            .map(RecordCodec::decode);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.resumeai.service.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 생성 이력 로그 명령줄 도구입니다. 스프링 컨텍스트 없이 실행합니다 (./gradlew generationLog).
+ *
+ * <ul>
+ *   <li>stats [디렉터리] - 모델별 요청 수, 요청당 시도 수, 첫 시도 적중률, 지연 분위수와 프롬프트 변형별 글자수 판정 분포</li>
+ *   <li>export [디렉터리] - 레코드를 JSON Lines로 표준 출력에 씀 (오프라인 분석용)</li>
+ * </ul>
+ */
+public final class GenerationLogTool {
+
+    private GenerationLogTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String command = args.length > 0 ? args[0] : "stats";
+        Path directory = Path.of(args.length > 1 ? args[1] : "data/generation-log");
+        if (!Files.isDirectory(directory)) {
+            System.err.println("생성 이력 로그 디렉터리가 없습니다: " + directory);
+            System.exit(1);
+        }
+
+        switch (command) {
+            case "stats" -> stats(directory);
+            case "export" -> export(directory, System.out);
+            default -> {
+                System.err.println("사용법: GenerationLogTool stats|export [디렉터리]");
+                System.exit(1);
+            }
+        }
+    }
+
+    static void export(Path directory, OutputStream out) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        try (Stream<GenerationRecord> records = GenerationLogReader.read(directory);
+             SequenceWriter writer = objectMapper.writer()
+                 .withRootValueSeparator("\n")
+                 .writeValues(new BufferedOutputStream(out))) {
+            for (GenerationRecord record : (Iterable<GenerationRecord>) records::iterator) {
+                writer.write(record);
+            }
+        }
+    }
+
+    static void stats(Path directory) {
+        Map<String, ModelStats> models = new TreeMap<>();
+        Map<String, Map<GenerationAttempt.Outcome, Long>> variants = new TreeMap<>();
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        long total = 0;
+
+        try (Stream<GenerationRecord> records = GenerationLogReader.read(directory)) {
+            for (GenerationRecord record : (Iterable<GenerationRecord>) records::iterator) {
+                total++;
+                first = Math.min(first, record.timestampMillis());
+                last = Math.max(last, record.timestampMillis());
+                models.computeIfAbsent(record.request().getAiModel(), model -> new ModelStats()).add(record);
+
+                for (GenerationAttempt attempt : record.attempts()) {
+                    String variant = String.format("%s t=%.1f x%.2f",
+                        attempt.template().name().toLowerCase(), attempt.temperature(), attempt.lengthHint());
+                    variants.computeIfAbsent(variant, key -> new EnumMap<>(GenerationAttempt.Outcome.class))
+                        .merge(attempt.outcome(), 1L, Long::sum);
+                }
+            }
+        }
+
+        if (total == 0) {
+            System.out.println("기록된 생성 이력이 없습니다.");
+            return;
+        }
+        System.out.printf("기간: %s ~ %s, 요청 %d건%n%n", Instant.ofEpochMilli(first), Instant.ofEpochMilli(last), total);
+
+        System.out.printf("%-16s %8s %10s %14s %9s %9s %8s%n",
+            "model", "요청", "시도/요청", "첫 시도 적중률", "p50", "p99", "오류");
+        models.forEach((model, stats) -> System.out.printf("%-16s %8d %10.2f %13.1f%% %7dms %7dms %8d%n",
+            model, stats.requests, (double) stats.attempts / stats.requests,
+            100.0 * stats.firstAttemptHits / stats.requests,
+            stats.percentile(0.50), stats.percentile(0.99), stats.errors));
+
+        System.out.printf("%n%-28s %8s %8s %8s %8s%n", "프롬프트 변형", "under", "within", "over", "error");
+        variants.forEach((variant, outcomes) -> System.out.printf("%-28s %8d %8d %8d %8d%n", variant,
+            outcomes.getOrDefault(GenerationAttempt.Outcome.UNDER, 0L),
+            outcomes.getOrDefault(GenerationAttempt.Outcome.WITHIN, 0L),
+            outcomes.getOrDefault(GenerationAttempt.Outcome.OVER, 0L),
+            outcomes.getOrDefault(GenerationAttempt.Outcome.ERROR, 0L)));
+    }
+
+    private static final class ModelStats {
+
+        private final List<Long> durations = new ArrayList<>();
+        private long requests;
+        private long attempts;
+        private long firstAttemptHits;
+        private long errors;
+
+        void add(GenerationRecord record) {
+            requests++;
+            attempts += record.attempts().size();
+            // 병렬 후보 모드는 첫 시도가 여러 개 - 하나라도 범위에 들면 적중
+            if (record.attempts().stream().anyMatch(attempt ->
+                    attempt.attempt() == 1 && attempt.outcome() == GenerationAttempt.Outcome.WITHIN)) {
+                firstAttemptHits++;
+            }
+            if (record.response().getError() != null) {
+                errors++;
+            }
+            durations.add(record.durationMillis());
+        }
+
+        long percentile(double quantile) {
+            List<Long> sorted = durations.stream().sorted().toList();
+            return sorted.get((int) Math.min(sorted.size() - 1, sorted.size() * quantile));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.resumeai.service.history;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+
+import java.util.List;
+
+/**
+ * 생성 요청 하나의 이력입니다. request는 재시도로 초안이 바뀌기 전의 원본이며,
+ * 대체 모델로 생성한 경우 aiModel은 실제 호출한 모델입니다.
+ */
+public record GenerationRecord(
+    long timestampMillis,
+    long durationMillis,
+    ResumeGenerationRequest request,
+    List<GenerationAttempt> attempts,
+    ResumeGenerationResponse response
+) {
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.resumeai.service.history;
+
+import com.resumeai.config.GenerationLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 봉인된 세그먼트를 정리합니다. 쓰기 중인 세그먼트와 그 뒤 번호는 건드리지 않습니다.
+ *
+ * <ol>
+ *   <li>보관 기간이 지난 세그먼트(마지막 수정 시각 기준)를 지움</li>
+ *   <li>전체 크기가 제한을 넘으면 오래된 세그먼트부터 지움</li>
+ *   <li>이어진 작은 세그먼트(재시작마다 생기는 짧은 세그먼트 등)를 세그먼트 크기 이내로 합치면서
+ *       보관 기간이 지난 레코드를 뺌</li>
+ * </ol>
+ * 병합은 임시 파일에 쓴 뒤 첫 세그먼트를 원자적으로 교체하고 나머지를 지웁니다.
+ * 그 사이에 중단되면 일부 레코드가 중복될 수 있습니다 (분석·재현용이므로 유실보다 중복을 택함).
+ * 끝까지 읽지 못한(손상된 프레임이 있는) 세그먼트가 있으면 그 묶음은 병합하지 않고 원본을 그대로 둡니다.
+ */
+@Slf4j
+final class LogCompactor {
+
+    private final Path directory;
+    private final GenerationLogProperties properties;
+    private final Counter expired;
+    private final Counter evicted;
+    private final Counter merged;
+    private final Counter corrupt;
+
+    LogCompactor(Path directory, GenerationLogProperties properties, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.properties = properties;
+        this.expired = compacted(meterRegistry, "expired");
+        this.evicted = compacted(meterRegistry, "evicted");
+        this.merged = compacted(meterRegistry, "merged");
+        this.corrupt = Counter.builder("resume.history.corrupt")
+            .description("손상된 프레임이 있어 병합하지 않은 생성 이력 세그먼트 수")
+            .register(meterRegistry);
+    }
+
+    void compact(long activeSegmentId) {
+        try {
+            long cutoff = System.currentTimeMillis() - properties.getRetention().toMillis();
+            List<Path> all = LogSegment.list(directory);
+            List<Path> sealed = new ArrayList<>();
+            long totalSize = 0;
+            for (Path segment : all) {
+                long size = Files.size(segment);
+                if (LogSegment.idOf(segment) >= activeSegmentId) {
+                    totalSize += size;
+                } else if (Files.getLastModifiedTime(segment).toMillis() < cutoff) {
+                    Files.deleteIfExists(segment);
+                    expired.increment();
+                } else {
+                    sealed.add(segment);
+                    totalSize += size;
+                }
+            }
+
+            long maxTotalSize = properties.getMaxTotalSize().toBytes();
+            while (totalSize > maxTotalSize && !sealed.isEmpty()) {
+                Path oldest = sealed.remove(0);
+                totalSize -= Files.size(oldest);
+                Files.deleteIfExists(oldest);
+                evicted.increment();
+            }
+
+            mergeSmallSegments(sealed, cutoff);
+        } catch (IOException | RuntimeException e) {
+            log.warn("생성 이력 압축 실패: {}", e.getMessage());
+        }
+    }
+
+    private void mergeSmallSegments(List<Path> sealed, long cutoff) throws IOException {
+        long segmentSize = properties.getSegmentSize().toBytes();
+        List<Path> group = new ArrayList<>();
+        long groupSize = 0;
+        for (Path segment : sealed) {
+            long size = Files.size(segment);
+            if (groupSize + size > segmentSize) {
+                merge(group, cutoff);
+                group.clear();
+                groupSize = 0;
+            }
+            group.add(segment);
+            groupSize += size;
+        }
+        merge(group, cutoff);
+    }
+
+    private void merge(List<Path> group, long cutoff) throws IOException {
+        if (group.size() < 2) {
+            return;
+        }
+        Path target = group.get(0);
+        Path temp = directory.resolve(LogSegment.tempFileName(LogSegment.idOf(target)));
+        int records = 0;
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Path segment : group) {
+                ByteBuffer in = LogSegment.mapReadOnly(segment);
+                int frameStart = in.position();
+                ByteBuffer payload;
+                while ((payload = RecordCodec.readFrame(in)) != null) {
+                    if (RecordCodec.timestampOf(payload) >= cutoff) {
+                        // 프레임(헤더 포함)을 그대로 복사
+                        ByteBuffer frame = in.slice(frameStart, in.position() - frameStart);
+                        while (frame.hasRemaining()) {
+                            out.write(frame);
+                        }
+                        records++;
+                    }
+                    frameStart = in.position();
+                }
+                if (!isCleanEnd(in)) {
+                    // 뒤쪽 프레임을 읽을 수 없음 - 병합하면 원본과 함께 사라지므로 이 묶음은 그대로 둠
+                    corrupt.increment();
+                    log.warn("생성 이력 세그먼트 {}의 {}바이트 위치에 손상된 프레임 - 병합하지 않음",
+                        segment.getFileName(), in.position());
+                    out.close();
+                    Files.deleteIfExists(temp);
+                    return;
+                }
+            }
+            out.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        for (Path segment : group.subList(1, group.size())) {
+            Files.deleteIfExists(segment);
+        }
+        merged.increment(group.size() - 1);
+        log.debug("생성 이력 세그먼트 {}개 병합 → {} ({}건)", group.size(), target.getFileName(), records);
+    }
+
+    /**
+     * 마지막으로 읽은 프레임 뒤가 파일 끝이거나 끝 표시(길이 0)인지 확인합니다.
+     */
+    private static boolean isCleanEnd(ByteBuffer in) {
+        return !in.hasRemaining() || (in.remaining() >= 4 && in.getInt(in.position()) == 0);
+    }
+
+    private static Counter compacted(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("resume.history.compacted")
+            .description("압축으로 정리한 생성 이력 세그먼트 수")
+            .tag("action", action)
+            .register(meterRegistry);
+    }
+}
\ No newline at end of file
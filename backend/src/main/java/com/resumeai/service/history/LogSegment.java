@@ -0,0 +1,148 @@
+package com.resumeai.service.history;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 생성 이력 로그의 세그먼트 파일 하나입니다. 파일명은 0으로 채운 세그먼트 번호(00000000000000000001.log)이며
+ * 번호 순서가 기록 순서입니다.
+ *
+ * <p>쓰기 중인 세그먼트는 정해진 크기로 미리 매핑해 두고 프레임을 이어 씁니다. 매핑된 영역은 0으로 채워져 있으므로
+ * 마지막 프레임 뒤의 길이 0이 끝 표시가 됩니다. 닫을 때(봉인) 실제 쓴 크기로 파일을 줄입니다.
+ */
+@Slf4j
+final class LogSegment implements AutoCloseable {
+
+    static final String SUFFIX = ".log";
+    static final String TEMP_SUFFIX = ".log.tmp";
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private LogSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static LogSegment create(Path directory, long id, long capacity) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new LogSegment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    long id() {
+        return id;
+    }
+
+    /**
+     * 프레임을 이어 씁니다. 남은 공간이 부족하면 쓰지 않고 false를 반환합니다.
+     */
+    boolean append(ByteBuffer frame) {
+        int size = frame.remaining();
+        if (size > buffer.remaining()) {
+            return false;
+        }
+        int offset = buffer.position();
+        // 길이 필드를 마지막에 써서 동시에 읽는 쪽이 쓰다 만 프레임을 끝 표시로 보게 함
+        buffer.put(offset + 4, frame, frame.position() + 4, size - 4);
+        buffer.putInt(offset, frame.getInt(frame.position()));
+        buffer.position(offset + size);
+        return true;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * 디스크에 쓰고 실제 쓴 크기로 파일을 줄인 뒤 닫습니다.
+     */
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            truncate(channel, buffer.position());
+            channel.close();
+        } catch (IOException e) {
+            log.warn("생성 이력 세그먼트 닫기 실패 ({}): {}", path.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 비정상 종료로 봉인되지 못한 세그먼트를 마지막 온전한 프레임 뒤에서 자릅니다.
+     */
+    static void recover(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (RecordCodec.readFrame(segment) != null) {
+                // 온전한 프레임 끝까지 이동
+            }
+            if (segment.position() < channel.size()) {
+                truncate(channel, segment.position());
+            }
+        }
+    }
+
+    /**
+     * 읽기 전용으로 매핑합니다. 그 사이 압축으로 지워진 파일이면 빈 버퍼를 반환합니다.
+     */
+    static ByteBuffer mapReadOnly(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return ByteBuffer.allocate(0);
+        }
+    }
+
+    static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries
+                .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                .toList();
+        }
+    }
+
+    static String fileName(long id) {
+        return String.format("%020d%s", id, SUFFIX);
+    }
+
+    static String tempFileName(long id) {
+        return String.format("%020d%s", id, TEMP_SUFFIX);
+    }
+
+    static long idOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    private static void truncate(FileChannel channel, long size) {
+        try {
+            channel.truncate(size);
+        } catch (IOException e) {
+            // 매핑된 파일을 줄일 수 없는 OS(Windows) - 남은 0 영역은 끝 표시로 읽힘
+            log.debug("생성 이력 세그먼트 크기 조정 실패: {}", e.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.resumeai.service.history;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.prompt.TemplateName;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 생성 이력 레코드의 바이너리 인코딩입니다.
+ *
+ * <p>프레임: [페이로드 길이 int][CRC32C int][페이로드]. 길이 0은 세그먼트의 끝을 뜻합니다.
+ * 페이로드는 버전 바이트 뒤에 필드를 고정 순서로 씁니다. 정수는 가변 길이(LEB128),
+ * 문자열은 UTF-8 바이트 수 + 1 (0이면 null) 뒤에 바이트를 씁니다.
+ *
+ * <p>인코더는 버퍼를 재사용하므로 스레드 하나(로그 기록 스레드)에서만 사용해야 합니다.
+ */
+final class RecordCodec {
+
+    static final int FRAME_HEADER_BYTES = 8;
+
+    private static final byte VERSION = 1;
+
+    // 로그에 기록되는 코드 - 순서를 바꾸면 기존 로그를 읽을 수 없으므로 새 값은 뒤에만 추가
+    private static final TemplateName[] TEMPLATES = {
+        TemplateName.INITIAL, TemplateName.EXPAND, TemplateName.SUMMARIZE, TemplateName.PARAGRAPH, TemplateName.SYSTEM
+    };
+    private static final GenerationAttempt.Outcome[] OUTCOMES = {
+        GenerationAttempt.Outcome.UNDER, GenerationAttempt.Outcome.WITHIN,
+        GenerationAttempt.Outcome.OVER, GenerationAttempt.Outcome.ERROR
+    };
+
+    private final CRC32C crc = new CRC32C();
+    private byte[] buffer = new byte[8 * 1024];
+    private int position;
+
+    /**
+     * 레코드를 프레임으로 인코딩합니다. 반환한 버퍼는 다음 호출 전까지만 유효합니다.
+     */
+    ByteBuffer encode(GenerationRecord record) {
+        position = FRAME_HEADER_BYTES;
+        writeByte(VERSION);
+        writeVarLong(record.timestampMillis());
+        writeVarLong(record.durationMillis());
+
+        ResumeGenerationRequest request = record.request();
+        writeString(request.getQuestion());
+        writeString(request.getDraft());
+        writeNullableInt(request.getWordLimit());
+        writeString(request.getCompany());
+        writeString(request.getPosition());
+        writeString(request.getAiModel());
+        writeNullableBoolean(request.getIncludeComments());
+        writeString(request.getSessionId());
+
+        writeVarLong(record.attempts().size());
+        for (GenerationAttempt attempt : record.attempts()) {
+            writeVarLong(attempt.attempt());
+            writeByte(code(TEMPLATES, attempt.template()));
+            writeInt(Float.floatToIntBits(attempt.temperature()));
+            writeInt(Float.floatToIntBits((float) attempt.lengthHint()));
+            writeVarLong(attempt.latencyMillis());
+            writeVarLong(attempt.length());
+            writeByte(code(OUTCOMES, attempt.outcome()));
+            writeString(attempt.error());
+        }
+
+        ResumeGenerationResponse response = record.response();
+        writeString(response.getImprovedResume());
+        List<String> comments = response.getComments() != null ? response.getComments() : List.of();
+        writeVarLong(comments.size());
+        for (String comment : comments) {
+            writeString(comment);
+        }
+        writeString(response.getError());
+        writeByte(response.isDegraded() ? 1 : 0);
+
+        int payloadLength = position - FRAME_HEADER_BYTES;
+        crc.reset();
+        crc.update(buffer, FRAME_HEADER_BYTES, payloadLength);
+        ByteBuffer frame = ByteBuffer.wrap(buffer, 0, position);
+        frame.putInt(0, payloadLength);
+        frame.putInt(4, (int) crc.getValue());
+        return frame;
+    }
+
+    /**
+     * segment의 현재 위치에서 프레임 하나를 읽어 페이로드를 반환하고 위치를 다음 프레임으로 옮깁니다.
+     * 세그먼트 끝(길이 0)이거나 쓰다 만 프레임이면 null을 반환합니다.
+     */
+    static ByteBuffer readFrame(ByteBuffer segment) {
+        int offset = segment.position();
+        if (segment.limit() - offset < FRAME_HEADER_BYTES) {
+            return null;
+        }
+        int payloadLength = segment.getInt(offset);
+        if (payloadLength <= 0 || payloadLength > segment.limit() - offset - FRAME_HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer payload = segment.slice(offset + FRAME_HEADER_BYTES, payloadLength);
+        CRC32C check = new CRC32C();
+        check.update(payload.duplicate());
+        if ((int) check.getValue() != segment.getInt(offset + 4)) {
+            return null;
+        }
+        segment.position(offset + FRAME_HEADER_BYTES + payloadLength);
+        return payload;
+    }
+
+    /**
+     * 페이로드 전체를 해석하지 않고 기록 시각만 읽습니다 (압축기의 보관 기간 판정용).
+     */
+    static long timestampOf(ByteBuffer payload) {
+        ByteBuffer in = payload.duplicate();
+        checkVersion(in.get());
+        return readVarLong(in);
+    }
+
+    static GenerationRecord decode(ByteBuffer payload) {
+        ByteBuffer in = payload.duplicate();
+        checkVersion(in.get());
+        long timestampMillis = readVarLong(in);
+        long durationMillis = readVarLong(in);
+
+        ResumeGenerationRequest request = new ResumeGenerationRequest();
+        request.setQuestion(readString(in));
+        request.setDraft(readString(in));
+        request.setWordLimit(readNullableInt(in));
+        request.setCompany(readString(in));
+        request.setPosition(readString(in));
+        request.setAiModel(readString(in));
+        request.setIncludeComments(readNullableBoolean(in));
+        request.setSessionId(readString(in));
+
+        int attemptCount = (int) readVarLong(in);
+        List<GenerationAttempt> attempts = new ArrayList<>(attemptCount);
+        for (int i = 0; i < attemptCount; i++) {
+            attempts.add(new GenerationAttempt(
+                (int) readVarLong(in),
+                TEMPLATES[in.get()],
+                Float.intBitsToFloat(in.getInt()),
+                Float.intBitsToFloat(in.getInt()),
+                readVarLong(in),
+                (int) readVarLong(in),
+                OUTCOMES[in.get()],
+                readString(in)
+            ));
+        }
+
+        String improvedResume = readString(in);
+        int commentCount = (int) readVarLong(in);
+        List<String> comments = new ArrayList<>(commentCount);
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(readString(in));
+        }
+        String error = readString(in);
+        boolean degraded = in.get() == 1;
+
+        return new GenerationRecord(timestampMillis, durationMillis, request, attempts,
+            new ResumeGenerationResponse(improvedResume, comments, error, degraded));
+    }
+
+    private static void checkVersion(byte version) {
+        if (version != VERSION) {
+            throw new IllegalStateException("지원하지 않는 생성 이력 레코드 버전: " + version);
+        }
+    }
+
+    private static <T> int code(T[] table, T value) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("기록할 수 없는 값: " + value);
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeNullableInt(Integer value) {
+        // 0은 null, 그 밖에는 지그재그 인코딩 + 1
+        writeVarLong(value == null ? 0 : ((long) value << 1 ^ (value >> 31)) + 1);
+    }
+
+    private void writeNullableBoolean(Boolean value) {
+        writeByte(value == null ? 0 : value ? 2 : 1);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        ByteBuffer.wrap(buffer, position, 4).putInt(value);
+        position += 4;
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        long encoded = readVarLong(in);
+        if (encoded == 0) {
+            return null;
+        }
+        // 매핑된 세그먼트는 배열 기반 버퍼가 아니므로 복사해서 디코딩
+        byte[] bytes = new byte[(int) (encoded - 1)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readNullableInt(ByteBuffer in) {
+        long encoded = readVarLong(in);
+        if (encoded == 0) {
+            return null;
+        }
+        long zigzag = encoded - 1;
+        return (int) ((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+
+    private static Boolean readNullableBoolean(ByteBuffer in) {
+        byte value = in.get();
+        return value == 0 ? null : value == 2;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("잘못된 가변 길이 정수");
+    }
+}
\ No newline at end of file
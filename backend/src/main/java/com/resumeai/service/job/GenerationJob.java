@@ -0,0 +1,70 @@
+package com.resumeai.service.job;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.resumeai.dto.JobResponse;
+import com.resumeai.dto.JobStatus;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.scheduling.ClientKey;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * 저널에 기록되는 작업 상태입니다. 상태 전이는 JobService가 이 객체를 잠근 상태에서 수행합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+class GenerationJob {
+
+    private String id;
+    private ResumeGenerationRequest request;
+    // 공정 스케줄러 대기열 구분용 (재시작 후 재실행에도 같은 클라이언트 몫으로 처리)
+    private ClientKey client;
+    private volatile JobStatus status;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private ResumeGenerationResponse result;
+
+    // 실행 중인 작업 취소용 (저널에는 기록하지 않음)
+    @JsonIgnore
+    private Future<?> task;
+
+    // 작업을 실행 중인 워커 스레드 - 취소 시 진행 중인 HTTP 요청 중단용
+    @JsonIgnore
+    private Thread worker;
+
+    // 롱 폴링 대기자 알림용
+    @JsonIgnore
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    static GenerationJob create(ResumeGenerationRequest request, ClientKey client) {
+        GenerationJob job = new GenerationJob();
+        job.id = UUID.randomUUID().toString();
+        job.request = request;
+        job.client = client;
+        job.status = JobStatus.PENDING;
+        job.createdAt = Instant.now();
+        job.updatedAt = job.createdAt;
+        return job;
+    }
+
+    void transition(JobStatus status, ResumeGenerationResponse result) {
+        this.status = status;
+        this.result = result;
+        this.updatedAt = Instant.now();
+        if (status.isTerminal()) {
+            completion.complete(null);
+        }
+    }
+
+    synchronized JobResponse toResponse() {
+        return new JobResponse(id, status, createdAt, updatedAt, result);
+    }
+}
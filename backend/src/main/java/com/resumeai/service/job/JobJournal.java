@@ -0,0 +1,74 @@
+package com.resumeai.service.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 작업마다 JSON 파일 하나를 두는 파일 기반 저널입니다.
+ * 임시 파일에 쓴 뒤 원자적으로 교체하므로 쓰는 도중 종료되어도 이전 상태가 남습니다.
+ */
+@Slf4j
+class JobJournal {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    JobJournal(Path directory, ObjectMapper objectMapper) {
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 저널 디렉터리를 열 수 없습니다: " + directory, e);
+        }
+        this.objectMapper = objectMapper;
+    }
+
+    void save(GenerationJob job) {
+        Path file = directory.resolve(job.getId() + ".json");
+        Path temp = directory.resolve(job.getId() + ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), job);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("작업 저널 쓰기 실패 ({}): {}", job.getId(), e.getMessage());
+        }
+    }
+
+    void delete(String id) {
+        try {
+            Files.deleteIfExists(directory.resolve(id + ".json"));
+        } catch (IOException e) {
+            log.warn("작업 저널 삭제 실패 ({}): {}", id, e.getMessage());
+        }
+    }
+
+    List<GenerationJob> loadAll() {
+        List<GenerationJob> jobs = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path file : entries.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    // 쓰다가 중단된 파일
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(".json")) {
+                    try {
+                        jobs.add(objectMapper.readValue(file.toFile(), GenerationJob.class));
+                    } catch (IOException e) {
+                        log.warn("작업 저널 읽기 실패 ({}): {}", name, e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 저널을 읽을 수 없습니다: " + directory, e);
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,8 @@
+package com.resumeai.service.job;
+
+public class JobQueueFullException extends RuntimeException {
+
+    public JobQueueFullException(int queued) {
+        super("작업 대기열이 가득 찼습니다 (대기 " + queued + "건)");
+    }
+}
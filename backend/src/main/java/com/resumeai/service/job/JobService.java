@@ -0,0 +1,256 @@
+package com.resumeai.service.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeai.config.JobProperties;
+import com.resumeai.dto.JobResponse;
+import com.resumeai.dto.JobStatus;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.ResumeService;
+import com.resumeai.service.scheduling.ClientKey;
+import com.resumeai.service.scheduling.FairScheduler;
+import com.resumeai.service.scheduling.RequestRejectedException;
+import com.resumeai.service.transport.CallTimeouts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래 걸리는 자소서 생성을 HTTP 요청과 분리해 백그라운드 작업으로 처리합니다.
+ *
+ * <p>작업은 고정 크기 워커 풀에서 실행되고, 대기열이 가득 차면 접수 단계에서 거절합니다.
+ * 모든 상태 변화는 {@link JobJournal}에 기록되어 재시작 시 대기·실행 중이던 작업을 다시 실행합니다.
+ * 워커가 작업을 꺼내면 동기 API와 같은 {@link FairScheduler} 대기열에서 요청한 클라이언트 몫으로 차례를 받습니다.
+ * 취소하면 워커 스레드를 인터럽트하고 그 스레드가 보낸 HTTP 요청을 중단해 남은 시도를 멈춥니다.
+ *
+ * <p>취소는 최선 노력입니다. 요청 배치, 헤지, 병렬 후보처럼 다른 스레드에서 진행 중인 호출과
+ * 같은 요청의 캐시 결과를 기다리던 호출은 끝까지 진행되며(결과는 버림), 그동안 제공자 호출 자리를 차지합니다.
+ */
+@Slf4j
+@Service
+public class JobService {
+
+    private final JobProperties properties;
+    private final ResumeService resumeService;
+    private final FairScheduler fairScheduler;
+    private final CallTimeouts callTimeouts;
+    private final JobJournal journal;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("generation-job-cleaner").daemon().factory());
+    private final Counter rejected;
+
+    private volatile boolean shuttingDown;
+
+    public JobService(JobProperties properties, ResumeService resumeService, FairScheduler fairScheduler,
+                      CallTimeouts callTimeouts, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.resumeService = resumeService;
+        this.fairScheduler = fairScheduler;
+        this.callTimeouts = callTimeouts;
+        this.journal = new JobJournal(Path.of(properties.getDirectory()), objectMapper);
+        this.workers = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(),
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+            Thread.ofPlatform().name("generation-job-", 0).factory());
+
+        Gauge.builder("resume.jobs.queued", workers, executor -> executor.getQueue().size())
+            .description("실행을 기다리는 작업 수")
+            .register(meterRegistry);
+        Gauge.builder("resume.jobs.running", workers, ThreadPoolExecutor::getActiveCount)
+            .description("실행 중인 작업 수")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("resume.jobs.rejected")
+            .description("대기열이 가득 차 거절된 작업 수")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void recover() {
+        List<GenerationJob> recovered = journal.loadAll().stream()
+            .sorted(Comparator.comparing(GenerationJob::getCreatedAt))
+            .toList();
+
+        int requeued = 0;
+        for (GenerationJob job : recovered) {
+            jobs.put(job.getId(), job);
+            if (job.getStatus().isTerminal()) {
+                continue;
+            }
+            // 실행 중에 종료된 작업은 처음부터 다시 실행
+            job.transition(JobStatus.PENDING, null);
+            journal.save(job);
+            try {
+                enqueue(job);
+                requeued++;
+            } catch (JobQueueFullException e) {
+                log.warn("복구한 작업을 대기열에 넣지 못했습니다 - 실패 처리: {}", job.getId());
+                finish(job, JobStatus.FAILED, ResumeGenerationResponse.error("서버 재시작 후 작업을 재개하지 못했습니다."));
+            }
+        }
+        purgeExpired();
+
+        long interval = Math.max(1, properties.getRetention().toMinutes() / 10);
+        cleaner.scheduleWithFixedDelay(this::purgeExpired, interval, interval, TimeUnit.MINUTES);
+        log.info("작업 큐 시작 - 워커: {}, 대기열: {}, 복구한 작업: {}건 (재실행 {}건)",
+            properties.getWorkers(), properties.getQueueCapacity(), recovered.size(), requeued);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 실행 중이던 작업은 RUNNING 상태로 저널에 남겨 재시작 후 다시 실행되게 함
+        shuttingDown = true;
+        cleaner.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public JobResponse submit(ResumeGenerationRequest request, ClientKey client) {
+        GenerationJob job = GenerationJob.create(request, client);
+        jobs.put(job.getId(), job);
+        journal.save(job);
+
+        try {
+            enqueue(job);
+        } catch (JobQueueFullException e) {
+            jobs.remove(job.getId());
+            journal.delete(job.getId());
+            throw e;
+        }
+
+        log.info("작업 접수 - id: {}, 회사: {}, 직군: {}", job.getId(), request.getCompany(), request.getPosition());
+        return job.toResponse();
+    }
+
+    /**
+     * 작업 상태를 조회합니다. wait가 주어지면 작업이 끝나거나 대기 시간이 지날 때 응답합니다.
+     * 대기하는 동안 서블릿 스레드를 점유하지 않도록 비동기로 반환합니다.
+     */
+    public CompletableFuture<Optional<JobResponse>> get(String id, Duration wait) {
+        GenerationJob job = jobs.get(id);
+        if (job == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        if (wait.isZero() || job.getStatus().isTerminal()) {
+            return CompletableFuture.completedFuture(Optional.of(job.toResponse()));
+        }
+
+        Duration timeout = wait.compareTo(properties.getMaxWait()) > 0 ? properties.getMaxWait() : wait;
+        // 공유 completion을 직접 완료시키지 않도록 복사본에 타임아웃을 검
+        return job.getCompletion().copy()
+            .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .thenApply(ignored -> Optional.of(job.toResponse()));
+    }
+
+    public Optional<JobResponse> cancel(String id) {
+        GenerationJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        synchronized (job) {
+            if (job.getStatus().isTerminal()) {
+                return Optional.of(job.toResponse());
+            }
+            job.transition(JobStatus.CANCELLED, null);
+            journal.save(job);
+            if (job.getTask() != null) {
+                // 워커 스레드를 인터럽트해 남은 시도를 멈추고, 블로킹 중인 HTTP 요청은 직접 중단
+                job.getTask().cancel(true);
+            }
+            if (job.getWorker() != null) {
+                callTimeouts.abort(job.getWorker());
+            }
+        }
+        log.info("작업 취소 - id: {}", id);
+        return Optional.of(job.toResponse());
+    }
+
+    private void enqueue(GenerationJob job) {
+        synchronized (job) {
+            try {
+                job.setTask(workers.submit(() -> run(job)));
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                throw new JobQueueFullException(workers.getQueue().size());
+            }
+        }
+    }
+
+    private void run(GenerationJob job) {
+        synchronized (job) {
+            if (job.getStatus() != JobStatus.PENDING) {
+                return;
+            }
+            job.transition(JobStatus.RUNNING, null);
+            job.setWorker(Thread.currentThread());
+            journal.save(job);
+        }
+
+        ResumeGenerationResponse response;
+        try {
+            response = fairScheduler.execute(clientOf(job), job.getRequest().getWordLimit(),
+                () -> resumeService.generateResume(job.getRequest().copy()));
+        } catch (RequestRejectedException e) {
+            log.warn("작업 실행 차례를 받지 못함 - id: {}, 사유: {}", job.getId(), e.getMessage());
+            response = ResumeGenerationResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } finally {
+            synchronized (job) {
+                job.setWorker(null);
+            }
+        }
+
+        if (shuttingDown) {
+            return;
+        }
+        JobStatus status = response.getError() == null ? JobStatus.SUCCEEDED : JobStatus.FAILED;
+        finish(job, status, response);
+        log.info("작업 완료 - id: {}, 상태: {}", job.getId(), job.getStatus());
+    }
+
+    private static ClientKey clientOf(GenerationJob job) {
+        // 클라이언트를 기록하기 전의 저널에서 복구한 작업은 작업별로 구분
+        return job.getClient() != null ? job.getClient() : new ClientKey("job:" + job.getId(), ClientKey.ANONYMOUS_CLASS);
+    }
+
+    private void finish(GenerationJob job, JobStatus status, ResumeGenerationResponse response) {
+        synchronized (job) {
+            // 실행 중 취소된 작업은 취소 상태 유지
+            if (job.getStatus().isTerminal()) {
+                return;
+            }
+            job.transition(status, response);
+            journal.save(job);
+        }
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> {
+            if (job.getStatus().isTerminal() && job.getUpdatedAt().isBefore(cutoff)) {
+                journal.delete(job.getId());
+                return true;
+            }
+            return false;
+        });
+    }
+}
@@ -0,0 +1,227 @@
+package com.resumeai.service.metrics;
+
+import com.resumeai.dto.AIModelType;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.governor.CallOutcome;
+import com.resumeai.service.governor.GovernorTimeoutException;
+import com.resumeai.service.history.GenerationAttempt;
+import com.resumeai.service.resilience.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 생성 파이프라인 계측을 한곳에 모읍니다. 모든 미터 이름은 resume.* 로 시작하며 model 태그를 가집니다.
+ *
+ * <ul>
+ *   <li>resume.ai.call - 시도별 AI 호출 지연 (Observation: 타이머 + 트레이싱 스팬, 진행 중 호출은 .active, 스트리밍 포함)</li>
+ *   <li>resume.generation.request - 요청 하나의 전체 생성 시간 (outcome: success/error)</li>
+ *   <li>resume.generation.attempts - 요청당 AI 호출 횟수</li>
+ *   <li>resume.generation.length - 시도별 글자수 판정 (under/within/over)</li>
+ *   <li>resume.generation.early.abort - 글자수 초과로 생성을 도중에 중단한 횟수</li>
+ *   <li>resume.ai.tokens - 프롬프트/응답 토큰 수 (제공자 usage 기준)</li>
+ *   <li>resume.ai.errors - 호출 실패 원인별 횟수</li>
+ *   <li>resume.generation.errors - 요청 단위 실패 횟수 (원인별: 미지원 모델, 예외 등)</li>
+ *   <li>resume.generation.in.flight - 생성 중인 요청 수</li>
+ * </ul>
+ */
+@Component
+public class GenerationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public GenerationMetrics(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+
+        Gauge.builder("resume.generation.in.flight", inFlight, AtomicInteger::get)
+            .description("생성 중인 요청 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나의 생성 전체를 측정합니다. generation은 AI 호출마다 {@link Attempts#increment()}를 호출해야 합니다.
+     */
+    public ResumeGenerationResponse timeRequest(String model, Function<Attempts, ResumeGenerationResponse> generation) {
+        Attempts attempts = new Attempts();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        String outcome = "error";
+        try {
+            ResumeGenerationResponse response = generation.apply(attempts);
+            if (response.getError() == null) {
+                outcome = "success";
+            }
+            return response;
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(Timer.builder("resume.generation.request")
+                .description("요청 하나의 전체 생성 시간 (재시도 포함)")
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+            DistributionSummary.builder("resume.generation.attempts")
+                .description("요청당 AI 호출 횟수")
+                .tag("model", model)
+                .register(meterRegistry)
+                .record(attempts.count());
+        }
+    }
+
+    /**
+     * AI 호출 하나를 Observation으로 감쌉니다. 트레이서가 있으면 스팬이 만들어집니다.
+     */
+    public ChatResponse observeCall(String model, int attempt, Supplier<ChatResponse> call) {
+        return Observation.createNotStarted("resume.ai.call", observationRegistry)
+            .contextualName("openai chat " + model)
+            .lowCardinalityKeyValue("model", model)
+            .lowCardinalityKeyValue("attempt", String.valueOf(attempt))
+            .observe(call);
+    }
+
+    /**
+     * 스트리밍 호출을 Observation으로 감쌉니다. 구독 시 시작하고 완료·오류·취소 시 종료합니다.
+     */
+    public <T> Flux<T> observeStream(String model, int attempt, Flux<T> stream) {
+        return Flux.defer(() -> {
+            Observation observation = Observation.createNotStarted("resume.ai.call", observationRegistry)
+                .contextualName("openai chat " + model)
+                .lowCardinalityKeyValue("model", model)
+                .lowCardinalityKeyValue("attempt", String.valueOf(attempt))
+                .start();
+            return stream
+                .doOnError(observation::error)
+                .doFinally(signal -> observation.stop());
+        });
+    }
+
+    public void recordLength(String model, int attempt, int length, int minLength, int maxLength) {
+        String outcome = length < minLength ? "under" : length > maxLength ? "over" : "within";
+        Counter.builder("resume.generation.length")
+            .description("시도별 글자수 판정 결과")
+            .tag("model", model)
+            .tag("attempt", String.valueOf(attempt))
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordEarlyAbort(String model, int attempt) {
+        Counter.builder("resume.generation.early.abort")
+            .description("글자수 초과로 생성을 도중에 중단한 횟수")
+            .tag("model", model)
+            .tag("attempt", String.valueOf(attempt))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordUsage(String model, ChatResponse response) {
+        if (response.getMetadata() == null || response.getMetadata().getUsage() == null) {
+            return;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        recordTokens(model, "prompt", usage.getPromptTokens());
+        recordTokens(model, "completion", usage.getGenerationTokens());
+    }
+
+    /**
+     * 프롬프트 토큰 중 제공자 캐시로 처리됐을 것으로 추정되는 비율을 기록합니다.
+     * Spring AI 0.8.1 응답에는 제공자의 cached_tokens 값이 없으므로, 요청 간 공유되는 시스템 메시지의 토큰 수로 추정하며
+     * 프리픽스가 모델의 최소 캐시 길이보다 짧으면 0으로 기록합니다.
+     */
+    public void recordPromptCaching(String model, AIModelType modelType, int prefixTokens, ChatResponse response) {
+        if (response.getMetadata() == null || response.getMetadata().getUsage() == null) {
+            return;
+        }
+        Long promptTokens = response.getMetadata().getUsage().getPromptTokens();
+        if (promptTokens == null || promptTokens <= 0) {
+            return;
+        }
+        double cachedRatio = modelType.isPrefixCacheable(prefixTokens)
+            ? Math.min(1.0, (double) prefixTokens / promptTokens)
+            : 0.0;
+        DistributionSummary.builder("resume.ai.prompt.cached.ratio")
+            .description("프롬프트 토큰 중 제공자 프리픽스 캐시 적용 비율 (추정)")
+            .tag("model", model)
+            .register(meterRegistry)
+            .record(cachedRatio);
+    }
+
+    public void recordError(String model, Throwable error) {
+        String cause = error instanceof GovernorTimeoutException ? "governor_timeout"
+            : error instanceof BulkheadFullException ? "bulkhead_full"
+            : CallOutcome.classify(error).name().toLowerCase();
+        Counter.builder("resume.ai.errors")
+            .description("AI 호출 실패 횟수 (원인별)")
+            .tag("model", model)
+            .tag("cause", cause)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordFailure(String cause) {
+        Counter.builder("resume.generation.errors")
+            .description("요청 단위 실패 횟수 (원인별)")
+            .tag("cause", cause)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private void recordTokens(String model, String type, Long tokens) {
+        if (tokens == null || tokens <= 0) {
+            return;
+        }
+        Counter.builder("resume.ai.tokens")
+            .description("제공자가 보고한 토큰 수")
+            .baseUnit("tokens")
+            .tag("model", model)
+            .tag("type", type)
+            .register(meterRegistry)
+            .increment(tokens);
+    }
+
+    /**
+     * 요청 하나에서 발생한 AI 호출 횟수와 (생성 이력 로그가 켜져 있으면) 시도별 기록.
+     * 병렬 후보 생성에서 여러 스레드가 함께 갱신합니다.
+     */
+    public static final class Attempts {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final List<GenerationAttempt> history = Collections.synchronizedList(new ArrayList<>(4));
+
+        public void increment() {
+            count.incrementAndGet();
+        }
+
+        public void record(GenerationAttempt attempt) {
+            history.add(attempt);
+        }
+
+        public List<GenerationAttempt> history() {
+            synchronized (history) {
+                return List.copyOf(history);
+            }
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+}
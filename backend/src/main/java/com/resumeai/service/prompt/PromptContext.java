@@ -0,0 +1,27 @@
+package com.resumeai.service.prompt;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+
+/**
+ * 템플릿 변수 값의 출처입니다. 목표 글자수는 호출 측에서 계산해 넘깁니다.
+ * 앞뒤 문맥은 문단 단위 재생성(paragraph 템플릿)에서만 사용합니다.
+ */
+public record PromptContext(ResumeGenerationRequest request, int targetMin, int targetMax,
+                            String contextBefore, String contextAfter) {
+
+    public PromptContext(ResumeGenerationRequest request, int targetMin, int targetMax) {
+        this(request, targetMin, targetMax, null, null);
+    }
+
+    public int currentLength() {
+        return request.getDraft().length();
+    }
+
+    public int needMore() {
+        return targetMin - currentLength();
+    }
+
+    public int needLess() {
+        return currentLength() - targetMax;
+    }
+}
@@ -0,0 +1,77 @@
+package com.resumeai.service.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 한 번 파싱해 두는 프롬프트 템플릿입니다.
+ * 본문은 고정 문자열 조각과 변수 자리로 나뉘며, 렌더링은 조각을 순서대로 append하기만 합니다.
+ */
+final class PromptTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // literals.length == variables.length + 1, 렌더링 순서: literals[0] variables[0] literals[1] ...
+    private final String[] literals;
+    private final PromptVariable[] variables;
+    private final int literalLength;
+
+    private PromptTemplate(String[] literals, PromptVariable[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static PromptTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<PromptVariable> variables = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 변수 (위치 " + open + ")");
+            }
+            literals.add(source.substring(position, open));
+            variables.add(PromptVariable.fromPlaceholder(source.substring(open + OPEN.length(), close).strip()));
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new PromptTemplate(literals.toArray(String[]::new), variables.toArray(PromptVariable[]::new));
+    }
+
+    void renderTo(StringBuilder out, PromptContext context) {
+        out.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            variables[i].appendTo(out, context);
+            out.append(literals[i + 1]);
+        }
+    }
+
+    boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    // 변수가 없는 템플릿은 렌더링 결과가 항상 같으므로 같은 문자열을 그대로 돌려줌
+    String constantText() {
+        return literals[0];
+    }
+
+    int estimatedLength(PromptContext context) {
+        int length = literalLength;
+        for (PromptVariable variable : variables) {
+            length += variable.estimatedLength(context);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,182 @@
+package com.resumeai.service.prompt;
+
+import com.resumeai.config.PromptProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버전별 리소스 디렉터리(prompts/v1/...)의 프롬프트 템플릿을 미리 컴파일해 두고 렌더링합니다.
+ * 요청 경로에서는 String.format 파싱이나 Formatter 할당 없이 조각을 이어 붙이기만 합니다.
+ *
+ * location이 file: 경로이고 reload-interval이 설정되어 있으면, 렌더링 시점에
+ * 파일 수정 시각을 확인해 바뀐 템플릿을 다시 컴파일합니다 (재배포 없이 프롬프트 교체).
+ *
+ * 시스템 프롬프트는 변수를 허용하지 않습니다. 모든 요청이 바이트 단위로 같은 시스템 메시지로 시작해야
+ * 제공자 측 프롬프트 프리픽스 캐시가 적용되기 때문입니다. 그 뒤에는 회사·직군만 담은 context 메시지를 두어
+ * 같은 지원서의 여러 문항(일괄 생성)과 재시도가 시스템 메시지보다 긴 프리픽스를 공유하게 합니다.
+ */
+@Slf4j
+@Component
+public class PromptTemplates {
+
+    private static final String SEPARATOR = "\n\n";
+    private static final int POOL_SIZE = 64;
+    private static final int MAX_RETAINED_CAPACITY = 32 * 1024;
+
+    private final PromptProperties promptProperties;
+    private final ResourceLoader resourceLoader;
+    private final StringBuilderPool builderPool = new StringBuilderPool(POOL_SIZE, MAX_RETAINED_CAPACITY);
+    private final long reloadIntervalNanos;
+
+    private volatile Map<TemplateName, PromptTemplate> templates;
+    private volatile long lastModified;
+    private volatile long nextReloadCheck;
+
+    public PromptTemplates(PromptProperties promptProperties, ResourceLoader resourceLoader) {
+        this.promptProperties = promptProperties;
+        this.resourceLoader = resourceLoader;
+        this.reloadIntervalNanos = promptProperties.getReloadInterval().toNanos();
+        this.templates = load();
+        this.lastModified = lastModified();
+        this.nextReloadCheck = System.nanoTime() + reloadIntervalNanos;
+        log.info("프롬프트 템플릿 로드: {}{}/", promptProperties.getLocation(), promptProperties.getVersion());
+    }
+
+    public String render(TemplateName name, PromptContext context) {
+        return render(current().get(name), context);
+    }
+
+    private String render(PromptTemplate template, PromptContext context) {
+        StringBuilder out = builderPool.acquire(template.estimatedLength(context));
+        try {
+            template.renderTo(out, context);
+            return out.toString();
+        } finally {
+            builderPool.release(out);
+        }
+    }
+
+    /**
+     * 모든 요청에 공통인 시스템 프롬프트. 템플릿을 다시 로드하기 전까지 같은 문자열 인스턴스를 반환합니다.
+     */
+    public String systemPrompt() {
+        return current().get(TemplateName.SYSTEM).constantText();
+    }
+
+    /**
+     * 고정 시스템 메시지, 회사·직군 메시지, 요청별 사용자 메시지로 나눠 렌더링합니다. 모든 제공자는 이 순서 그대로 보내야 합니다.
+     */
+    public List<Message> renderMessages(TemplateName name, PromptContext context) {
+        Map<TemplateName, PromptTemplate> snapshot = current();
+        return List.of(
+            new SystemMessage(snapshot.get(TemplateName.SYSTEM).constantText()),
+            new UserMessage(render(snapshot.get(TemplateName.CONTEXT), context)),
+            new UserMessage(render(snapshot.get(name), context))
+        );
+    }
+
+    /**
+     * 시스템, 회사·직군, 사용자 프롬프트를 빈 줄로 이어 한 번에 렌더링합니다 (토큰 수 추정용).
+     */
+    public String renderWithSystem(TemplateName name, PromptContext context) {
+        Map<TemplateName, PromptTemplate> snapshot = current();
+        PromptTemplate system = snapshot.get(TemplateName.SYSTEM);
+        PromptTemplate shared = snapshot.get(TemplateName.CONTEXT);
+        PromptTemplate user = snapshot.get(name);
+
+        StringBuilder out = builderPool.acquire(system.estimatedLength(context) + shared.estimatedLength(context)
+            + 2 * SEPARATOR.length() + user.estimatedLength(context));
+        try {
+            system.renderTo(out, context);
+            out.append(SEPARATOR);
+            shared.renderTo(out, context);
+            out.append(SEPARATOR);
+            user.renderTo(out, context);
+            return out.toString();
+        } finally {
+            builderPool.release(out);
+        }
+    }
+
+    private Map<TemplateName, PromptTemplate> current() {
+        if (reloadIntervalNanos > 0 && System.nanoTime() - nextReloadCheck >= 0) {
+            reloadIfModified();
+        }
+        return templates;
+    }
+
+    private synchronized void reloadIfModified() {
+        long now = System.nanoTime();
+        if (now - nextReloadCheck < 0) {
+            return;
+        }
+        nextReloadCheck = now + reloadIntervalNanos;
+
+        long modified = lastModified();
+        if (modified == lastModified) {
+            return;
+        }
+        try {
+            templates = load();
+            lastModified = modified;
+            log.info("프롬프트 템플릿 변경 감지 - 다시 로드했습니다: {}{}/",
+                promptProperties.getLocation(), promptProperties.getVersion());
+        } catch (RuntimeException e) {
+            // 잘못된 템플릿으로 서비스가 멈추지 않도록 기존 템플릿을 유지
+            log.error("프롬프트 템플릿 다시 로드 실패 - 기존 템플릿 유지: {}", e.getMessage());
+        }
+    }
+
+    private Map<TemplateName, PromptTemplate> load() {
+        Map<TemplateName, PromptTemplate> loaded = new EnumMap<>(TemplateName.class);
+        for (TemplateName name : TemplateName.values()) {
+            Resource resource = resource(name);
+            try {
+                String source = resource.getContentAsString(StandardCharsets.UTF_8);
+                loaded.put(name, PromptTemplate.compile(source));
+            } catch (IOException e) {
+                throw new UncheckedIOException("프롬프트 템플릿을 읽을 수 없습니다: " + resource.getDescription(), e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException(
+                    "프롬프트 템플릿 오류 (" + resource.getDescription() + "): " + e.getMessage(), e);
+            }
+        }
+        if (!loaded.get(TemplateName.SYSTEM).isConstant()) {
+            throw new IllegalStateException("시스템 프롬프트에는 템플릿 변수를 쓸 수 없습니다 (요청마다 같은 프리픽스를 유지해야 함)");
+        }
+        return loaded;
+    }
+
+    private long lastModified() {
+        long latest = 0;
+        for (TemplateName name : TemplateName.values()) {
+            try {
+                latest = Math.max(latest, resource(name).lastModified());
+            } catch (IOException e) {
+                // jar 내부 리소스 등 수정 시각을 알 수 없는 경우
+                return 0;
+            }
+        }
+        return latest;
+    }
+
+    private Resource resource(TemplateName name) {
+        String location = promptProperties.getLocation();
+        if (!location.endsWith("/")) {
+            location += "/";
+        }
+        return resourceLoader.getResource(location + promptProperties.getVersion() + "/" + name.fileName());
+    }
+}
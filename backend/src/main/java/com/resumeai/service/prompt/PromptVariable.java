@@ -0,0 +1,73 @@
+package com.resumeai.service.prompt;
+
+/**
+ * 템플릿에서 {{이름}} 형태로 쓸 수 있는 변수입니다.
+ * 숫자 변수는 StringBuilder에 바로 append하므로 문자열 변환 할당이 없습니다.
+ */
+enum PromptVariable {
+    QUESTION("question"),
+    DRAFT("draft"),
+    COMPANY("company"),
+    POSITION("position"),
+    TARGET_MIN("targetMin"),
+    TARGET_MAX("targetMax"),
+    CURRENT_LENGTH("currentLength"),
+    NEED_MORE("needMore"),
+    NEED_LESS("needLess"),
+    CONTEXT_BEFORE("contextBefore"),
+    CONTEXT_AFTER("contextAfter");
+
+    private static final int NUMBER_LENGTH_ESTIMATE = 6;
+    private static final String NONE = "(없음)";
+
+    private final String placeholder;
+
+    PromptVariable(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    static PromptVariable fromPlaceholder(String placeholder) {
+        for (PromptVariable variable : values()) {
+            if (variable.placeholder.equals(placeholder)) {
+                return variable;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 템플릿 변수: {{" + placeholder + "}}");
+    }
+
+    void appendTo(StringBuilder out, PromptContext context) {
+        switch (this) {
+            case QUESTION -> out.append(context.request().getQuestion());
+            case DRAFT -> out.append(context.request().getDraft());
+            case COMPANY -> out.append(context.request().getCompany());
+            case POSITION -> out.append(context.request().getPosition());
+            case TARGET_MIN -> out.append(context.targetMin());
+            case TARGET_MAX -> out.append(context.targetMax());
+            case CURRENT_LENGTH -> out.append(context.currentLength());
+            case NEED_MORE -> out.append(context.needMore());
+            case NEED_LESS -> out.append(context.needLess());
+            case CONTEXT_BEFORE -> out.append(orNone(context.contextBefore()));
+            case CONTEXT_AFTER -> out.append(orNone(context.contextAfter()));
+        }
+    }
+
+    int estimatedLength(PromptContext context) {
+        return switch (this) {
+            case QUESTION -> length(context.request().getQuestion());
+            case DRAFT -> length(context.request().getDraft());
+            case COMPANY -> length(context.request().getCompany());
+            case POSITION -> length(context.request().getPosition());
+            case CONTEXT_BEFORE -> orNone(context.contextBefore()).length();
+            case CONTEXT_AFTER -> orNone(context.contextAfter()).length();
+            default -> NUMBER_LENGTH_ESTIMATE;
+        };
+    }
+
+    private static String orNone(String value) {
+        return value == null || value.isEmpty() ? NONE : value;
+    }
+
+    private static int length(String value) {
+        return value == null ? 4 : value.length();
+    }
+}
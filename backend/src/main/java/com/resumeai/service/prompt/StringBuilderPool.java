@@ -0,0 +1,44 @@
+package com.resumeai.service.prompt;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프롬프트 렌더링용 StringBuilder 풀입니다.
+ * 가상 스레드에서는 ThreadLocal 재사용이 통하지 않으므로 스레드와 무관한 풀을 씁니다.
+ * 너무 커진 버퍼는 돌려받지 않아 풀이 메모리를 오래 붙잡지 않게 합니다.
+ */
+final class StringBuilderPool {
+
+    private final ConcurrentLinkedQueue<StringBuilder> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int maxPooled;
+    private final int maxRetainedCapacity;
+
+    StringBuilderPool(int maxPooled, int maxRetainedCapacity) {
+        this.maxPooled = maxPooled;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    StringBuilder acquire(int capacity) {
+        StringBuilder builder = pool.poll();
+        if (builder == null) {
+            return new StringBuilder(capacity);
+        }
+        pooled.decrementAndGet();
+        builder.setLength(0);
+        builder.ensureCapacity(capacity);
+        return builder;
+    }
+
+    void release(StringBuilder builder) {
+        if (builder.capacity() > maxRetainedCapacity) {
+            return;
+        }
+        if (pooled.incrementAndGet() <= maxPooled) {
+            pool.offer(builder);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+}
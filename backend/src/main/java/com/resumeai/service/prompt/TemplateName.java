@@ -0,0 +1,20 @@
+package com.resumeai.service.prompt;
+
+public enum TemplateName {
+    SYSTEM("system"),
+    CONTEXT("context"),
+    INITIAL("initial"),
+    EXPAND("expand"),
+    SUMMARIZE("summarize"),
+    PARAGRAPH("paragraph");
+
+    private final String fileName;
+
+    TemplateName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    String fileName() {
+        return fileName + ".txt";
+    }
+}
@@ -0,0 +1,14 @@
+package com.resumeai.service.resilience;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 호출 조절기 허가를 받았지만 벌크헤드에 자리가 없어 AI 호출을 시작하지 않은 경우 발생합니다.
+ * 모델 상태와 무관한 과부하이므로 대체 모델로 보내지 않고, 호출 조절기 한도나 회로 판정에도 쓰지 않습니다.
+ */
+public class BulkheadFullException extends RejectedExecutionException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.resumeai.service.resilience;
+
+/**
+ * 회로가 열려 있거나 반열림 시험 호출 자리가 없어 AI 호출을 시작하지 않은 경우 발생합니다.
+ * 요청 모델을 당분간 호출할 수 없다는 뜻이므로 대체 모델로 생성할 수 있습니다.
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
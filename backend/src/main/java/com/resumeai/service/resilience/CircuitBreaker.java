@@ -0,0 +1,159 @@
+package com.resumeai.service.resilience;
+
+import com.resumeai.config.ResilienceProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 N회 호출의 오류율과 지연 호출 비율로 여닫는 회로 차단기입니다.
+ *
+ * <ul>
+ *   <li>CLOSED: 모든 호출 허용, 결과를 고정 크기 창에 기록</li>
+ *   <li>OPEN: 모든 호출 즉시 거절, openDuration이 지나면 HALF_OPEN으로 전환</li>
+ *   <li>HALF_OPEN: 시험 호출 몇 건만 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN</li>
+ * </ul>
+ * 상태 전환이 드물고 임계 구역이 짧으므로 단순히 synchronized로 보호합니다.
+ *
+ * <p>상태가 바뀔 때마다 세대(epoch)를 올리고, 허가를 받을 때의 세대를 결과와 함께 돌려받습니다.
+ * 이전 상태에서 시작된 호출의 늦은 결과(예: 닫힘 상태에서 시작해 반열림 중에 끝난 호출)는 무시하므로
+ * 시험 호출 수가 어긋나거나 일반 호출이 시험 호출 성공으로 집계되지 않습니다.
+ */
+@Slf4j
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    static final long NOT_PERMITTED = -1;
+
+    private final String name;
+    private final ResilienceProperties.Policy policy;
+
+    // 최근 호출 결과 링 버퍼
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long epoch;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(String name, ResilienceProperties.Policy policy) {
+        this.name = name;
+        this.policy = policy;
+        this.failed = new boolean[policy.getWindowSize()];
+        this.slow = new boolean[policy.getWindowSize()];
+    }
+
+    synchronized State state() {
+        if (state == State.OPEN && openElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * @return 허가한 상태의 세대, 거절하면 {@link #NOT_PERMITTED}
+     */
+    synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (!openElapsed()) {
+                return NOT_PERMITTED;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSucceeded >= policy.getHalfOpenCalls()) {
+                return NOT_PERMITTED;
+            }
+            halfOpenInFlight++;
+        }
+        return epoch;
+    }
+
+    synchronized void onResult(long permitEpoch, boolean failure, boolean slowCall) {
+        if (permitEpoch != epoch) {
+            // 다른 상태에서 시작된 호출의 늦은 결과는 무시
+            return;
+        }
+        switch (state) {
+            case CLOSED -> {
+                record(failure, slowCall);
+                if (recorded >= policy.getMinimumCalls() && exceedsThreshold()) {
+                    log.warn("{} 회로 열림 - 최근 {}회 중 실패 {}회, 지연 {}회", name, recorded, failures, slowCalls);
+                    transition(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                halfOpenInFlight--;
+                if (failure || slowCall) {
+                    log.warn("{} 시험 호출 실패 - 회로 다시 열림", name);
+                    transition(State.OPEN);
+                } else if (++halfOpenSucceeded >= policy.getHalfOpenCalls()) {
+                    log.info("{} 시험 호출 {}회 성공 - 회로 닫힘", name, halfOpenSucceeded);
+                    transition(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // 열림 상태에서는 허가하지 않으므로 같은 세대의 결과가 올 수 없음
+            }
+        }
+    }
+
+    /**
+     * 허가를 받았지만 결과를 판정할 수 없는 호출 (429, 요청 오류, 취소 등). 반열림 시험 자리만 돌려줍니다.
+     */
+    synchronized void onIgnored(long permitEpoch) {
+        if (permitEpoch == epoch && state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recorded == failed.length) {
+            failures -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        failures += failure ? 1 : 0;
+        slowCalls += slowCall ? 1 : 0;
+        next = (next + 1) % failed.length;
+    }
+
+    private boolean exceedsThreshold() {
+        return (double) failures / recorded >= policy.getFailureRateThreshold()
+            || (double) slowCalls / recorded >= policy.getSlowCallRateThreshold();
+    }
+
+    private boolean openElapsed() {
+        return System.nanoTime() - openedAt >= policy.getOpenDuration().toNanos();
+    }
+
+    private void transition(State target) {
+        state = target;
+        epoch++;
+        switch (target) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                halfOpenInFlight = 0;
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                next = 0;
+                recorded = 0;
+                failures = 0;
+                slowCalls = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.resumeai.service.resilience;
+
+import com.resumeai.config.ResilienceProperties;
+import com.resumeai.dto.AIModelType;
+import com.resumeai.service.governor.CallOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI 모델(제공자 엔드포인트)별 회로 차단기와 벌크헤드입니다.
+ *
+ * <p>제공자가 장애일 때 요청마다 타임아웃까지 재시도하며 스레드를 붙잡지 않도록, 오류율이나 지연 호출 비율이
+ * 임계값을 넘으면 회로를 열어 호출을 즉시 거절합니다. 벌크헤드는 한 모델이 동시에 진행하는 호출 수를 제한해
+ * 느려진 모델이 다른 모델의 처리 능력까지 잠식하지 않게 합니다.
+ * 회로는 호출 조절기 대기 전에 확인하고({@link #acquire}), 벌크헤드 자리는 조절기 허가를 받은 뒤 실제 호출 직전에
+ * 받으므로({@link Permit#enter}) 조절기 대기열에서 기다리는 호출은 벌크헤드를 차지하지 않습니다.
+ * 서버 오류와 타임아웃, 지연 호출만 실패로 집계하고 429(호출 조절기가 처리), 요청 오류, 취소는 집계하지 않습니다.
+ * 지연 호출 기준은 호출마다 응답 대기 예산({@code CallTimeouts.budgetFor})의 일정 비율이므로
+ * 긴 글을 생성하는 정상 호출이 지연으로 집계되지 않습니다.
+ */
+@Slf4j
+@Component
+public class ProviderResilience {
+
+    private static final Permit NO_OP = new Permit(null, CircuitBreaker.NOT_PERMITTED, 0);
+
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<AIModelType, Guard> guards = new ConcurrentHashMap<>();
+
+    public ProviderResilience(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 회로 차단기 허가를 받습니다. 호출이 끝나면 반드시 {@link Permit#close()}로 반납해야 합니다.
+     *
+     * @param callBudget 이 호출의 응답 대기 예산. 지연 호출 판정 기준이 됩니다.
+     * @throws CallNotPermittedException 회로가 열려 있거나 반열림 시험 자리가 없는 경우
+     */
+    public Permit acquire(AIModelType modelType, Duration callBudget) {
+        if (!properties.isEnabled()) {
+            return NO_OP;
+        }
+        Guard guard = guard(modelType);
+        long epoch = guard.breaker.tryAcquire();
+        if (epoch == CircuitBreaker.NOT_PERMITTED) {
+            guard.rejectedOpen.increment();
+            throw new CallNotPermittedException(modelType.getModelName() + " 회로 열림");
+        }
+        return new Permit(guard, epoch, guard.slowCallNanos(callBudget));
+    }
+
+    /**
+     * 회로가 열려 있어 호출이 바로 거절될 상태인지 확인합니다 (반열림 전환 시각이 지났으면 허용으로 봄).
+     */
+    public boolean isCallPermitted(AIModelType modelType) {
+        return !properties.isEnabled() || guard(modelType).breaker.state() != CircuitBreaker.State.OPEN;
+    }
+
+    /**
+     * 설정된 대체 모델 중 현재 호출할 수 있는 모델을 찾습니다.
+     */
+    public Optional<AIModelType> fallbackFor(AIModelType modelType) {
+        String fallback = properties.getFallbacks().get(modelType.getModelName());
+        if (fallback == null) {
+            return Optional.empty();
+        }
+        AIModelType fallbackType = AIModelType.fromString(fallback);
+        if (fallbackType == modelType || !isCallPermitted(fallbackType)) {
+            return Optional.empty();
+        }
+        Counter.builder("resume.circuit.fallbacks")
+            .description("회로가 열려 대체 모델로 보낸 요청 수")
+            .tag("model", modelType.getModelName())
+            .tag("fallback", fallbackType.getModelName())
+            .register(meterRegistry)
+            .increment();
+        return Optional.of(fallbackType);
+    }
+
+    private Guard guard(AIModelType modelType) {
+        return guards.computeIfAbsent(modelType, this::createGuard);
+    }
+
+    private Guard createGuard(AIModelType modelType) {
+        ResilienceProperties.Policy policy = properties.policyFor(modelType.getModelName());
+        log.info("{} 회로 차단기 시작 - 최근 {}회 중 실패 {}% 또는 지연 {}% 이상이면 {}초간 차단, 동시 호출 {}건",
+            modelType.getModelName(), policy.getWindowSize(), (int) (policy.getFailureRateThreshold() * 100),
+            (int) (policy.getSlowCallRateThreshold() * 100), policy.getOpenDuration().toSeconds(),
+            policy.getMaxConcurrentCalls());
+        return new Guard(modelType, policy);
+    }
+
+    /**
+     * 허가 하나. {@link #enter}로 벌크헤드 자리를 받고 {@link #record}로 호출 결과를 회로 차단기에 기록하며,
+     * close 시 벌크헤드 자리를 반납합니다.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private final Guard guard;
+        private final long epoch;
+        private final long slowCallNanos;
+        private boolean entered;
+        private boolean recorded;
+
+        private Permit(Guard guard, long epoch, long slowCallNanos) {
+            this.guard = guard;
+            this.epoch = epoch;
+            this.slowCallNanos = slowCallNanos;
+        }
+
+        /**
+         * 벌크헤드 자리를 받습니다. 호출 조절기 허가를 받은 뒤 호출 직전에 부릅니다.
+         *
+         * @throws BulkheadFullException max-wait 안에 자리가 나지 않은 경우
+         */
+        public void enter() {
+            if (guard == null || entered) {
+                return;
+            }
+            if (!guard.tryEnterBulkhead()) {
+                guard.rejectedFull.increment();
+                throw new BulkheadFullException(guard.model + " 동시 호출 한도 초과");
+            }
+            entered = true;
+        }
+
+        public <T> T record(Supplier<T> call) {
+            if (guard == null) {
+                return call.get();
+            }
+            long startedAt = System.nanoTime();
+            try {
+                T result = call.get();
+                onSuccess(startedAt);
+                return result;
+            } catch (RuntimeException e) {
+                onError(e, startedAt);
+                throw e;
+            }
+        }
+
+        /**
+         * 블록으로 감쌀 수 없는 호출(스트리밍)의 성공을 기록합니다. startedAt은 실제 호출 시작 시각 (System.nanoTime).
+         */
+        public void onSuccess(long startedAt) {
+            if (guard == null) {
+                return;
+            }
+            recorded = true;
+            guard.breaker.onResult(epoch, false, isSlow(startedAt));
+        }
+
+        public void onError(Throwable error, long startedAt) {
+            if (guard == null) {
+                return;
+            }
+            CallOutcome outcome = CallOutcome.classify(error);
+            // 취소(인터럽트), 429, 요청 오류는 제공자 상태와 무관하므로 판정하지 않음
+            if (!Thread.currentThread().isInterrupted()
+                    && (outcome == CallOutcome.SERVER_ERROR || outcome == CallOutcome.SLOW)) {
+                recorded = true;
+                guard.breaker.onResult(epoch, true, isSlow(startedAt));
+            }
+        }
+
+        private boolean isSlow(long startedAt) {
+            return System.nanoTime() - startedAt >= slowCallNanos;
+        }
+
+        @Override
+        public void close() {
+            if (guard == null) {
+                return;
+            }
+            if (!recorded) {
+                guard.breaker.onIgnored(epoch);
+            }
+            if (entered) {
+                guard.bulkhead.release();
+            }
+        }
+    }
+
+    private final class Guard {
+
+        private final String model;
+        private final ResilienceProperties.Policy policy;
+        private final CircuitBreaker breaker;
+        private final Semaphore bulkhead;
+        private final Counter rejectedOpen;
+        private final Counter rejectedFull;
+
+        private Guard(AIModelType modelType, ResilienceProperties.Policy policy) {
+            String model = modelType.getModelName();
+            this.model = model;
+            this.policy = policy;
+            this.breaker = new CircuitBreaker(model, policy);
+            this.bulkhead = new Semaphore(policy.getMaxConcurrentCalls());
+
+            Gauge.builder("resume.circuit.state", breaker, b -> b.state().ordinal())
+                .description("회로 상태 (0: 닫힘, 1: 반열림, 2: 열림)")
+                .tag("model", model)
+                .register(meterRegistry);
+            Gauge.builder("resume.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("벌크헤드 남은 자리")
+                .tag("model", model)
+                .register(meterRegistry);
+            this.rejectedOpen = Counter.builder("resume.circuit.rejected")
+                .description("회로 차단기/벌크헤드가 시작 전에 거절한 호출 수")
+                .tag("model", model)
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+            this.rejectedFull = Counter.builder("resume.circuit.rejected")
+                .description("회로 차단기/벌크헤드가 시작 전에 거절한 호출 수")
+                .tag("model", model)
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+        }
+
+        private boolean tryEnterBulkhead() {
+            try {
+                return bulkhead.tryAcquire(policy.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private long slowCallNanos(Duration callBudget) {
+            if (policy.getSlowCallBudgetRatio() <= 0 || callBudget == null) {
+                return policy.getSlowCallDuration().toNanos();
+            }
+            return (long) (callBudget.toNanos() * policy.getSlowCallBudgetRatio());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.resumeai.service.routing;
+
+import com.resumeai.config.RoutingProperties;
+import com.resumeai.dto.AIModelType;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.AIService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 등록된 AIService 구현체 중 요청 모델을 지원하면서 현재 가장 빠르고 정상인 제공자로 요청을 보냅니다.
+ *
+ * <p>제공자마다 최근 호출의 p50/p99 지연 시간과 오류율을 관측합니다. 오류율이 높은 제공자는 후순위로 돌리고,
+ * 나머지는 충분히 관측된 제공자를 p50이 낮은 순으로 먼저 고릅니다. 표본이 부족한 제공자는 probe-rate 비율의 요청으로
+ * 시험합니다. 헤지 요청을 켜면 첫 호출이 지연될 때 다음 제공자로 중복 요청을 보내고 먼저 성공한 응답을 사용하며,
+ * 진 호출은 그때까지 걸린 시간을 (실제로는 그보다 느린) 지연 표본으로 남깁니다.
+ */
+@Slf4j
+@Component
+public class AIServiceRouter {
+
+    private final List<AIService> services;
+    private final RoutingProperties properties;
+    private final ExecutorService aiCallExecutor;
+    private final Map<String, ProviderStats> stats = new LinkedHashMap<>();
+
+    private final Counter hedgesIssued;
+    private final Counter hedgesWon;
+
+    public AIServiceRouter(List<AIService> services, RoutingProperties properties,
+                           ExecutorService aiCallExecutor, MeterRegistry meterRegistry) {
+        this.services = services;
+        this.properties = properties;
+        this.aiCallExecutor = aiCallExecutor;
+
+        for (AIService service : services) {
+            ProviderStats providerStats = new ProviderStats(properties.getWindow().toNanos(), properties.getWindowSize());
+            stats.put(service.getProviderName(), providerStats);
+
+            String provider = service.getProviderName();
+            Gauge.builder("resume.routing.latency.p50", providerStats, s -> s.snapshot().p50Nanos() / 1e9)
+                .tag("provider", provider).baseUnit("seconds").register(meterRegistry);
+            Gauge.builder("resume.routing.latency.p99", providerStats, s -> s.snapshot().p99Nanos() / 1e9)
+                .tag("provider", provider).baseUnit("seconds").register(meterRegistry);
+            Gauge.builder("resume.routing.error.rate", providerStats, s -> s.snapshot().errorRate())
+                .tag("provider", provider).register(meterRegistry);
+        }
+
+        this.hedgesIssued = Counter.builder("resume.routing.hedges")
+            .description("지연된 호출에 대해 보낸 중복 요청 수")
+            .register(meterRegistry);
+        this.hedgesWon = Counter.builder("resume.routing.hedges.won")
+            .description("중복 요청이 먼저 응답한 횟수")
+            .register(meterRegistry);
+    }
+
+    public boolean isModelSupported(AIModelType modelType) {
+        return services.stream().anyMatch(service -> service.isModelSupported(modelType));
+    }
+
+    public ResumeGenerationResponse generateResume(ResumeGenerationRequest request) {
+        List<AIService> ranked = rank(AIModelType.fromString(request.getAiModel()));
+        if (ranked.isEmpty()) {
+            log.warn("요청 모델을 지원하는 제공자 없음: {}", request.getAiModel());
+            return ResumeGenerationResponse.error("지원하지 않는 AI 모델입니다.");
+        }
+
+        probeUnderSampled(ranked);
+        AIService primary = ranked.get(0);
+        if (!properties.getHedge().isEnabled()) {
+            return call(primary, request, new AtomicBoolean());
+        }
+
+        AIService secondary = ranked.size() > 1 ? ranked.get(1) : primary;
+        return callWithHedge(primary, secondary, request);
+    }
+
+    /**
+     * 요청 모델을 지원하는 제공자를 정상 여부, 관측 여부, p50, p99 순으로 정렬합니다.
+     * 표본이 부족한 제공자는 정상으로 보되 충분히 관측된 정상 제공자 뒤에 둡니다.
+     */
+    List<AIService> rank(AIModelType modelType) {
+        Map<AIService, ProviderStats.Snapshot> snapshots = new LinkedHashMap<>();
+        for (AIService service : services) {
+            if (service.isModelSupported(modelType)) {
+                snapshots.put(service, stats.get(service.getProviderName()).snapshot());
+            }
+        }
+
+        List<AIService> ranked = new ArrayList<>(snapshots.keySet());
+        ranked.sort(Comparator
+            .comparing((AIService service) -> !isHealthy(snapshots.get(service)))
+            .thenComparing(service -> isUnderSampled(snapshots.get(service)))
+            .thenComparingLong(service -> snapshots.get(service).p50Nanos())
+            .thenComparingLong(service -> snapshots.get(service).p99Nanos()));
+        return ranked;
+    }
+
+    /**
+     * 표본이 부족한 제공자는 순위만으로는 다시 선택되지 않으므로, 일부 요청을 그 제공자로 먼저 보내 통계를 채웁니다.
+     */
+    private void probeUnderSampled(List<AIService> ranked) {
+        if (ranked.size() < 2 || isUnderSampled(snapshot(ranked.get(0)))
+                || ThreadLocalRandom.current().nextDouble() >= properties.getProbeRate()) {
+            return;
+        }
+        for (int i = 1; i < ranked.size(); i++) {
+            if (isUnderSampled(snapshot(ranked.get(i)))) {
+                ranked.add(0, ranked.remove(i));
+                return;
+            }
+        }
+    }
+
+    private ProviderStats.Snapshot snapshot(AIService service) {
+        return stats.get(service.getProviderName()).snapshot();
+    }
+
+    private boolean isUnderSampled(ProviderStats.Snapshot snapshot) {
+        return snapshot.samples() < properties.getMinSamples();
+    }
+
+    private boolean isHealthy(ProviderStats.Snapshot snapshot) {
+        return snapshot.samples() < properties.getMinSamples() || snapshot.errorRate() <= properties.getMaxErrorRate();
+    }
+
+    private ResumeGenerationResponse callWithHedge(AIService primary, AIService secondary,
+                                                   ResumeGenerationRequest request) {
+        ExecutorCompletionService<ResumeGenerationResponse> completionService =
+            new ExecutorCompletionService<>(aiCallExecutor);
+        List<Future<ResumeGenerationResponse>> futures = new ArrayList<>(2);
+        List<HedgedCall> calls = new ArrayList<>(2);
+        boolean decided = false;
+
+        // 각 호출이 초안을 바꿀 수 있으므로 복사본으로 보냄
+        HedgedCall primaryCall = new HedgedCall(primary, System.nanoTime(), new AtomicBoolean());
+        calls.add(primaryCall);
+        Future<ResumeGenerationResponse> primaryFuture =
+            completionService.submit(() -> call(primary, request.copy(), primaryCall.recorded()));
+        futures.add(primaryFuture);
+
+        try {
+            Future<ResumeGenerationResponse> done =
+                completionService.poll(properties.getHedge().getDelay().toMillis(), TimeUnit.MILLISECONDS);
+
+            if (done == null) {
+                log.info("{} 응답 지연 - {}로 중복 요청", primary.getProviderName(), secondary.getProviderName());
+                hedgesIssued.increment();
+                HedgedCall secondaryCall = new HedgedCall(secondary, System.nanoTime(), new AtomicBoolean());
+                calls.add(secondaryCall);
+                futures.add(completionService.submit(() -> call(secondary, request.copy(), secondaryCall.recorded())));
+                done = completionService.take();
+            }
+
+            ResumeGenerationResponse response = done.get();
+            if (response.getError() != null && futures.size() > 1) {
+                // 먼저 끝난 쪽이 실패하면 다른 쪽 결과를 기다림
+                done = completionService.take();
+                response = done.get();
+            }
+            if (done != primaryFuture) {
+                hedgesWon.increment();
+            }
+            decided = true;
+            return response;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResumeGenerationResponse.error("AI 서비스 호출이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            log.error("헤지 요청 처리 중 오류 발생: {}", e.getCause().getMessage());
+            return ResumeGenerationResponse.error("AI 서비스 호출 중 오류가 발생했습니다.");
+        } finally {
+            if (decided) {
+                recordLosers(calls);
+            }
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 아직 끝나지 않은 (진) 호출은 지금까지 걸린 시간을 지연 표본으로 남깁니다. 실제 지연은 이보다 길지만,
+     * 버리면 느린 제공자는 새 표본을 얻지 못해 예전 통계로 계속 1순위에 남습니다.
+     */
+    private void recordLosers(List<HedgedCall> calls) {
+        long now = System.nanoTime();
+        for (HedgedCall call : calls) {
+            if (call.recorded().compareAndSet(false, true)) {
+                stats.get(call.service().getProviderName()).record(now - call.startedAt(), false);
+            }
+        }
+    }
+
+    /**
+     * @param recorded 표본을 이미 남겼는지 여부. 호출이 끝나는 쪽과 헤지에서 진 쪽을 기록하는 쪽 중 먼저 잡은 쪽만 기록
+     */
+    private ResumeGenerationResponse call(AIService service, ResumeGenerationRequest request, AtomicBoolean recorded) {
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            ResumeGenerationResponse response = service.generateResume(request);
+            failed = response.getError() != null;
+            return response;
+        } finally {
+            if (recorded.compareAndSet(false, true)) {
+                stats.get(service.getProviderName()).record(System.nanoTime() - startedAt, failed);
+            }
+        }
+    }
+
+    private record HedgedCall(AIService service, long startedAt, AtomicBoolean recorded) {
+    }
+}
\ No newline at end of file
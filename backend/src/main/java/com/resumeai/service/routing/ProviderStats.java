@@ -0,0 +1,63 @@
+package com.resumeai.service.routing;
+
+import java.util.Arrays;
+
+/**
+ * 제공자 하나의 최근 호출 지연 시간과 성공 여부를 고정 크기 링 버퍼에 보관합니다.
+ * 구간(window)보다 오래된 기록은 통계에서 제외합니다.
+ */
+public class ProviderStats {
+
+    private final long windowNanos;
+    private final long[] latencies;
+    private final long[] timestamps;
+    private final boolean[] failures;
+
+    private int next;
+    private int size;
+
+    public ProviderStats(long windowNanos, int capacity) {
+        this.windowNanos = windowNanos;
+        this.latencies = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.failures = new boolean[capacity];
+    }
+
+    public synchronized void record(long latencyNanos, boolean failed) {
+        latencies[next] = latencyNanos;
+        timestamps[next] = System.nanoTime();
+        failures[next] = failed;
+        next = (next + 1) % latencies.length;
+        size = Math.min(size + 1, latencies.length);
+    }
+
+    public synchronized Snapshot snapshot() {
+        long cutoff = System.nanoTime() - windowNanos;
+        long[] recent = new long[size];
+        int count = 0;
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            if (timestamps[i] - cutoff >= 0) {
+                recent[count++] = latencies[i];
+                if (failures[i]) {
+                    failed++;
+                }
+            }
+        }
+
+        if (count == 0) {
+            return new Snapshot(0, 0, 0, 0);
+        }
+        Arrays.sort(recent, 0, count);
+        return new Snapshot(count, percentile(recent, count, 0.5), percentile(recent, count, 0.99),
+            (double) failed / count);
+    }
+
+    private static long percentile(long[] sorted, int count, double quantile) {
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    public record Snapshot(int samples, long p50Nanos, long p99Nanos, double errorRate) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.resumeai.service.scheduling;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * 스케줄러가 대기열을 나누는 단위. 설정에 등록된 API 키(resume-ai.scheduler.api-keys)를 보내면 키로, 아니면 IP로 구분합니다.
+ * 등록되지 않은 키는 무시하므로, 요청마다 임의의 키를 붙여 대기열을 늘리거나 api-key 등급의 몫을 받을 수 없습니다.
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 원래 IP가 remoteAddr에 반영되어야 합니다.
+ *
+ * @param id          대기열 키 (API 키는 원문 대신 해시 앞부분을 사용)
+ * @param clientClass 등급 이름 (api-key/anonymous)
+ */
+public record ClientKey(String id, String clientClass) {
+
+    public static final String API_KEY_CLASS = "api-key";
+    public static final String ANONYMOUS_CLASS = "anonymous";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * @param registeredKeys 등록된 API 키의 {@link #fingerprint} 집합
+     */
+    public static ClientKey from(HttpServletRequest request, Set<String> registeredKeys) {
+        String apiKey = request.getHeader("X-API-Key");
+        String authorization = request.getHeader("Authorization");
+        if ((apiKey == null || apiKey.isBlank()) && authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            apiKey = authorization.substring(BEARER_PREFIX.length());
+        }
+        if (apiKey != null && !apiKey.isBlank()) {
+            String fingerprint = fingerprint(apiKey.trim());
+            if (registeredKeys.contains(fingerprint)) {
+                return new ClientKey("key:" + fingerprint, API_KEY_CLASS);
+            }
+        }
+        return new ClientKey("ip:" + request.getRemoteAddr(), ANONYMOUS_CLASS);
+    }
+
+    static String fingerprint(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
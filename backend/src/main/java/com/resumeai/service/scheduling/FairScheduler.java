@@ -0,0 +1,313 @@
+package com.resumeai.service.scheduling;
+
+import com.resumeai.config.SchedulerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 생성 요청을 클라이언트별 대기열에 나눠 담고, 가중치 기반 Deficit Round Robin으로 제한된 작업 슬롯에 배정합니다.
+ *
+ * <p>한 클라이언트가 요청을 대량으로 보내도 자기 대기열만 길어질 뿐, 다른 클라이언트는 매 바퀴 자기 몫(weight)만큼
+ * 차례를 받으므로 대기 시간이 늘지 않습니다. 요청 비용은 글자수 제한에 비례합니다.
+ * 대기 기한이 지난 요청은 처리하지 않고 버립니다 (응답을 기다리는 클라이언트가 이미 포기했을 가능성이 큼).
+ *
+ * <p>작업은 별도 스레드로 넘기지 않고 호출 스레드에서 실행하며, 스케줄러는 실행 허가만 배정합니다.
+ * 스트리밍·일괄 생성처럼 호출 스레드에서 끝나지 않는 작업은 {@link #admit}으로 허가를 받아 작업이 끝날 때 반납합니다.
+ * 일괄 생성은 문항 비용의 합으로 한 번에 허가를 받습니다.
+ *
+ * <ul>
+ *   <li>resume.scheduler.queue.depth - 등급별 대기 요청 수</li>
+ *   <li>resume.scheduler.wait - 등급별 대기 시간 (처리된 요청)</li>
+ *   <li>resume.scheduler.shed - 등급별 거절/폐기 횟수 (reason: client_queue_full/queue_full/deadline_expired)</li>
+ *   <li>resume.scheduler.active - 실행 중인 요청 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class FairScheduler {
+
+    private final SchedulerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> registeredKeys;
+    private final Admission noOp = new Admission(null);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, ClientQueue> queues = new HashMap<>();
+    private final ArrayDeque<ClientQueue> rotation = new ArrayDeque<>();
+    private final Map<String, AtomicInteger> queuedByClass = new HashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private int queued;
+
+    public FairScheduler(SchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // 키 원문은 들고 있지 않고 요청의 키와 같은 방식으로 만든 지문만 비교
+        this.registeredKeys = properties.getApiKeys().stream()
+            .filter(key -> !key.isBlank())
+            .map(key -> ClientKey.fingerprint(key.trim()))
+            .collect(Collectors.toUnmodifiableSet());
+
+        for (String clientClass : properties.getClasses().keySet()) {
+            AtomicInteger depth = new AtomicInteger();
+            queuedByClass.put(clientClass, depth);
+            Gauge.builder("resume.scheduler.queue.depth", depth, AtomicInteger::get)
+                .description("등급별 대기 요청 수")
+                .tag("class", clientClass)
+                .register(meterRegistry);
+        }
+        Gauge.builder("resume.scheduler.active", active, AtomicInteger::get)
+            .description("실행 중인 요청 수")
+            .register(meterRegistry);
+    }
+
+    public ClientKey clientKey(HttpServletRequest request) {
+        return ClientKey.from(request, registeredKeys);
+    }
+
+    /**
+     * 차례가 오면 호출 스레드에서 task를 실행합니다.
+     *
+     * @throws RequestRejectedException 대기열이 가득 찼거나 대기 기한 안에 차례가 오지 않은 경우
+     */
+    public <T> T execute(ClientKey client, int wordLimit, Supplier<T> task) {
+        try (Admission ignored = admit(client, wordLimit)) {
+            return task.get();
+        }
+    }
+
+    /**
+     * 차례가 올 때까지 기다렸다가 실행 허가를 반환합니다. 비용은 글자수 제한별 비용의 합입니다.
+     * 작업이 끝나면(스트림 종료 포함) 반드시 {@link Admission#close()}로 반납해야 합니다.
+     *
+     * @throws RequestRejectedException 대기열이 가득 찼거나 대기 기한 안에 차례가 오지 않은 경우
+     */
+    public Admission admit(ClientKey client, int... wordLimits) {
+        if (!properties.isEnabled()) {
+            return noOp;
+        }
+        int cost = 0;
+        for (int wordLimit : wordLimits) {
+            cost += cost(wordLimit);
+        }
+        return new Admission(acquire(client, Math.max(1, cost)));
+    }
+
+    private int cost(int wordLimit) {
+        return Math.max(1, wordLimit / properties.getCostUnitChars());
+    }
+
+    private Ticket acquire(ClientKey client, int cost) {
+        SchedulerProperties.ClientClass clientClass = properties.classFor(client.clientClass());
+        long now = System.nanoTime();
+        Ticket ticket;
+
+        lock.lock();
+        try {
+            ClientQueue queue = queues.get(client.id());
+            if (rotation.isEmpty() && active.get() < properties.getWorkers()) {
+                // 기다리는 요청이 없으면 바로 실행
+                active.incrementAndGet();
+                recordWait(client.clientClass(), 0);
+                return new Ticket(client, cost, now, now);
+            }
+            if (queue != null && queue.tickets.size() >= clientClass.getMaxQueuedPerClient()) {
+                throw reject(client, RequestRejectedException.Reason.CLIENT_QUEUE_FULL,
+                    "클라이언트 대기 요청 수 초과 (" + queue.tickets.size() + "건)");
+            }
+            if (queued >= properties.getQueueCapacity()) {
+                throw reject(client, RequestRejectedException.Reason.QUEUE_FULL,
+                    "생성 대기열이 가득 찼습니다 (대기 " + queued + "건)");
+            }
+            if (queue == null) {
+                queue = new ClientQueue(client.id(), clientClass.getWeight());
+                queues.put(client.id(), queue);
+                rotation.addLast(queue);
+            }
+            ticket = new Ticket(client, cost, now, now + clientClass.getMaxWait().toNanos());
+            queue.tickets.addLast(ticket);
+            queued++;
+            queuedByClass.get(client.clientClass()).incrementAndGet();
+            dispatch();
+
+            // 배정되거나 기한이 지날 때까지 대기
+            while (ticket.state == TicketState.WAITING) {
+                long remaining = ticket.deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    remove(queue, ticket);
+                    ticket.state = TicketState.SHED;
+                    break;
+                }
+                try {
+                    ticket.granted.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    if (ticket.state == TicketState.WAITING) {
+                        remove(queue, ticket);
+                        ticket.state = TicketState.SHED;
+                    }
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (ticket.state == TicketState.SHED) {
+                dispatch();
+                throw reject(client, RequestRejectedException.Reason.DEADLINE_EXPIRED,
+                    "대기 기한 초과 (" + clientClass.getMaxWait().toSeconds() + "초)");
+            }
+        } finally {
+            lock.unlock();
+        }
+        return ticket;
+    }
+
+    private void release(Ticket ticket) {
+        lock.lock();
+        try {
+            active.decrementAndGet();
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빈 작업 슬롯을 DRR 순서로 배정합니다. 차례가 온 대기열은 weight만큼 적립하고, 적립분이 맨 앞 요청 비용 이상이면 실행합니다.
+     * lock을 잡은 상태에서 호출해야 합니다.
+     */
+    private void dispatch() {
+        while (active.get() < properties.getWorkers() && !rotation.isEmpty()) {
+            ClientQueue queue = rotation.peekFirst();
+            Ticket head = queue.tickets.peekFirst();
+
+            if (head.deadline - System.nanoTime() <= 0) {
+                // 대기 중인 스레드가 깨어나 기한 초과로 처리
+                remove(queue, head);
+                head.state = TicketState.SHED;
+                head.granted.signal();
+                continue;
+            }
+            if (!queue.turnStarted) {
+                queue.deficit += queue.weight;
+                queue.turnStarted = true;
+            }
+            if (queue.deficit < head.cost) {
+                // 이번 바퀴 몫을 다 씀 - 다음 대기열로
+                queue.turnStarted = false;
+                rotation.addLast(rotation.pollFirst());
+                continue;
+            }
+
+            queue.deficit -= head.cost;
+            remove(queue, head);
+            head.state = TicketState.GRANTED;
+            active.incrementAndGet();
+            recordWait(head.client.clientClass(), System.nanoTime() - head.enqueuedAt);
+            head.granted.signal();
+        }
+    }
+
+    private void remove(ClientQueue queue, Ticket ticket) {
+        if (!queue.tickets.remove(ticket)) {
+            return;
+        }
+        queued--;
+        queuedByClass.get(ticket.client.clientClass()).decrementAndGet();
+        if (queue.tickets.isEmpty()) {
+            // 빈 대기열은 적립분을 남기지 않음 (쉬었다 돌아온 클라이언트가 몰아서 받지 않도록)
+            queues.remove(queue.clientId);
+            rotation.remove(queue);
+        }
+    }
+
+    private void recordWait(String clientClass, long waitNanos) {
+        Timer.builder("resume.scheduler.wait")
+            .description("생성 요청이 실행 차례를 기다린 시간")
+            .tag("class", clientClass)
+            .register(meterRegistry)
+            .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private RequestRejectedException reject(ClientKey client, RequestRejectedException.Reason reason, String message) {
+        Counter.builder("resume.scheduler.shed")
+            .description("스케줄러가 거절하거나 버린 요청 수")
+            .tag("class", client.clientClass())
+            .tag("reason", reason.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+        log.debug("생성 요청 거절 - 클라이언트: {}, 사유: {}", client.id(), message);
+        return new RequestRejectedException(reason, message);
+    }
+
+    /**
+     * 작업 슬롯 하나의 실행 허가. 여러 번 닫아도 한 번만 반납합니다.
+     */
+    public final class Admission implements AutoCloseable {
+
+        private final Ticket ticket;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Admission(Ticket ticket) {
+            this.ticket = ticket;
+        }
+
+        @Override
+        public void close() {
+            if (ticket != null && released.compareAndSet(false, true)) {
+                release(ticket);
+            }
+        }
+    }
+
+    private enum TicketState {
+        WAITING,
+        GRANTED,
+        SHED
+    }
+
+    private final class Ticket {
+
+        private final ClientKey client;
+        private final int cost;
+        private final long enqueuedAt;
+        private final long deadline;
+        private final Condition granted = lock.newCondition();
+        private TicketState state = TicketState.WAITING;
+
+        private Ticket(ClientKey client, int cost, long enqueuedAt, long deadline) {
+            this.client = client;
+            this.cost = cost;
+            this.enqueuedAt = enqueuedAt;
+            this.deadline = deadline;
+        }
+    }
+
+    private static final class ClientQueue {
+
+        private final String clientId;
+        private final int weight;
+        private final ArrayDeque<Ticket> tickets = new ArrayDeque<>();
+        private int deficit;
+        private boolean turnStarted;
+
+        private ClientQueue(String clientId, int weight) {
+            this.clientId = clientId;
+            this.weight = weight;
+        }
+    }
+}
\ No newline at end of file
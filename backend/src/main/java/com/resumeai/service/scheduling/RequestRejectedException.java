@@ -0,0 +1,26 @@
+package com.resumeai.service.scheduling;
+
+import lombok.Getter;
+
+/**
+ * 공정 스케줄러가 요청을 받지 않거나 기한 안에 처리하지 못해 버린 경우입니다.
+ */
+@Getter
+public class RequestRejectedException extends RuntimeException {
+
+    public enum Reason {
+        /** 클라이언트 하나의 대기 요청 수 초과 (429) */
+        CLIENT_QUEUE_FULL,
+        /** 전체 대기열 초과 (503) */
+        QUEUE_FULL,
+        /** 대기 기한 안에 차례가 오지 않음 (503) */
+        DEADLINE_EXPIRED
+    }
+
+    private final Reason reason;
+
+    public RequestRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.resumeai.service.session;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 세션의 마지막 생성 결과입니다. 초안 문단과 개선 문단은 같은 순서로 1:1 대응합니다.
+ */
+record DraftSession(String question, String company, String position, int wordLimit, String aiModel,
+                    List<String> draftParagraphs, List<String> improvedParagraphs) {
+
+    static DraftSession of(ResumeGenerationRequest request, List<String> draftParagraphs,
+                           List<String> improvedParagraphs) {
+        return new DraftSession(request.getQuestion(), request.getCompany(), request.getPosition(),
+            request.getWordLimit(), request.getAiModel(), List.copyOf(draftParagraphs), List.copyOf(improvedParagraphs));
+    }
+
+    /**
+     * 초안 외의 조건이 같아야 이전 결과를 재사용할 수 있습니다.
+     */
+    boolean isCompatibleWith(ResumeGenerationRequest request) {
+        return Objects.equals(question, request.getQuestion())
+            && Objects.equals(company, request.getCompany())
+            && Objects.equals(position, request.getPosition())
+            && wordLimit == request.getWordLimit()
+            && aiModel.equalsIgnoreCase(request.getAiModel());
+    }
+}
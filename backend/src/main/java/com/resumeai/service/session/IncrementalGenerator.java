@@ -0,0 +1,224 @@
+package com.resumeai.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumeai.config.SessionProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.LengthFitter;
+import com.resumeai.service.OpenAIService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 같은 세션에서 초안을 고쳐 다시 요청하면, 바뀐 문단만 앞뒤 문맥과 함께 다시 생성하고
+ * 나머지는 직전 결과의 문단을 그대로 이어 붙입니다.
+ *
+ * <p>직전 결과의 문단 수가 초안과 같을 때만 문단을 1:1로 대응시킬 수 있으므로, 다르면 다음 요청은 전체 생성으로 처리합니다.
+ * 바뀐 분량이 많거나, 이어 붙인 결과가 글자수 범위를 벗어나 로컬 보정으로도 맞출 수 없으면 empty를 반환해
+ * 호출 측이 전체 생성으로 넘어가게 합니다.
+ */
+@Slf4j
+@Component
+public class IncrementalGenerator {
+
+    // 문단 하나에 배정할 수 있는 최소 글자수. 이보다 작으면 부분 재생성이 의미 없음
+    private static final int MIN_PARAGRAPH_LENGTH = 50;
+
+    private final SessionProperties properties;
+    private final OpenAIService openAIService;
+    private final LengthFitter lengthFitter;
+    private final ExecutorService aiCallExecutor;
+    private final Cache<String, DraftSession> sessions;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary regeneratedParagraphs;
+
+    public IncrementalGenerator(SessionProperties properties, OpenAIService openAIService, LengthFitter lengthFitter,
+                                ExecutorService aiCallExecutor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.openAIService = openAIService;
+        this.lengthFitter = lengthFitter;
+        this.aiCallExecutor = aiCallExecutor;
+        this.meterRegistry = meterRegistry;
+        this.sessions = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterAccess(properties.getTtl())
+            .build();
+        this.regeneratedParagraphs = DistributionSummary.builder("resume.session.paragraphs.regenerated")
+            .description("부분 재생성에서 다시 생성한 문단 수")
+            .register(meterRegistry);
+    }
+
+    public Optional<ResumeGenerationResponse> tryGenerate(ResumeGenerationRequest request) {
+        if (!properties.isEnabled() || request.getSessionId() == null) {
+            return Optional.empty();
+        }
+        DraftSession session = sessions.getIfPresent(request.getSessionId());
+        if (session == null || !session.isCompatibleWith(request)) {
+            return Optional.empty();
+        }
+
+        List<String> paragraphs = Paragraphs.split(request.getDraft());
+        int[] matched = Paragraphs.match(session.draftParagraphs(), paragraphs);
+
+        List<Integer> changed = new ArrayList<>();
+        int totalLength = 0;
+        int changedLength = 0;
+        for (int i = 0; i < paragraphs.size(); i++) {
+            totalLength += paragraphs.get(i).length();
+            if (matched[i] < 0) {
+                changed.add(i);
+                changedLength += paragraphs.get(i).length();
+            }
+        }
+
+        if (changedLength > totalLength * properties.getMaxChangedRatio()) {
+            log.info("세션 {} - 변경 분량이 많아 전체 재생성 ({}자 중 {}자 변경)",
+                request.getSessionId(), totalLength, changedLength);
+            record("full");
+            return Optional.empty();
+        }
+
+        String[] result = new String[paragraphs.size()];
+        int fixedLength = Paragraphs.SEPARATOR.length() * Math.max(0, paragraphs.size() - 1);
+        for (int i = 0; i < paragraphs.size(); i++) {
+            if (matched[i] >= 0) {
+                result[i] = session.improvedParagraphs().get(matched[i]);
+                fixedLength += result[i].length();
+            }
+        }
+
+        int minLength = (int) (request.getWordLimit() * 0.9);
+        int maxLength = request.getWordLimit();
+
+        if (!changed.isEmpty()) {
+            int remainingMax = maxLength - fixedLength;
+            int remainingMin = Math.max(0, minLength - fixedLength);
+            if (remainingMax < changed.size() * MIN_PARAGRAPH_LENGTH) {
+                log.info("세션 {} - 바뀐 문단에 배정할 글자수가 부족해 전체 재생성 (남은 {}자)",
+                    request.getSessionId(), remainingMax);
+                record("full");
+                return Optional.empty();
+            }
+
+            log.info("세션 {} - 문단 {}개 중 {}개만 재생성", request.getSessionId(), paragraphs.size(), changed.size());
+            if (!regenerate(request, paragraphs, changed, changedLength, result, remainingMin, remainingMax)) {
+                record("failed");
+                return Optional.empty();
+            }
+            regeneratedParagraphs.record(changed.size());
+        }
+
+        String stitched = Paragraphs.join(Arrays.asList(result));
+        if (stitched.length() > maxLength) {
+            Optional<String> fitted = lengthFitter.fit(stitched, minLength, maxLength);
+            if (fitted.isEmpty()) {
+                log.info("세션 {} - 이어 붙인 결과가 {}자로 제한 초과, 전체 재생성", request.getSessionId(), stitched.length());
+                record("failed");
+                return Optional.empty();
+            }
+            stitched = fitted.get();
+        } else if (stitched.length() < minLength) {
+            log.info("세션 {} - 이어 붙인 결과가 {}자로 목표 미달, 전체 재생성", request.getSessionId(), stitched.length());
+            record("failed");
+            return Optional.empty();
+        }
+
+        record(changed.isEmpty() ? "unchanged" : "partial");
+        List<String> comments = new ArrayList<>();
+        comments.add(changed.isEmpty()
+            ? "✏️ 초안에 바뀐 문단이 없어 직전 결과를 그대로 사용했습니다."
+            : String.format("✏️ 바뀐 문단 %d개만 다시 작성하고 나머지 %d개는 직전 결과를 유지했습니다.",
+                changed.size(), paragraphs.size() - changed.size()));
+        comments.add(String.format("✅ 목표 범위 달성 - 최종 글자수: %d자 (목표: %d자~%d자)",
+            stitched.length(), minLength, maxLength));
+
+        ResumeGenerationResponse response = ResumeGenerationResponse.success(stitched, comments);
+        remember(request, response);
+        return Optional.of(response);
+    }
+
+    /**
+     * 생성 결과를 세션에 저장합니다. 결과 문단 수가 초안과 다르면 대응시킬 수 없으므로 세션을 비웁니다.
+     */
+    public void remember(ResumeGenerationRequest request, ResumeGenerationResponse response) {
+        if (!properties.isEnabled() || request.getSessionId() == null || response.getError() != null) {
+            return;
+        }
+        List<String> draftParagraphs = Paragraphs.split(request.getDraft());
+        List<String> improvedParagraphs = Paragraphs.split(response.getImprovedResume());
+
+        if (draftParagraphs.size() != improvedParagraphs.size()) {
+            log.debug("세션 {} - 결과 문단 수({})가 초안({})과 달라 다음 요청은 전체 생성",
+                request.getSessionId(), improvedParagraphs.size(), draftParagraphs.size());
+            sessions.invalidate(request.getSessionId());
+            return;
+        }
+        sessions.put(request.getSessionId(), DraftSession.of(request, draftParagraphs, improvedParagraphs));
+    }
+
+    /**
+     * 바뀐 문단을 병렬로 다시 생성해 result의 빈 자리를 채웁니다. 남은 글자수는 초안 길이 비율로 나눕니다.
+     */
+    private boolean regenerate(ResumeGenerationRequest request, List<String> paragraphs, List<Integer> changed,
+                               int changedLength, String[] result, int remainingMin, int remainingMax) {
+        List<Future<String>> futures = new ArrayList<>(changed.size());
+        for (int index : changed) {
+            String paragraph = paragraphs.get(index);
+            double weight = (double) paragraph.length() / changedLength;
+            int targetMax = (int) (remainingMax * weight);
+            int targetMin = Math.min((int) Math.ceil(remainingMin * weight), targetMax);
+
+            // 앞뒤 문단은 이미 확정된 결과가 있으면 그것을, 없으면 초안을 문맥으로 사용
+            String before = index > 0 ? contextAt(result, paragraphs, index - 1) : null;
+            String after = index < paragraphs.size() - 1 ? contextAt(result, paragraphs, index + 1) : null;
+
+            futures.add(aiCallExecutor.submit(() ->
+                openAIService.rewriteParagraph(request, paragraph, before, after, targetMin, targetMax)));
+        }
+
+        try {
+            for (int i = 0; i < changed.size(); i++) {
+                String rewritten = futures.get(i).get();
+                if (rewritten.isEmpty() || Paragraphs.split(rewritten).size() != 1) {
+                    log.warn("세션 {} - 문단 재생성 결과가 한 문단이 아님", request.getSessionId());
+                    return false;
+                }
+                result[changed.get(i)] = rewritten;
+            }
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.error("세션 {} - 문단 재생성 중 오류 발생: {}", request.getSessionId(), e.getCause().getMessage());
+            return false;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static String contextAt(String[] result, List<String> paragraphs, int index) {
+        return result[index] != null ? result[index] : paragraphs.get(index);
+    }
+
+    private void record(String outcome) {
+        Counter.builder("resume.session.requests")
+            .description("세션 요청 처리 방식 (unchanged/partial/full/failed)")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,70 @@
+package com.resumeai.service.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 빈 줄로 구분된 문단 단위 분할과 비교를 담당합니다.
+ */
+final class Paragraphs {
+
+    static final String SEPARATOR = "\n\n";
+
+    private static final Pattern BLANK_LINE = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private Paragraphs() {
+    }
+
+    static List<String> split(String text) {
+        List<String> paragraphs = new ArrayList<>();
+        for (String paragraph : BLANK_LINE.split(text.strip())) {
+            String stripped = paragraph.strip();
+            if (!stripped.isEmpty()) {
+                paragraphs.add(stripped);
+            }
+        }
+        return paragraphs;
+    }
+
+    static String join(List<String> paragraphs) {
+        return String.join(SEPARATOR, paragraphs);
+    }
+
+    /**
+     * 현재 문단마다 이전 초안에서 같은 문단의 위치를 찾습니다 (LCS). 없으면 -1입니다.
+     * 공백 차이는 같은 문단으로 봅니다.
+     */
+    static int[] match(List<String> previous, List<String> current) {
+        List<String> before = previous.stream().map(Paragraphs::normalize).toList();
+        List<String> after = current.stream().map(Paragraphs::normalize).toList();
+
+        int[][] lcs = new int[before.size() + 1][after.size() + 1];
+        for (int i = before.size() - 1; i >= 0; i--) {
+            for (int j = after.size() - 1; j >= 0; j--) {
+                lcs[i][j] = before.get(i).equals(after.get(j))
+                    ? lcs[i + 1][j + 1] + 1
+                    : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+
+        int[] matched = new int[after.size()];
+        int i = 0;
+        int j = 0;
+        while (j < after.size()) {
+            if (i < before.size() && before.get(i).equals(after.get(j))) {
+                matched[j++] = i++;
+            } else if (i < before.size() && lcs[i + 1][j] >= lcs[i][j + 1]) {
+                i++;
+            } else {
+                matched[j++] = -1;
+            }
+        }
+        return matched;
+    }
+
+    private static String normalize(String paragraph) {
+        return WHITESPACE.matcher(paragraph).replaceAll(" ");
+    }
+}
@@ -0,0 +1,48 @@
+package com.resumeai.service.stats;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관측한 비율(실제 글자수 / 요청 글자수, 글자당 토큰 수 등)의 이동 평균과 분산입니다.
+ * 평균과 분산을 함께 바꿔야 하므로 불변 스냅샷을 CAS로 교체합니다 (요청 경로에서 잠금 없음).
+ */
+public final class RatioStats {
+
+    private final double weight;
+    private final AtomicReference<Snapshot> snapshot;
+
+    public RatioStats(double weight) {
+        this(weight, new Snapshot(1.0, 0.0, 0));
+    }
+
+    public RatioStats(double weight, Snapshot initial) {
+        this.weight = weight;
+        this.snapshot = new AtomicReference<>(initial);
+    }
+
+    public void record(double ratio) {
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            long samples = current.samples() + 1;
+            // 표본이 적을 때는 단순 평균, 이후에는 지수 이동 평균 (최근 모델 동작을 따라감)
+            double w = Math.max(weight, 1.0 / samples);
+            double delta = ratio - current.mean();
+            double mean = current.mean() + w * delta;
+            double variance = (1 - w) * (current.variance() + w * delta * delta);
+            next = new Snapshot(mean, variance, samples);
+        } while (!snapshot.compareAndSet(current, next));
+    }
+
+    public Snapshot snapshot() {
+        return snapshot.get();
+    }
+
+    public record Snapshot(double mean, double variance, long samples) {
+
+        public double stdDev() {
+            return Math.sqrt(variance);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.resumeai.service.token;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.resumeai.config.TokenBudgetProperties;
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.service.prompt.PromptContext;
+import com.resumeai.service.prompt.PromptTemplates;
+import com.resumeai.service.prompt.TemplateName;
+import com.resumeai.service.stats.RatioStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 BPE 토크나이저(cl100k_base, GPT-4/GPT-3.5 공용)로 요청별 토큰 예산을 계산합니다.
+ *
+ * <p>응답 최대 토큰은 목표 글자수 × 글자당 토큰 수 × (1 + 여유)로 잡습니다. 글자당 토큰 수는
+ * 모델별로 관측한 응답 비율이 충분히 쌓이면 그 값을, 그 전에는 같은 문체인 초안의 비율을 사용합니다.
+ * 프롬프트 토큰도 전송 전에 세어 컨텍스트 윈도를 넘는 요청은 호출하기 전에 거절합니다.
+ *
+ * <p>예산이 모자라 응답이 잘리면(finish_reason=length) 상한 예산으로 한 번 다시 호출할 수 있도록
+ * {@link #retryBudget(int)}를 제공합니다.
+ */
+@Slf4j
+@Component
+public class TokenBudget {
+
+    // 초안이 이보다 짧으면 비율이 불안정하므로 기본값 사용
+    private static final int MIN_SAMPLE_LENGTH = 100;
+    // 비율 계산에는 앞부분만 사용 (한글 5000자 전체 토큰화는 약 1ms)
+    private static final int MAX_SAMPLE_LENGTH = 1000;
+
+    private final TokenBudgetProperties properties;
+    private final PromptTemplates promptTemplates;
+    private final MeterRegistry meterRegistry;
+    private final Encoding encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.CL100K_BASE);
+    private final Map<String, RatioStats> ratios = new ConcurrentHashMap<>();
+    private final Counter rejectedPrompts;
+    private final Counter truncatedOutputs;
+
+    private volatile SystemPromptTokens systemPromptTokens = new SystemPromptTokens(null, 0);
+
+    public TokenBudget(TokenBudgetProperties properties, PromptTemplates promptTemplates, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.promptTemplates = promptTemplates;
+        this.meterRegistry = meterRegistry;
+        this.rejectedPrompts = Counter.builder("resume.tokens.prompt.rejected")
+            .description("컨텍스트 윈도를 넘어 전송 전에 거절한 요청 수")
+            .register(meterRegistry);
+        this.truncatedOutputs = Counter.builder("resume.tokens.output.truncated")
+            .description("응답 토큰 예산이 모자라 잘린 응답 수")
+            .register(meterRegistry);
+    }
+
+    public int countTokens(String text) {
+        return encoding.countTokens(text);
+    }
+
+    /**
+     * 모든 요청이 공유하는 시스템 프롬프트(고정 프리픽스)의 토큰 수. 템플릿이 다시 로드될 때만 새로 셉니다.
+     */
+    public int systemPromptTokens() {
+        String systemPrompt = promptTemplates.systemPrompt();
+        SystemPromptTokens cached = systemPromptTokens;
+        // 템플릿을 다시 로드하기 전까지 같은 인스턴스이므로 참조 비교로 충분
+        if (cached.text() != systemPrompt) {
+            cached = new SystemPromptTokens(systemPrompt, countTokens(systemPrompt));
+            systemPromptTokens = cached;
+        }
+        return cached.tokens();
+    }
+
+    /**
+     * 목표 최대 글자수에 맞춘 응답 최대 토큰 수를 계산합니다.
+     */
+    public int maxOutputTokens(ResumeGenerationRequest request, int targetMaxLength) {
+        if (!properties.isEnabled()) {
+            return properties.getMaxOutputTokens();
+        }
+        double tokensPerChar = tokensPerChar(request);
+        int tokens = (int) Math.ceil(targetMaxLength * tokensPerChar * (1 + properties.getHeadroom()));
+        return Math.max(properties.getMinOutputTokens(), Math.min(properties.getMaxOutputTokens(), tokens));
+    }
+
+    /**
+     * 응답이 토큰 예산에 걸려 잘렸을 때 다시 호출할 예산을 반환합니다.
+     * 이미 상한 예산으로 호출했으면 더 늘릴 수 없으므로 비어 있습니다.
+     */
+    public OptionalInt retryBudget(int usedMaxTokens) {
+        truncatedOutputs.increment();
+        if (!properties.isEnabled() || usedMaxTokens >= properties.getMaxOutputTokens()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(properties.getMaxOutputTokens());
+    }
+
+    /**
+     * 받은 응답의 글자당 토큰 수를 기록해 다음 요청의 예산 계산에 반영합니다.
+     */
+    public void recordOutput(ResumeGenerationRequest request, String output) {
+        if (!properties.isEnabled() || output.length() < MIN_SAMPLE_LENGTH) {
+            return;
+        }
+        ratio(modelKey(request)).record(sampledTokensPerChar(output));
+    }
+
+    /**
+     * 첫 시도 프롬프트와 응답 예산이 모델 컨텍스트 윈도 안에 들어오는지 확인합니다.
+     *
+     * @throws IllegalArgumentException 윈도를 넘는 경우
+     */
+    public void checkPromptFits(ResumeGenerationRequest request) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int wordLimit = request.getWordLimit();
+        String prompt = promptTemplates.renderWithSystem(TemplateName.INITIAL,
+            new PromptContext(request, (int) (wordLimit * 0.9), wordLimit));
+
+        int promptTokens = countTokens(prompt);
+        int outputTokens = maxOutputTokens(request, wordLimit);
+        int contextWindow = contextWindow(request);
+
+        if (promptTokens + outputTokens > contextWindow) {
+            rejectedPrompts.increment();
+            log.warn("프롬프트 토큰 초과 - 모델: {}, 프롬프트 {}토큰 + 응답 {}토큰 > {}토큰",
+                request.getAiModel(), promptTokens, outputTokens, contextWindow);
+            throw new IllegalArgumentException(String.format(
+                "초안이 너무 깁니다. %s 모델로 처리할 수 있는 분량(%d토큰)을 넘습니다 (프롬프트 %d토큰, 응답 예상 %d토큰).",
+                request.getAiModel(), contextWindow, promptTokens, outputTokens));
+        }
+    }
+
+    private double tokensPerChar(ResumeGenerationRequest request) {
+        RatioStats ratio = ratios.get(modelKey(request));
+        if (ratio != null) {
+            RatioStats.Snapshot snapshot = ratio.snapshot();
+            if (snapshot.samples() >= properties.getCalibrationMinSamples()) {
+                return snapshot.mean();
+            }
+        }
+
+        String draft = request.getDraft();
+        if (draft != null && draft.length() >= MIN_SAMPLE_LENGTH) {
+            return sampledTokensPerChar(draft);
+        }
+        return properties.getDefaultTokensPerChar();
+    }
+
+    private double sampledTokensPerChar(String text) {
+        String sample = text.length() > MAX_SAMPLE_LENGTH ? text.substring(0, MAX_SAMPLE_LENGTH) : text;
+        return (double) countTokens(sample) / sample.length();
+    }
+
+    private int contextWindow(ResumeGenerationRequest request) {
+        return properties.getContextWindows().getOrDefault(modelKey(request), properties.getDefaultContextWindow());
+    }
+
+    private RatioStats ratio(String model) {
+        return ratios.computeIfAbsent(model, key -> {
+            RatioStats ratio = new RatioStats(properties.getCalibrationWeight(),
+                new RatioStats.Snapshot(properties.getDefaultTokensPerChar(), 0.0, 0));
+            Gauge.builder("resume.tokens.per.char", ratio, r -> r.snapshot().mean())
+                .description("관측한 응답의 글자당 토큰 수 (지수 이동 평균)")
+                .tag("model", key)
+                .register(meterRegistry);
+            return ratio;
+        });
+    }
+
+    private static String modelKey(ResumeGenerationRequest request) {
+        return request.getAiModel() == null ? "gpt-4" : request.getAiModel().toLowerCase();
+    }
+
+    private record SystemPromptTokens(String text, int tokens) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.resumeai.service.transport;
+
+import com.resumeai.config.OutboundHttpProperties;
+import com.resumeai.dto.AIModelType;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * AI 호출마다 모델과 글자수 제한에 맞춘 응답 대기 예산을 HTTP 클라이언트에 전달합니다.
+ *
+ * <p>ChatClient는 요청별 타임아웃을 받지 않으므로, 호출하는 스레드에 예산을 걸어 두고
+ * 요청 팩토리가 HTTP 요청을 만들 때 꺼내 씁니다. 동기 호출은 호출 스레드에서 HTTP 요청까지 진행되므로 안전합니다.
+ *
+ * <p>같은 이유로 예산 안에서 만들어진 HTTP 요청을 스레드별로 기억해 둡니다. 블로킹 소켓 읽기는 인터럽트로 깨어나지 않으므로,
+ * 작업을 취소할 때 {@link #abort(Thread)}로 그 스레드의 요청을 직접 중단합니다.
+ */
+@Component
+public class CallTimeouts {
+
+    private static final ThreadLocal<Duration> CURRENT = new ThreadLocal<>();
+
+    private final OutboundHttpProperties properties;
+    private final Map<Thread, Cancellable> inFlight = new ConcurrentHashMap<>();
+
+    public CallTimeouts(OutboundHttpProperties properties) {
+        this.properties = properties;
+    }
+
+    public Duration budgetFor(AIModelType modelType, int wordLimit) {
+        OutboundHttpProperties.Budget budget = properties.getTimeouts().budgetFor(modelType.getModelName());
+        Duration total = budget.getBase().plus(budget.getPerThousandChars().multipliedBy(wordLimit).dividedBy(1000));
+        return total.compareTo(budget.getMax()) > 0 ? budget.getMax() : total;
+    }
+
+    public <T> T withBudget(AIModelType modelType, int wordLimit, Supplier<T> call) {
+        Duration previous = CURRENT.get();
+        CURRENT.set(budgetFor(modelType, wordLimit));
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+                inFlight.remove(Thread.currentThread());
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에 걸린 예산으로 요청 설정을 만듭니다. 예산이 없으면 null (클라이언트 기본 설정 사용).
+     */
+    public HttpContext httpContext() {
+        Duration budget = CURRENT.get();
+        if (budget == null) {
+            return null;
+        }
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+            .setResponseTimeout(Timeout.of(budget))
+            .build());
+        return context;
+    }
+
+    /**
+     * 요청 팩토리가 HTTP 요청을 만들 때 호출합니다. 예산 안의 호출만 기억합니다.
+     */
+    public void register(ClassicHttpRequest request) {
+        if (CURRENT.get() != null && request instanceof Cancellable cancellable) {
+            inFlight.put(Thread.currentThread(), cancellable);
+        }
+    }
+
+    /**
+     * 스레드가 진행 중인 HTTP 요청을 중단합니다. 중단된 호출은 InterruptedIOException 계열로 실패합니다.
+     *
+     * @return 중단할 요청이 있었는지 여부
+     */
+    public boolean abort(Thread thread) {
+        Cancellable request = inFlight.remove(thread);
+        return request != null && request.cancel();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.resumeai.service.history;
+
+import com.resumeai.dto.ResumeGenerationRequest;
+import com.resumeai.dto.ResumeGenerationResponse;
+import com.resumeai.service.prompt.TemplateName;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 생성 이력 테스트에서 쓰는 레코드와 세그먼트 파일을 만듭니다.
+ */
+final class HistoryFixtures {
+
+    private HistoryFixtures() {
+    }
+
+    static GenerationRecord record(long timestampMillis, String question) {
+        ResumeGenerationRequest request = new ResumeGenerationRequest();
+        request.setQuestion(question);
+        request.setDraft("저는 이 회사에 지원하게 된 이유는 성장하고 싶어서입니다.");
+        request.setWordLimit(500);
+        request.setCompany("테스트전자");
+        request.setPosition("백엔드 개발자");
+        request.setSessionId("session-1");
+
+        List<GenerationAttempt> attempts = List.of(
+            new GenerationAttempt(1, TemplateName.INITIAL, 0.7f, 1.0, 1200, 380,
+                GenerationAttempt.Outcome.UNDER, null),
+            new GenerationAttempt(2, TemplateName.EXPAND, 0.5f, 1.25, 900, 470,
+                GenerationAttempt.Outcome.WITHIN, null));
+        ResumeGenerationResponse response = ResumeGenerationResponse.success("개선된 자소서", List.of("코멘트 1", "코멘트 2"));
+        return new GenerationRecord(timestampMillis, 2100, request, attempts, response);
+    }
+
+    /**
+     * 인코더가 버퍼를 재사용하므로 프레임을 복사해 반환합니다.
+     */
+    static byte[] frame(RecordCodec codec, GenerationRecord record) {
+        ByteBuffer frame = codec.encode(record);
+        byte[] bytes = new byte[frame.remaining()];
+        frame.get(bytes);
+        return bytes;
+    }
+
+    static Path writeSegment(Path directory, long id, byte[]... frames) throws IOException {
+        int size = Arrays.stream(frames).mapToInt(frame -> frame.length).sum();
+        ByteBuffer content = ByteBuffer.allocate(size);
+        for (byte[] frame : frames) {
+            content.put(frame);
+        }
+        return Files.write(directory.resolve(LogSegment.fileName(id)), content.array());
+    }
+
+    static List<GenerationRecord> readAll(Path segment) throws IOException {
+        ByteBuffer in = LogSegment.mapReadOnly(segment);
+        List<GenerationRecord> records = new ArrayList<>();
+        ByteBuffer payload;
+        while ((payload = RecordCodec.readFrame(in)) != null) {
+            records.add(RecordCodec.decode(payload));
+        }
+        return records;
+    }
+}
\ No newline at end of file
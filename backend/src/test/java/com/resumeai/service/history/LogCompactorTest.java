@@ -0,0 +1,67 @@
+package com.resumeai.service.history;
+
+import com.resumeai.config.GenerationLogProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.resumeai.service.history.HistoryFixtures.frame;
+import static com.resumeai.service.history.HistoryFixtures.readAll;
+import static com.resumeai.service.history.HistoryFixtures.record;
+import static com.resumeai.service.history.HistoryFixtures.writeSegment;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogCompactorTest {
+
+    @TempDir
+    Path directory;
+
+    private final RecordCodec codec = new RecordCodec();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LogCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        compactor = new LogCompactor(directory, new GenerationLogProperties(), meterRegistry);
+    }
+
+    @Test
+    void mergesSmallSealedSegments() throws Exception {
+        long now = System.currentTimeMillis();
+        writeSegment(directory, 1, frame(codec, record(now, "질문 1")));
+        writeSegment(directory, 2, frame(codec, record(now + 1, "질문 2")), frame(codec, record(now + 2, "질문 3")));
+        writeSegment(directory, 3, frame(codec, record(now + 3, "질문 4")));
+
+        compactor.compact(3);
+
+        assertThat(LogSegment.list(directory)).containsExactly(
+            directory.resolve(LogSegment.fileName(1)), directory.resolve(LogSegment.fileName(3)));
+        assertThat(readAll(directory.resolve(LogSegment.fileName(1)))).containsExactly(
+            record(now, "질문 1"), record(now + 1, "질문 2"), record(now + 2, "질문 3"));
+        assertThat(meterRegistry.counter("resume.history.compacted", "action", "merged").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsOriginalsWhenFrameIsCorrupt() throws Exception {
+        long now = System.currentTimeMillis();
+        byte[] corrupt = frame(codec, record(now + 1, "질문 2"));
+        corrupt[corrupt.length - 1] ^= 0x01;
+        Path first = writeSegment(directory, 1, frame(codec, record(now, "질문 1")));
+        Path second = writeSegment(directory, 2, corrupt, frame(codec, record(now + 2, "질문 3")));
+        byte[] firstBefore = Files.readAllBytes(first);
+        byte[] secondBefore = Files.readAllBytes(second);
+
+        compactor.compact(3);
+
+        assertThat(LogSegment.list(directory)).containsExactly(first, second);
+        assertThat(Files.readAllBytes(first)).isEqualTo(firstBefore);
+        assertThat(Files.readAllBytes(second)).isEqualTo(secondBefore);
+        assertThat(directory.resolve(LogSegment.tempFileName(1))).doesNotExist();
+        assertThat(meterRegistry.counter("resume.history.corrupt").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("resume.history.compacted", "action", "merged").count()).isZero();
+    }
+}
\ No newline at end of file
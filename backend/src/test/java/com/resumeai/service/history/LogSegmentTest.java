@@ -0,0 +1,63 @@
+package com.resumeai.service.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.resumeai.service.history.HistoryFixtures.frame;
+import static com.resumeai.service.history.HistoryFixtures.readAll;
+import static com.resumeai.service.history.HistoryFixtures.record;
+import static com.resumeai.service.history.HistoryFixtures.writeSegment;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    private final RecordCodec codec = new RecordCodec();
+
+    @Test
+    void closeTruncatesToWrittenSize() throws Exception {
+        byte[] first = frame(codec, record(1L, "질문 1"));
+        byte[] second = frame(codec, record(2L, "질문 2"));
+
+        try (LogSegment segment = LogSegment.create(directory, 1, 4096)) {
+            assertThat(segment.append(ByteBuffer.wrap(first))).isTrue();
+            assertThat(segment.append(ByteBuffer.wrap(second))).isTrue();
+        }
+
+        Path path = directory.resolve(LogSegment.fileName(1));
+        assertThat(Files.size(path)).isEqualTo(first.length + second.length);
+        assertThat(readAll(path)).containsExactly(record(1L, "질문 1"), record(2L, "질문 2"));
+    }
+
+    @Test
+    void recoverDropsZeroTailOfUnsealedSegment() throws Exception {
+        byte[] first = frame(codec, record(1L, "질문 1"));
+        Path path = writeSegment(directory, 1, first, new byte[1024]);
+
+        LogSegment.recover(path);
+
+        assertThat(Files.size(path)).isEqualTo(first.length);
+        assertThat(readAll(path)).containsExactly(record(1L, "질문 1"));
+    }
+
+    @Test
+    void recoverTruncatesAfterLastIntactFrame() throws Exception {
+        byte[] first = frame(codec, record(1L, "질문 1"));
+        byte[] second = frame(codec, record(2L, "질문 2"));
+        // 쓰다 만 프레임: 길이 필드는 있지만 페이로드가 잘림
+        byte[] torn = Arrays.copyOf(frame(codec, record(3L, "질문 3")), 20);
+        Path path = writeSegment(directory, 1, first, second, torn);
+
+        LogSegment.recover(path);
+
+        assertThat(Files.size(path)).isEqualTo(first.length + second.length);
+        assertThat(readAll(path)).containsExactly(record(1L, "질문 1"), record(2L, "질문 2"));
+    }
+}
\ No newline at end of file
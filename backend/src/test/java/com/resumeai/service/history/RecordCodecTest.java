@@ -0,0 +1,48 @@
+package com.resumeai.service.history;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static com.resumeai.service.history.HistoryFixtures.frame;
+import static com.resumeai.service.history.HistoryFixtures.record;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordCodecTest {
+
+    private final RecordCodec codec = new RecordCodec();
+
+    @Test
+    void decodesWhatWasEncoded() {
+        GenerationRecord record = record(1_700_000_000_000L, "지원동기를 기술해 주세요.");
+
+        ByteBuffer segment = ByteBuffer.wrap(frame(codec, record));
+        ByteBuffer payload = RecordCodec.readFrame(segment);
+
+        assertThat(payload).isNotNull();
+        assertThat(RecordCodec.timestampOf(payload)).isEqualTo(record.timestampMillis());
+        assertThat(RecordCodec.decode(payload)).isEqualTo(record);
+        assertThat(segment.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void stopsAtEndMarker() {
+        byte[] frame = frame(codec, record(1L, "질문"));
+        ByteBuffer segment = ByteBuffer.allocate(frame.length + 64).put(frame).clear();
+
+        assertThat(RecordCodec.readFrame(segment)).isNotNull();
+        assertThat(RecordCodec.readFrame(segment)).isNull();
+        assertThat(segment.position()).isEqualTo(frame.length);
+    }
+
+    @Test
+    void rejectsFrameWithBadChecksum() {
+        byte[] frame = frame(codec, record(1L, "질문"));
+        frame[frame.length - 1] ^= 0x01;
+
+        ByteBuffer segment = ByteBuffer.wrap(frame);
+
+        assertThat(RecordCodec.readFrame(segment)).isNull();
+        assertThat(segment.position()).isZero();
+    }
+}
\ No newline at end of file
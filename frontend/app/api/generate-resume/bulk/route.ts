@@ -0,0 +1,40 @@
+import type { NextRequest } from "next/server"
+
+export async function POST(request: NextRequest) {
+  const body = await request.json()
+  const { company, position, aiModel, questions } = body
+
+  const backendUrl = process.env.BACKEND_API_URL || process.env.NEXT_PUBLIC_BACKEND_URL || "http://localhost:8080"
+
+  const backendResponse = await fetch(`${backendUrl}/api/generate-resume/bulk`, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+      Accept: "text/event-stream",
+    },
+    body: JSON.stringify({
+      company,
+      position,
+      aiModel: aiModel || "gpt-4",
+      includeComments: true,
+      questions,
+    }),
+  })
+
+  if (!backendResponse.ok || !backendResponse.body) {
+    console.error("Backend bulk stream error:", backendResponse.status)
+    return new Response(`event: error\ndata: 자소서 생성 중 오류가 발생했습니다.\n\n`, {
+      status: 500,
+      headers: { "Content-Type": "text/event-stream" },
+    })
+  }
+
+  // 문항별 결과 이벤트를 버퍼링 없이 그대로 전달
+  return new Response(backendResponse.body, {
+    headers: {
+      "Content-Type": "text/event-stream",
+      "Cache-Control": "no-cache, no-transform",
+      Connection: "keep-alive",
+    },
+  })
+}
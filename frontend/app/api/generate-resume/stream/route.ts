@@ -0,0 +1,42 @@
+import type { NextRequest } from "next/server"
+
+export async function POST(request: NextRequest) {
+  const body = await request.json()
+  const { question, draft, wordLimit, company, position, aiModel } = body
+
+  const backendUrl = process.env.BACKEND_API_URL || process.env.NEXT_PUBLIC_BACKEND_URL || "http://localhost:8080"
+
+  const backendResponse = await fetch(`${backendUrl}/api/generate-resume/stream`, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+      Accept: "text/event-stream",
+    },
+    body: JSON.stringify({
+      question,
+      draft,
+      wordLimit,
+      company,
+      position,
+      aiModel: aiModel || "gpt-4",
+      includeComments: true,
+    }),
+  })
+
+  if (!backendResponse.ok || !backendResponse.body) {
+    console.error("Backend stream error:", backendResponse.status)
+    return new Response(`event: error\ndata: 자소서 생성 중 오류가 발생했습니다.\n\n`, {
+      status: 500,
+      headers: { "Content-Type": "text/event-stream" },
+    })
+  }
+
+  // 백엔드 SSE 스트림을 버퍼링 없이 그대로 전달
+  return new Response(backendResponse.body, {
+    headers: {
+      "Content-Type": "text/event-stream",
+      "Cache-Control": "no-cache, no-transform",
+      Connection: "keep-alive",
+    },
+  })
+}
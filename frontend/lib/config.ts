@@ -10,6 +10,8 @@ export const API_CONFIG = {
   baseUrl: process.env.NEXT_PUBLIC_BACKEND_URL || "http://localhost:8080",
   endpoints: {
     generateResume: "/api/generate-resume",
+    generateResumeStream: "/api/generate-resume/stream",
+    generateResumeBulk: "/api/generate-resume/bulk",
     health: "/api/health",
   },
 } as const